@@ -0,0 +1,98 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The generator of the ontologies used to benchmark the descriptors.
+ * <p>
+ *     It creates an ontology with a given number of axioms (plus or minus few units) that contains:
+ *     a tree of classes where each class {@code Ck} is a sub class of {@code C(k-1)/2},
+ *     {@link #PROPERTIES} object (and data) properties {@code pk} (and {@code dk}), which are
+ *     sub properties of {@code p0} (and {@code d0}), and individuals {@code Ik} that are
+ *     classified in a class and are related to another individual and to an integer.
+ *     <br>
+ *     All the descriptors to benchmark are grounded on the entities with index {@code 1} (e.g.,
+ *     {@link #CLASS}), which are described by the same number of axioms in all the ontologies.
+ *     Therefore, the benchmarks measure how the descriptor performances changes with the size
+ *     of the ontology.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.BenchmarkOntology <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class BenchmarkOntology {
+
+    /** The IRI of the generated ontologies. */
+    public static final String IRI = "http://www.semanticweb.org/emaroLab/owloop/benchmark";
+    /** The number of object (and data) properties in the generated ontologies. */
+    public static final int PROPERTIES = 10;
+
+    /** The name of the class grounding the class descriptors. */
+    public static final String CLASS = "C1";
+    /** The name of the individual grounding the individual descriptors. */
+    public static final String INDIVIDUAL = "I1";
+    /** The name of the object property grounding the object property descriptors. */
+    public static final String OBJECT_PROPERTY = "p1";
+    /** The name of the data property grounding the data property descriptors. */
+    public static final String DATA_PROPERTY = "d1";
+
+    private BenchmarkOntology(){} // not instantiable
+
+    /**
+     * Create a new ontology with the given number of axioms, and synchronises its reasoner.
+     * @param name the name of the ontology to create.
+     * @param axioms the number of axioms (i.e.: the size) of the ontology.
+     * @return the reference to the new ontology.
+     */
+    public static OWLReferences create(String name, int axioms){
+        OWLReferences ontology = Axiom.Descriptor.OntologyReference.newOWLReferencesCreatedWithPellet(
+                name, "benchmark-" + name + ".owl", IRI, true);
+        OWLDataFactory factory = ontology.getOWLFactory();
+        Set<OWLAxiom> generated = new HashSet<>();
+
+        // properties hierarchy
+        for ( int k = 1; k < PROPERTIES; k++) {
+            generated.add( factory.getOWLSubObjectPropertyOfAxiom( objectProperty( ontology, k), objectProperty( ontology, 0)));
+            generated.add( factory.getOWLSubDataPropertyOfAxiom( dataProperty( ontology, k), dataProperty( ontology, 0)));
+        }
+
+        // classes tree, about a tenth of the axioms
+        int classes = Math.max( axioms / 10, 2);
+        for ( int k = 1; k < classes; k++)
+            generated.add( factory.getOWLSubClassOfAxiom( ontology.getOWLClass( "C" + k), ontology.getOWLClass( "C" + ( k - 1) / 2)));
+
+        // individuals, three axioms each
+        int individuals = Math.max( ( axioms - generated.size()) / 3, 2);
+        for ( int k = 0; k < individuals; k++) {
+            OWLNamedIndividual individual = ontology.getOWLIndividual( "I" + k);
+            generated.add( factory.getOWLClassAssertionAxiom( ontology.getOWLClass( "C" + k % classes), individual));
+            generated.add( factory.getOWLObjectPropertyAssertionAxiom( objectProperty( ontology, k % PROPERTIES),
+                    individual, ontology.getOWLIndividual( "I" + ( k + 1) % individuals)));
+            generated.add( factory.getOWLDataPropertyAssertionAxiom( dataProperty( ontology, k % PROPERTIES),
+                    individual, factory.getOWLLiteral( k)));
+        }
+
+        ontology.getOWLManager().addAxioms( ontology.getOWLOntology(), generated.stream());
+        ontology.synchronizeReasoner();
+        return ontology;
+    }
+
+    private static OWLObjectProperty objectProperty( OWLReferences ontology, int k){
+        return ontology.getOWLObjectProperty( "p" + k);
+    }
+
+    private static OWLDataProperty dataProperty( OWLReferences ontology, int k){
+        return ontology.getOWLDataProperty( "d" + k);
+    }
+}
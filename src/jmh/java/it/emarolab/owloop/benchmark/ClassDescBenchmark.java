@@ -0,0 +1,34 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+
+/**
+ * The JMH benchmark of {@link FullClassDesc}, grounded on the class {@link BenchmarkOntology#CLASS}.
+ * Its writing benchmarks alternatively add and remove a sub class.
+ * See {@link DescriptorBenchmark} for more details.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.ClassDescBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ClassDescBenchmark
+        extends DescriptorBenchmark<FullClassDesc> {
+
+    @Override // see super class for documentation
+    protected FullClassDesc newDescriptor(OWLReferences ontology) {
+        return new FullClassDesc( BenchmarkOntology.CLASS, ontology);
+    }
+
+    @Override // see super class for documentation
+    protected void change(FullClassDesc descriptor, boolean adding) {
+        if ( adding)
+            descriptor.addSubClass( "T");
+        else descriptor.removeSubClass( "T");
+    }
+}
@@ -0,0 +1,34 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor.FullDataPropertyDesc;
+
+/**
+ * The JMH benchmark of {@link FullDataPropertyDesc}, grounded on the data property {@link BenchmarkOntology#DATA_PROPERTY}.
+ * Its writing benchmarks alternatively add and remove a sub property.
+ * See {@link DescriptorBenchmark} for more details.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.DataPropertyDescBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class DataPropertyDescBenchmark
+        extends DescriptorBenchmark<FullDataPropertyDesc> {
+
+    @Override // see super class for documentation
+    protected FullDataPropertyDesc newDescriptor(OWLReferences ontology) {
+        return new FullDataPropertyDesc( BenchmarkOntology.DATA_PROPERTY, ontology);
+    }
+
+    @Override // see super class for documentation
+    protected void change(FullDataPropertyDesc descriptor, boolean adding) {
+        if ( adding)
+            descriptor.addSubDataProperty( "dT");
+        else descriptor.removeSubDataProperty( "dT");
+    }
+}
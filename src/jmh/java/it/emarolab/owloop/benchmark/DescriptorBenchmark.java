@@ -0,0 +1,117 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The base class of the JMH benchmarks of the descriptors.
+ * <p>
+ *     It measures {@link Axiom.Descriptor#readAxioms()}, {@link Axiom.Descriptor#writeAxioms()} and
+ *     {@link Axiom.Descriptor#writeAxiomsReasonReadAxioms()} on ontologies generated by
+ *     {@link BenchmarkOntology} with a number of axioms given by {@link #axioms}.
+ *     Both the throughput and the distribution of the time of each call (i.e., latency
+ *     percentiles) are measured, while the allocation rate is given by the {@code gc}
+ *     profiler (which is enabled by the {@code jmh} Gradle task).
+ *     <br>
+ *     The descriptor is read when the ontology is created, then each writing benchmark
+ *     alternatively adds and removes an axiom through {@link #change(Axiom.Descriptor, boolean)}.
+ *     Since the {@code writeAxioms} benchmark does not synchronise the reasoner, it measures
+ *     the query, the synchronisation and the changes of the descriptor only.
+ *     <br>
+ *     The reading cache of the ontology (see {@link OntologyContext#setReadCaching(boolean)}) is disabled,
+ *     so that each reading queries the ontology, except for the {@code readCachedAxioms} benchmark,
+ *     which measures the readings that are skipped since the ontology did not change.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.DescriptorBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ *
+ * @param <D> the type of descriptor to benchmark.
+ */
+@State( Scope.Thread)
+@BenchmarkMode( { Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit( TimeUnit.MILLISECONDS)
+@Warmup( iterations = 3, time = 2)
+@Measurement( iterations = 5, time = 2)
+@Fork( 1)
+public abstract class DescriptorBenchmark<D extends Axiom.Descriptor<OWLReferences,?>> {
+
+    /** The number of axioms in the ontology. */
+    @Param( { "1000", "10000", "100000", "1000000"})
+    public int axioms;
+
+    private OWLReferences ontology;
+    private OntologyContext context;
+    private D descriptor;
+    private boolean adding = true;
+
+    @Setup( Level.Trial)
+    public void setup(){
+        ontology = BenchmarkOntology.create( getClass().getSimpleName() + axioms, axioms);
+        context = OntologyContext.get( ontology);
+        context.setReadCaching( false);
+        descriptor = newDescriptor( ontology);
+        descriptor.readAxioms();
+    }
+
+    @TearDown( Level.Trial)
+    public void tearDown(){
+        OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontology);
+    }
+
+    /**
+     * Instantiate the descriptor to benchmark.
+     * It should be grounded on one of the entities defined in {@link BenchmarkOntology}.
+     * @param ontology the ontology in which the descriptor is grounded.
+     * @return the descriptor to benchmark.
+     */
+    protected abstract D newDescriptor(OWLReferences ontology);
+
+    /**
+     * Changes the internal state of the descriptor before to write it.
+     * @param descriptor the descriptor to change.
+     * @param adding {@code true} if an axiom should be added to the descriptor,
+     *               {@code false} if the axiom previously added should be removed.
+     */
+    protected abstract void change(D descriptor, boolean adding);
+
+    private void change(){
+        change( descriptor, adding);
+        adding = ! adding;
+    }
+
+    @Benchmark
+    public List<Axiom.MappingIntent> readAxioms(){
+        return descriptor.readAxioms();
+    }
+
+    @Benchmark
+    public List<Axiom.MappingIntent> readCachedAxioms(){
+        context.setReadCaching( true); // each benchmark has its own trial
+        return descriptor.readAxioms();
+    }
+
+    @Benchmark
+    public List<Axiom.MappingIntent> writeAxioms(){
+        change();
+        return descriptor.writeAxioms();
+    }
+
+    @Benchmark
+    public List<Axiom.MappingIntent> writeAxiomsReasonReadAxioms(){
+        change();
+        return descriptor.writeAxiomsReasonReadAxioms();
+    }
+}
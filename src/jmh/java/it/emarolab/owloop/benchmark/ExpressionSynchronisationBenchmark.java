@@ -0,0 +1,80 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataLinks;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DescriptorEntitySet;
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLLiteral;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JMH benchmark of the synchronisation of {@link Axiom.ExpressionEntitySet}s, which does not involve any ontology.
+ * <p>
+ *     It synchronises an internal set of {@link #size} data links with a queried set of the same size,
+ *     where a quarter of the expressions is shifted (i.e., they should be added and removed), and the rest is shared.
+ *     Its time should grow linearly with the {@link #size}.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.ExpressionSynchronisationBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+@State( Scope.Thread)
+@BenchmarkMode( Mode.AverageTime)
+@OutputTimeUnit( TimeUnit.MICROSECONDS)
+@Warmup( iterations = 3, time = 2)
+@Measurement( iterations = 5, time = 2)
+@Fork( 1)
+public class ExpressionSynchronisationBenchmark {
+
+    private static final String IRI_PATH = "http://www.semanticweb.org/emaroLab/owloop/synchronisation#";
+    private static final OWLDataFactory FACTORY = OWLManager.getOWLDataFactory();
+
+    /** The number of expressions in each set. */
+    @Param( { "10", "100", "1000", "10000", "100000"})
+    public int size;
+
+    private LinkSet internal;
+    private LinkSet queried;
+
+    // a set of data links that does not merge on adding, to only measure the synchronisation
+    private static class LinkSet
+            extends DescriptorEntitySet.EntitySetBase<DataLinks>
+            implements Axiom.ExpressionEntitySet<DataLinks,OWLLiteral> {
+    }
+
+    @Setup( Level.Trial)
+    public void setup(){
+        internal = linkSet( size, 0);
+        queried = linkSet( size, size / 4);
+    }
+
+    private static LinkSet linkSet(int size, int shift){
+        LinkSet set = new LinkSet();
+        for ( int i = shift; i < size + shift; i++) {
+            DataLinks link = new DataLinks( FACTORY.getOWLDataProperty( IRI.create( IRI_PATH + "p" + i)));
+            link.getValues().add( FACTORY.getOWLLiteral( i));
+            set.add( link);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public Axiom.EntitySet.SynchronisationIntent<DataLinks> synchroniseTo(){
+        return internal.synchroniseTo( queried);
+    }
+
+    @Benchmark
+    public Axiom.EntitySet.SynchronisationIntent<DataLinks> synchroniseFrom(){
+        return internal.synchroniseFrom( queried);
+    }
+}
@@ -0,0 +1,34 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+
+/**
+ * The JMH benchmark of {@link FullIndividualDesc}, grounded on the individual {@link BenchmarkOntology#INDIVIDUAL}.
+ * Its writing benchmarks alternatively add and remove an object property to another individual.
+ * See {@link DescriptorBenchmark} for more details.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.IndividualDescBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class IndividualDescBenchmark
+        extends DescriptorBenchmark<FullIndividualDesc> {
+
+    @Override // see super class for documentation
+    protected FullIndividualDesc newDescriptor(OWLReferences ontology) {
+        return new FullIndividualDesc( BenchmarkOntology.INDIVIDUAL, ontology);
+    }
+
+    @Override // see super class for documentation
+    protected void change(FullIndividualDesc descriptor, boolean adding) {
+        if ( adding)
+            descriptor.addObject( "p0", "I0");
+        else descriptor.removeObject( "p0", "I0");
+    }
+}
@@ -0,0 +1,34 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor.FullObjectPropertyDesc;
+
+/**
+ * The JMH benchmark of {@link FullObjectPropertyDesc}, grounded on the object property {@link BenchmarkOntology#OBJECT_PROPERTY}.
+ * Its writing benchmarks alternatively add and remove a sub property.
+ * See {@link DescriptorBenchmark} for more details.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.ObjectPropertyDescBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ObjectPropertyDescBenchmark
+        extends DescriptorBenchmark<FullObjectPropertyDesc> {
+
+    @Override // see super class for documentation
+    protected FullObjectPropertyDesc newDescriptor(OWLReferences ontology) {
+        return new FullObjectPropertyDesc( BenchmarkOntology.OBJECT_PROPERTY, ontology);
+    }
+
+    @Override // see super class for documentation
+    protected void change(FullObjectPropertyDesc descriptor, boolean adding) {
+        if ( adding)
+            descriptor.addSubObjectProperty( "pT");
+        else descriptor.removeSubObjectProperty( "pT");
+    }
+}
@@ -3,6 +3,15 @@ package it.emarolab.owloop.core;
 import it.emarolab.amor.owlInterface.OWLReferencesInterface;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * This interface is a part of the core of OWLOOP architecture.
@@ -60,8 +69,9 @@ public interface Axiom {
 
         /**
          * Make a copy of the {@link Ground} object.
-         * Used to make each {@link MappingIntent} independent
-         * for the evolution of the system.
+         * Grounds should be immutable, since the same {@link Ground} of a {@link Descriptor}
+         * is shared by all its {@link MappingIntent}s, which are therefore independent
+         * for the evolution of the system only if the descriptor sets a new ground when its instance changes.
          * This method should call a specific copyGround constructor.
          * @return a new grounded copyGround.
          */
@@ -103,8 +113,8 @@ public interface Axiom {
          * equal to the one queried to the OWL representation.
          */
         default SynchronisationIntent<Y> synchroniseTo(EntitySet<Y> queried){
-            // synchronise to ontology (write)
-            return new SynchronisationIntent<>( this, queried);
+            // synchronise to ontology (write), only this set can change after the intent is given
+            return new LazySynchronisationIntent<>( this, true, queried, false);
         }
         /**
          * This method is used during {@link Descriptor#readAxioms()} and finds
@@ -118,8 +128,8 @@ public interface Axiom {
          * equal to the one queried to the OWL representation.
          */
         default SynchronisationIntent<Y> synchroniseFrom(EntitySet<Y> queried){
-            // synchronise from ontology (read)
-            return new SynchronisationIntent<>( queried, this);
+            // synchronise from ontology (read), only this set can change after the intent is given
+            return new LazySynchronisationIntent<>( queried, false, this, true);
         }
 
         /**
@@ -158,9 +168,15 @@ public interface Axiom {
             }
             // copyGround this instance, used in: MappingIntent.
             private SynchronisationIntent(SynchronisationIntent<E> copy){
-                this.toAdd = new HashSet<>( copy.toAdd);
-                this.toRemove = new HashSet<>( copy.toRemove);
-                this.unchanged = new HashSet<>( copy.unchanged);
+                this.toAdd = new HashSet<>( copy.getToAddView());
+                this.toRemove = new HashSet<>( copy.getToRemoveView());
+                this.unchanged = new HashSet<>( copy.getUnchangedView());
+            }
+            // set the given output of the class (used by LazySynchronisationIntent)
+            private SynchronisationIntent(Set<E> toAdd, Set<E> toRemove, Set<E> unchanged){
+                this.toAdd = toAdd;
+                this.toRemove = toRemove;
+                this.unchanged = unchanged;
             }
             private void initialise(){
                 toAdd = new HashSet<>();
@@ -200,7 +216,7 @@ public interface Axiom {
              * the first element if necessary
              * (the others are discarded and a warning msg is produced).
              */
-            private Set<E> copySet( EntitySet<E> a){
+            private static <E> Set<E> copySet( EntitySet<E> a){
                 if ( a == null)
                     return new HashSet<>();
                 Set<E> copy = new HashSet<>();
@@ -251,6 +267,33 @@ public interface Axiom {
                 return unchanged;
             }
 
+            /**
+             * Returns a read-only view of {@link #getToAdd()}, which does not require
+             * to copy the synchronised elements (see {@link LazySynchronisationIntent}).
+             * @return the element to add for synchronise the axioms sets, which cannot be changed.
+             */
+            public Set<E> getToAddView() {
+                return Collections.unmodifiableSet( getToAdd());
+            }
+
+            /**
+             * Returns a read-only view of {@link #getToRemove()}, which does not require
+             * to copy the synchronised elements (see {@link LazySynchronisationIntent}).
+             * @return the element to remove for synchronise the axioms sets, which cannot be changed.
+             */
+            public Set<E> getToRemoveView() {
+                return Collections.unmodifiableSet( getToRemove());
+            }
+
+            /**
+             * Returns a read-only view of {@link #getUnchanged()}, which does not require
+             * to copy the synchronised elements (see {@link LazySynchronisationIntent}).
+             * @return the elements in both axioms sets, which cannot be changed.
+             */
+            public Set<E> getUnchangedView() {
+                return Collections.unmodifiableSet( getUnchanged());
+            }
+
             // equals if all output sets are equals
             @Override
             public boolean equals(Object o) {
@@ -259,30 +302,243 @@ public interface Axiom {
 
                 SynchronisationIntent<?> that = (SynchronisationIntent<?>) o;
 
-                if (getToAdd() != null ? !getToAdd().equals(that.getToAdd()) : that.getToAdd() != null) return false;
-                if (getToRemove() != null ? !getToRemove().equals(that.getToRemove()) : that.getToRemove() != null)
-                    return false;
-                return getUnchanged() != null ? getUnchanged().equals(that.getUnchanged()) : that.getUnchanged() == null;
+                if (!getToAddView().equals(that.getToAddView())) return false;
+                if (!getToRemoveView().equals(that.getToRemoveView())) return false;
+                return getUnchangedView().equals(that.getUnchangedView());
             }
 
             @Override
             public int hashCode() {
-                int result = getToAdd() != null ? getToAdd().hashCode() : 0;
-                result = 31 * result + (getToRemove() != null ? getToRemove().hashCode() : 0);
-                result = 31 * result + (getUnchanged() != null ? getUnchanged().hashCode() : 0);
+                int result = getToAddView().hashCode();
+                result = 31 * result + getToRemoveView().hashCode();
+                result = 31 * result + getUnchangedView().hashCode();
                 return result;
             }
 
             @Override
             public String toString() {
-                return  "toAdd=" + toAdd +
-                        ", toRemove=" + toRemove +
-                        ", unchanged=" + unchanged;
+                return  "toAdd=" + getToAddView() +
+                        ", toRemove=" + getToRemoveView() +
+                        ", unchanged=" + getUnchangedView();
             }
 
+            /**
+             * Returns a copy of this intent that it is not affected by changes
+             * in the sets of {@code this} intent.
+             * @return a copy of this synchronisation intent.
+             */
             public SynchronisationIntent<E> copy(){
+                return copy( true);
+            }
+
+            /**
+             * Returns a copy of this intent.
+             * @param detached if {@code true}, the copy has its own sets of axioms
+             *                 that can be changed independently from this intent.
+             *                 Otherwise, intents that are not affected by changes in the
+             *                 synchronised sets (see {@link LazySynchronisationIntent}) can return themselves.
+             * @return a copy of this synchronisation intent.
+             */
+            public SynchronisationIntent<E> copy(boolean detached){
                 return new SynchronisationIntent<E>( this);
             }
+
+            /**
+             * Returns an intent that does not add, remove nor keep any element.
+             * It is used when a synchronisation is not performed since it would not change anything.
+             * @param <E> the type of entities described in an {@link EntitySet} set.
+             * @return a new synchronisation intent that does not change anything.
+             */
+            public static <E> SynchronisationIntent<E> unchanged(){
+                return new LazySynchronisationIntent<>( Collections.emptySet(), Collections.emptySet());
+            }
+
+            /**
+             * Returns an intent with the given elements, which are copied.
+             * It is used when the changes are known without comparing the synchronised sets
+             * (e.g., when they have been recorded while changing an {@link EntitySet}).
+             * @param toAdd the elements to add (see {@link #getToAdd()}).
+             * @param toRemove the elements to remove (see {@link #getToRemove()}).
+             * @param unchanged the elements that are in both sets (see {@link #getUnchanged()}).
+             * @param <E> the type of entities described in an {@link EntitySet} set.
+             * @return the synchronisation intent with the given elements.
+             */
+            public static <E> SynchronisationIntent<E> changed(Collection<? extends E> toAdd, Collection<? extends E> toRemove,
+                                                               Collection<? extends E> unchanged){
+                return new SynchronisationIntent<>( new HashSet<>( toAdd), new HashSet<>( toRemove), new HashSet<>( unchanged));
+            }
+        }
+
+        /**
+         * A {@link SynchronisationIntent} computed on demand.
+         * <p>
+         *     Differently from its super class, it does not copy the synchronised sets
+         *     into new {@link HashSet}s. Instead, {@link #getToAddView()}, {@link #getToRemoveView()}
+         *     and {@link #getUnchangedView()} are read-only views that filter the elements of
+         *     the synchronised sets while they are iterated. Only the {@link EntitySet}
+         *     of the {@link Descriptor} (i.e., the one that can be changed after the
+         *     synchronisation) is copied once, while the queried set is used as it is.
+         *     The sets returned by {@link #getToAdd()}, {@link #getToRemove()} and {@link #getUnchanged()}
+         *     can be changed, and they are copied from the views only the first time they are required.
+         *     Since this intent is not affected by changes in the synchronised sets, {@code copy( false)}
+         *     returns {@code this} intent, while {@link #copy()} returns an independent intent.
+         *     <br>
+         *     This class is not directly instantiable but it can be assessed through:
+         *     {@link EntitySet#synchroniseFrom(EntitySet)} or {@link EntitySet#synchroniseTo(EntitySet)}.
+         * </p>
+         *
+         * @param <E> the type of entities described in an {@link EntitySet} set.
+         */
+        class LazySynchronisationIntent<E>
+                extends SynchronisationIntent<E> {
+
+            // the read-only views, and the sets that can be changed (copied from the views when required)
+            private final Set<E> toAddView, toRemoveView, unchangedView;
+            private Set<E> toAdd, toRemove, unchanged;
+
+            /*
+             * non externally instantiable (see EntitySet class).
+             * It usage and input parameters are (as for SynchronisationIntent):
+             *     - read  ->  a1:queried, a2:atom.
+             *     - write ->  a1:atoms,   a2:queried.
+             * The copy flags specify what set should be copied since it might change.
+             */
+            private LazySynchronisationIntent(EntitySet<E> a1, boolean copy1, EntitySet<E> a2, boolean copy2) {
+                this( viewSet( a1, copy1), viewSet( a2, copy2));
+            }
+            private LazySynchronisationIntent(Set<E> a1, Set<E> a2) {
+                super( null, null, null);
+                toAddView = new FilteredView<>( a1, a2, false);
+                toRemoveView = new FilteredView<>( a2, a1, false);
+                unchangedView = new FilteredView<>( a1, a2, true);
+            }
+
+            /*
+             * makes a null EntitySet as an empty set and manages the singleton
+             * as the SynchronisationIntent.copySet(..) method does. Otherwise,
+             * it copies the given set only if required.
+             */
+            private static <E> Set<E> viewSet( EntitySet<E> a, boolean copy){
+                if ( a == null)
+                    return Collections.emptySet();
+                if ( copy || a.isSingleton() || ! ( a instanceof Set))
+                    return SynchronisationIntent.copySet( a);
+                return (Set<E>) a;
+            }
+
+            @Override // see super class for documentation
+            public Set<E> getToAdd() {
+                if ( toAdd == null)
+                    toAdd = new HashSet<>( toAddView);
+                return toAdd;
+            }
+
+            @Override // see super class for documentation
+            public Set<E> getToRemove() {
+                if ( toRemove == null)
+                    toRemove = new HashSet<>( toRemoveView);
+                return toRemove;
+            }
+
+            @Override // see super class for documentation
+            public Set<E> getUnchanged() {
+                if ( unchanged == null)
+                    unchanged = new HashSet<>( unchangedView);
+                return unchanged;
+            }
+
+            @Override // see super class for documentation
+            public Set<E> getToAddView() {
+                return toAdd == null ? toAddView : super.getToAddView();
+            }
+
+            @Override // see super class for documentation
+            public Set<E> getToRemoveView() {
+                return toRemove == null ? toRemoveView : super.getToRemoveView();
+            }
+
+            @Override // see super class for documentation
+            public Set<E> getUnchangedView() {
+                return unchanged == null ? unchangedView : super.getUnchangedView();
+            }
+
+            @Override // see super class for documentation
+            public SynchronisationIntent<E> copy(boolean detached){
+                if ( detached)
+                    return super.copy( true);
+                return this;
+            }
+
+            /*
+             * the read-only set of elements in 'source' that are (if 'contained') or
+             * are not (otherwise) in 'filter'. Its size is computed only once.
+             */
+            private static class FilteredView<E>
+                    extends AbstractSet<E> {
+
+                private final Set<E> source, filter;
+                private final boolean contained;
+                private int size = -1;
+
+                private FilteredView(Set<E> source, Set<E> filter, boolean contained) {
+                    this.source = source;
+                    this.filter = filter;
+                    this.contained = contained;
+                }
+
+                @Override
+                public Iterator<E> iterator() {
+                    Iterator<E> elements = source.iterator();
+                    return new Iterator<E>() {
+                        private E next;
+                        private boolean found = false;
+
+                        @Override
+                        public boolean hasNext() {
+                            while ( ! found && elements.hasNext()) {
+                                E e = elements.next();
+                                if ( filter.contains( e) == contained) {
+                                    next = e;
+                                    found = true;
+                                }
+                            }
+                            return found;
+                        }
+
+                        @Override
+                        public E next() {
+                            if ( ! hasNext())
+                                throw new NoSuchElementException();
+                            found = false;
+                            return next;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    if ( size < 0) {
+                        int cnt = 0;
+                        for ( E e : source)
+                            if ( filter.contains( e) == contained)
+                                cnt++;
+                        size = cnt;
+                    }
+                    return size;
+                }
+
+                @Override
+                public boolean isEmpty() {
+                    if ( size >= 0)
+                        return size == 0;
+                    return ! iterator().hasNext();
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    return source.contains( o) && filter.contains( o) == contained;
+                }
+            }
         }
 
     }
@@ -362,58 +618,61 @@ public interface Axiom {
             // write -> a1: internal state,  a2: queried.
             // read  -> a1: queried,         a2: internal state.
             private SynchronisationMultiIntent<F,?> expressionAxiomsSync(EntitySet<F> a1, EntitySet<F> a2){
+                // values intents are not copied since addSynchronised(..) copies their values through getNewData(..)
                 SynchronisationMultiIntent<F,Y> sync = new SynchronisationMultiIntent<>();
 
-                // it could be faster ....
                 if ( a1.isEmpty() & a2.isEmpty())
                     return sync;
                 if ( a1.isEmpty()) {
                     for (F a : a2)
-                        sync.addSynchronised(new SynchronisationIntent<>(null, a.getValues()), a);
+                        sync.addSynchronised(new LazySynchronisationIntent<>( null, false, a.getValues(), false), a);
                     return sync;
-                } 
+                }
                 if ( a2.isEmpty()) {
                     for (F a : a1)
-                        sync.addSynchronised(new SynchronisationIntent<>( a.getValues(), null), a);
+                        sync.addSynchronised(new LazySynchronisationIntent<>( a.getValues(), false, null, false), a);
                     return sync;
                 }
 
-                for (F b1 : a1) {
-                    boolean found = false;
-                    for (F b2 : a2) {
-                        // you may want to add here something to sync all object/data properties (now it sync only the value of the property described in the internal state of a description )
-                        if (b1.getExpression().equals(b2.getExpression())) {
-                            // sync common values between a1 and a2
-                            sync.addSynchronised(new SynchronisationIntent<>(b1.getValues(), b2.getValues()), b1);
-                            found = true;
-                            break;
-                        }
-                        if ( checkSingletton( a2, b2))
-                            break;
-                    }
+                // index a2 by expression. If a2 is a singleton only its first element can be matched.
+                Map<Object,F> a2Index = indexByExpression( a2, checkSingletton( a2, a2.iterator().next()));
+                // all the expressions of a1 (singleton is not considered when looking for elements only in a2)
+                Map<Object,F> a1Index = indexByExpression( a1, false);
 
-                    // add in case of writing (remove in case of reading) where a1 contains elements not in a2
-                    if ( ! found)
-                        sync.addSynchronised(new SynchronisationIntent<>(b1.getValues(), null), b1);
+                for (F b1 : a1) {
+                    // you may want to add here something to sync all object/data properties (now it sync only the value of the property described in the internal state of a description )
+                    F b2 = a2Index.get( b1.getExpression());
+                    if ( b2 != null)
+                        // sync common values between a1 and a2
+                        sync.addSynchronised(new LazySynchronisationIntent<>( b1.getValues(), false, b2.getValues(), false), b1);
+                    else
+                        // add in case of writing (remove in case of reading) where a1 contains elements not in a2
+                        sync.addSynchronised(new LazySynchronisationIntent<>( b1.getValues(), false, null, false), b1);
                     if ( checkSingletton( a1, b1))
                         break;
                 }
 
                 for (F b2 : a2) {
-                    boolean found = false;
-                    for (F b1 : a1) {
-                        if (b1.getExpression().equals(b2.getExpression())) {
-                            found = true;
-                            break;
-                        }
-                    }
                     // add in case of reading (remove in case of writing) where a2 contains element not in a1
-                    if ( !found)
-                        sync.addSynchronised(new SynchronisationIntent<>(null, b2.getValues()), b2);
+                    if ( ! a1Index.containsKey( b2.getExpression()))
+                        sync.addSynchronised(new LazySynchronisationIntent<>( null, false, b2.getValues(), false), b2);
                 }
                 return sync;
             }
 
+            /*
+             * maps each expression to the first element of the set that describes it.
+             * If onlyFirst is true, only the first element of the set is indexed.
+             */
+            private Map<Object,F> indexByExpression( EntitySet<F> a, boolean onlyFirst){
+                Map<Object,F> index = new HashMap<>( onlyFirst ? 2 : (int) ( a.size() / .75f) + 1);
+                for ( F b : a) {
+                    index.putIfAbsent( b.getExpression(), b);
+                    if ( onlyFirst)
+                        break;
+                }
+                return index;
+            }
 
             private boolean checkSingletton( EntitySet<F> a, F b){
                 if (a.isSingleton()) {
@@ -459,12 +718,12 @@ public interface Axiom {
 
             @SuppressWarnings("unchecked")
             private void addSynchronised(SynchronisationIntent<Y> intent, E t) {
-                if ( ! intent.getToAdd().isEmpty())
-                    getToAdd().add((E) t.getNewData(intent.getToAdd()));
-                if ( ! intent.getUnchanged().isEmpty())
-                    getUnchanged().add((E) t.getNewData(intent.getUnchanged()));
-                if ( ! intent.getToRemove().isEmpty())
-                    getToRemove().add( (E) t.getNewData(intent.getToRemove()));
+                if ( ! intent.getToAddView().isEmpty())
+                    getToAdd().add((E) t.getNewData(intent.getToAddView()));
+                if ( ! intent.getUnchangedView().isEmpty())
+                    getUnchanged().add((E) t.getNewData(intent.getUnchangedView()));
+                if ( ! intent.getToRemoveView().isEmpty())
+                    getToRemove().add( (E) t.getNewData(intent.getToRemoveView()));
             }
         }
     }
@@ -569,6 +828,63 @@ public interface Axiom {
          */
         default List< MappingIntent> writeAxiomsReasonReadAxioms(){return writeAxiomsReasonReadAxioms(true);}
 
+        /**
+         * Returns the executor used by the asynchronous methods of {@code this} descriptor
+         * (e.g., {@link #readAxiomsAsync()}). By default, it returns {@link Async#getExecutor()}.
+         * @return the executor that performs the asynchronous operations of {@code this} descriptor.
+         */
+        default Executor getAsyncExecutor(){
+            return Async.getExecutor();
+        }
+
+        /**
+         * Performs an operation of {@code this} descriptor on {@link #getAsyncExecutor()}.
+         * It is used by all the asynchronous methods (e.g., {@link #readAxiomsAsync()}).
+         * @param operation the operation to perform.
+         * @param <T> the type of the result of the operation.
+         * @return a future completed with the result of the operation.
+         */
+        default <T> CompletableFuture<T> asynchronously(Supplier<T> operation){
+            return CompletableFuture.supplyAsync( operation, getAsyncExecutor());
+        }
+
+        /**
+         * Calls {@link #readAxioms()} on {@link #getAsyncExecutor()}.
+         * The internal state of {@code this} descriptor should not be used until the returned future is completed.
+         * @return a future completed with the changes made in the {@link EntitySet} during the reading.
+         */
+        default CompletableFuture<List<MappingIntent>> readAxiomsAsync(){
+            return asynchronously( this::readAxioms);
+        }
+
+        /**
+         * Calls {@link #writeAxioms()} on {@link #getAsyncExecutor()}.
+         * The internal state of {@code this} descriptor should not be used until the returned future is completed.
+         * @return a future completed with the changes made in the OWL ontology during the writing.
+         */
+        default CompletableFuture<List<MappingIntent>> writeAxiomsAsync(){
+            return asynchronously( this::writeAxioms);
+        }
+
+        /**
+         * Calls {@link #writeAxiomsReasonReadAxioms(boolean)} on {@link #getAsyncExecutor()}.
+         * The internal state of {@code this} descriptor should not be used until the returned future is completed.
+         * @param reason set to (false) to disable reasoning. This will add only asserted elements.
+         * @return a future completed with the changes made by the {@link #writeAxioms()} and {@link #readAxioms()} operations.
+         */
+        default CompletableFuture<List<MappingIntent>> writeAxiomsReasonReadAxiomsAsync(boolean reason){
+            return asynchronously( () -> writeAxiomsReasonReadAxioms( reason));
+        }
+
+        /**
+         * Calls {@link #writeAxiomsReasonReadAxioms()} on {@link #getAsyncExecutor()}.
+         * The internal state of {@code this} descriptor should not be used until the returned future is completed.
+         * @return a future completed with the changes made by the {@link #writeAxioms()} and {@link #readAxioms()} operations.
+         */
+        default CompletableFuture<List<MappingIntent>> writeAxiomsReasonReadAxiomsAsync(){
+            return writeAxiomsReasonReadAxiomsAsync( true);
+        }
+
         /**
          * It instantiates a lists of {@link MappingIntent} with the
          * parameters as {@link MappingIntent#getOntologyChanges()}.
@@ -583,8 +899,11 @@ public interface Axiom {
             List<MappingIntent> intents = new ArrayList<>();
             EntitySet.SynchronisationIntent synchronisationIntent = null;
             if( sync != null)
-                synchronisationIntent = sync.copy();
-            intents.add( new MappingIntent<Ground<O,J>,Void>( getGround().copyGround(), synchronisationIntent));
+                synchronisationIntent = sync.copy( false);
+            MappingIntent intent = new MappingIntent<Ground<O,J>,Void>( getGround(), synchronisationIntent); // grounds are immutable
+            intent.metrics = MappingIntent.Metrics.take( true, null);
+            intents.add( intent);
+            onMappingIntent( intent);
             return intents;
         }
         /**
@@ -606,11 +925,67 @@ public interface Axiom {
             List<MappingIntent> intents = new ArrayList<>();
             EntitySet.SynchronisationIntent synchronisationIntent = null;
             if( sync != null)
-                synchronisationIntent = sync.copy();
-            intents.add( new MappingIntent<>( getGround().copyGround(), synchronisationIntent, changes));
+                synchronisationIntent = sync.copy( false);
+            MappingIntent intent = new MappingIntent<>( getGround(), synchronisationIntent, changes); // grounds are immutable
+            intent.metrics = MappingIntent.Metrics.take( false, changes);
+            intents.add( intent);
+            onMappingIntent( intent);
             return intents;
         }
 
+        /**
+         * It is called every time that {@link #getIntent(EntitySet.SynchronisationIntent)} or
+         * {@link #getChangingIntent(EntitySet.SynchronisationIntent, Object)} generate a new
+         * {@link MappingIntent}, e.g., to export its {@link MappingIntent#getMetrics()}.
+         * By default, it does nothing.
+         *
+         * @param intent the intent that has been generated.
+         */
+        default void onMappingIntent(MappingIntent intent){
+        }
+
+        /**
+         * It calls {@link EntitySet#synchroniseFrom(EntitySet)} on the given internal state with the result
+         * of the given query, and it measures them (see {@link MappingIntent.Metrics}).
+         * Its a helper method that can be used to implement the synchronisation of an expression during {@link #readAxioms()}.
+         *
+         * @param state the internal state of the descriptor to synchronise.
+         * @param query the query of the ontology (e.g.: {@code this::queryTypes}).
+         * @param <Y> the type of elements to synchronise.
+         *
+         * @return the changes to be done to synchronise the internal state with respect to the ontology.
+         */
+        default <Y> EntitySet.SynchronisationIntent<Y> synchroniseFrom(EntitySet<Y> state, Supplier<? extends EntitySet<Y>> query){
+            return MappingIntent.Metrics.synchronise( state, query, true);
+        }
+
+        /**
+         * It calls {@link EntitySet#synchroniseTo(EntitySet)} on the given internal state with the result
+         * of the given query, and it measures them (see {@link MappingIntent.Metrics}).
+         * Its a helper method that can be used to implement the synchronisation of an expression during {@link #writeAxioms()}.
+         *
+         * @param state the internal state of the descriptor to synchronise.
+         * @param query the query of the ontology (e.g.: {@code this::queryTypes}).
+         * @param <Y> the type of elements to synchronise.
+         *
+         * @return the changes to be done to synchronise the ontology with respect to the internal state.
+         */
+        default <Y> EntitySet.SynchronisationIntent<Y> synchroniseTo(EntitySet<Y> state, Supplier<? extends EntitySet<Y>> query){
+            return MappingIntent.Metrics.synchronise( state, query, false);
+        }
+
+        /**
+         * It instantiates a lists with a single {@link MappingIntent} that describes
+         * a reading that did not change the internal state of the descriptor (see {@link MappingIntent#isUnchanged()}).
+         * Its a helper method that can be used by the {@link #readAxioms()} when the ontology
+         * is not queried since it did not change after the previous reading.
+         *
+         * @return the changes of a reading that did not change the descriptor.
+         */
+        default List<MappingIntent> getUnchangedIntent(){ // read
+            return getIntent( EntitySet.SynchronisationIntent.unchanged());
+        }
+
         /**
          * This method calls: {@link it.emarolab.amor.owlDebugger.Logger#setPrintOnConsole(Boolean)}
          * with a given flag parameter.
@@ -620,6 +995,553 @@ public interface Axiom {
             it.emarolab.amor.owlDebugger.Logger.setPrintOnConsole( booleanFlag);
         }
 
+        /**
+         * Returns the executor used by the {@code build...()} methods of {@code this} descriptor
+         * to read the built descriptors. By default, it returns {@link Builder#getExecutor()}.
+         * @return the executor that reads the descriptors built by {@code this} descriptor.
+         * {@code null} if they should be read sequentially in the calling thread.
+         */
+        default ExecutorService getBuildExecutor(){
+            return Builder.getExecutor();
+        }
+
+        /**
+         * Instantiates a new descriptor for each of the given entities and reads it
+         * (i.e., calls {@link #readAxioms()}). It is used by all the {@code build...()} methods
+         * and it runs on {@link #getBuildExecutor()}.
+         * @param entities the entities to be described by new descriptors.
+         * @param factory the function that instantiates the descriptor of an entity.
+         * @param <Y> the type of entities to be described.
+         * @param <D> the type of the built descriptors.
+         * @return the set of built descriptors, each of them has been read.
+         */
+        default <Y,D extends Descriptor<?,?>> Set<D> buildDescriptors(Collection<? extends Y> entities, Function<Y,D> factory){
+            return Builder.build( entities, factory, getBuildExecutor());
+        }
+
+        /**
+         * Builds the graph of descriptors reachable from {@code this} descriptor (see {@link GraphBuilder}).
+         * @param depth the number of times that the relations are applied from {@code this} descriptor.
+         * @param relations the {@code build...()} methods that expand the descriptors
+         *                  (see {@link GraphBuilder#relation(java.lang.Class, Function)}).
+         * @return the graph of the descriptors reachable from {@code this} descriptor, each of them has been read once.
+         */
+        default GraphBuilder.Graph buildGraph(int depth, GraphBuilder.Relation<?>... relations){
+            return new GraphBuilder( depth, relations).build( this);
+        }
+
+        /**
+         * The executor of the {@code build...()} methods of all the descriptors.
+         * <p>
+         *     By default, the descriptors built by a descriptor are read sequentially.
+         *     With {@link #setExecutor(ExecutorService)} (or with {@link #setParallel(boolean)})
+         *     the descriptors are instantiated by the caller thread, read concurrently on the given executor, and then merged
+         *     in the set returned by the {@code build...()} methods. Each descriptor can
+         *     override {@link Descriptor#getBuildExecutor()} to use a specific executor.
+         *     <br>
+         *     If a {@link ForkJoinPool} is used, nested {@code build...()} calls (e.g., a descriptor
+         *     built by another descriptor that builds its own descriptors) are executed
+         *     as fork-join tasks, since the pool compensates the threads that wait for them.
+         *     Note that the queries to the same ontology are synchronised by aMOR, so the
+         *     speed up depends on how much of the reading does not involve the reasoner.
+         * </p>
+         */
+        class Builder {
+
+            private static volatile ExecutorService executor = null; // sequential by default
+
+            private Builder(){} // not instantiable
+
+            /**
+             * @return the executor used to read built descriptors. {@code null} if they are read sequentially.
+             */
+            public static ExecutorService getExecutor() {
+                return executor;
+            }
+
+            /**
+             * Sets the executor used to read built descriptors.
+             * @param executor the executor to be used. {@code null} to read the descriptors sequentially.
+             */
+            public static void setExecutor(ExecutorService executor) {
+                Builder.executor = executor;
+            }
+
+            /**
+             * Reads the built descriptors in the {@link ForkJoinPool#commonPool()}, or sequentially.
+             * @param parallel {@code true} to read built descriptors concurrently, {@code false} to
+             *                 read them sequentially.
+             */
+            public static void setParallel(boolean parallel) {
+                setExecutor( parallel ? ForkJoinPool.commonPool() : null);
+            }
+
+            /**
+             * Instantiates a new descriptor for each of the given entities and reads it on the given executor.
+             * @param entities the entities to be described by new descriptors.
+             * @param factory the function that instantiates the descriptor of an entity.
+             * @param executor the executor in which read the descriptors. If it is {@code null},
+             *                 the descriptors are read sequentially.
+             * @param <Y> the type of entities to be described.
+             * @param <D> the type of the built descriptors.
+             * @return the set of built descriptors, each of them has been read.
+             */
+            public static <Y,D extends Descriptor<?,?>> Set<D> build(Collection<? extends Y> entities,
+                                                                     Function<Y,D> factory,
+                                                                     ExecutorService executor){
+                Set<D> out = new HashSet<>();
+                // within a GraphBuilder, the descriptors are read once and shared by all the nodes of the graph
+                GraphBuilder.Expansion expansion = GraphBuilder.EXPANSION.get();
+                if ( expansion != null)
+                    executor = expansion.executor;
+                if ( executor == null || entities.size() < 2) {
+                    for ( Y e : entities)
+                        out.add( read( factory.apply( e), expansion));
+                    return out;
+                }
+
+                // fork, the descriptors are instantiated by the caller thread (e.g., through the DescriptorPool)
+                List<CompletableFuture<D>> tasks = new ArrayList<>( entities.size());
+                for ( Y e : entities) {
+                    D built = factory.apply( e);
+                    tasks.add( CompletableFuture.supplyAsync( () -> read( built, expansion), executor));
+                }
+                // join
+                for ( CompletableFuture<D> t : tasks) {
+                    try {
+                        out.add( t.join());
+                    } catch ( CompletionException ex) {
+                        if ( ex.getCause() instanceof RuntimeException)
+                            throw (RuntimeException) ex.getCause();
+                        throw ex;
+                    }
+                }
+                return out;
+            }
+
+            private static <D extends Descriptor<?,?>> D read(D built, GraphBuilder.Expansion expansion){
+                if ( expansion != null)
+                    return expansion.memo.read( built);
+                built.readAxioms();
+                return built;
+            }
+        }
+
+        /**
+         * The executor of the asynchronous methods of all the descriptors (e.g., {@link Descriptor#readAxiomsAsync()}).
+         * <p>
+         *     By default, the asynchronous operations are performed by a new virtual thread each,
+         *     if the JVM supports them (i.e., Java 21 or later), or by a cached pool of daemon threads otherwise.
+         *     Therefore, many descriptors can be read and written concurrently without blocking the threads of the caller.
+         *     With {@link #setExecutor(Executor)} another executor can be used, and each descriptor can
+         *     override {@link Descriptor#getAsyncExecutor()} to use a specific executor.
+         *     <br>
+         *     Note that the queries to the same ontology are synchronised by aMOR, which might pin the
+         *     virtual threads to their carrier threads while they wait.
+         * </p>
+         */
+        class Async {
+
+            private static final Executor VIRTUAL_EXECUTOR = newVirtualExecutor();
+            private static final Executor DEFAULT_EXECUTOR = VIRTUAL_EXECUTOR != null ? VIRTUAL_EXECUTOR
+                    : Executors.newCachedThreadPool( r -> {
+                        Thread t = new Thread( r, "owloop-async");
+                        t.setDaemon( true);
+                        return t;
+                    });
+            private static volatile Executor executor = DEFAULT_EXECUTOR;
+
+            private Async(){} // not instantiable
+
+            /**
+             * @return the executor of the asynchronous operations.
+             */
+            public static Executor getExecutor() {
+                return executor;
+            }
+
+            /**
+             * Sets the executor of the asynchronous operations.
+             * @param executor the executor to be used. {@code null} to use the {@link #getDefaultExecutor()}.
+             */
+            public static void setExecutor(Executor executor) {
+                Async.executor = executor != null ? executor : DEFAULT_EXECUTOR;
+            }
+
+            /**
+             * @return the executor used by default, which runs each operation on a new virtual thread if possible.
+             */
+            public static Executor getDefaultExecutor() {
+                return DEFAULT_EXECUTOR;
+            }
+
+            /**
+             * @return {@code true} if the {@link #getDefaultExecutor()} is based on virtual threads.
+             */
+            public static boolean isVirtual() {
+                return VIRTUAL_EXECUTOR != null;
+            }
+
+            private static Executor newVirtualExecutor(){
+                try { // available since Java 21
+                    return (Executor) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor").invoke( null);
+                } catch ( ReflectiveOperationException | RuntimeException e) {
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * A builder of the graph of descriptors reachable from a descriptor through some {@code build...()} methods.
+         * <p>
+         *     The {@code build...()} methods (e.g., {@link Class.Sub#buildSubClasses()}) instantiate and read the
+         *     descriptors of the entities related to a descriptor, but they do not expand them further. This builder
+         *     applies some {@link Relation}s (i.e., {@code build...()} methods) to a root descriptor, then to the built
+         *     descriptors, and so on, up to the given {@link #getDepth()}. The descriptors are memoised by type and
+         *     {@link Ground} while the graph is built, so each of them is read only once even if it is reached many times
+         *     (e.g., through equivalent or inverse entities), and the expansion stops on the descriptors already in the graph.
+         *     Therefore, all the {@code build...()} methods called within the expansion return the same descriptor for the same entity.
+         *     <br>
+         *     The graph is built breadth first, and the descriptors of the same level are expanded concurrently on the
+         *     {@link #getExecutor()}. In this case, the descriptors built by each of them are read sequentially, in the
+         *     thread that expands it, to do not wait for tasks queued in the same executor. Also, the builder does not hold
+         *     any lock of the ontology between the readings, since a thread that waits for its tasks while holding the read lock
+         *     would deadlock with a writer that is waiting for the lock. Thus, the graph should be built while the ontology
+         *     is not written, if its descriptors should be read from the same state of the ontology.
+         * </p>
+         */
+        class GraphBuilder {
+
+            // the expansion performed by the calling thread, used by Builder.build(..)
+            private static final ThreadLocal<Expansion> EXPANSION = new ThreadLocal<>();
+
+            private final List<Relation<?>> relations;
+            private volatile int depth;
+            private volatile ExecutorService executor = null; // the executor of the Builder by default
+
+            /**
+             * Initialises a graph builder.
+             * @param depth the number of times that the relations are applied from the root descriptor.
+             * @param relations the relations that expand a descriptor.
+             */
+            public GraphBuilder(int depth, Relation<?>... relations) {
+                this.relations = Collections.unmodifiableList( new ArrayList<>( Arrays.asList( relations)));
+                setDepth( depth);
+            }
+
+            /**
+             * Creates a relation that expands the descriptors of the given type.
+             * @param type the type of descriptors to be expanded, the other descriptors are ignored by the relation.
+             * @param build the {@code build...()} method that expands a descriptor (e.g., {@code FullClassDesc::buildSubClasses}).
+             * @param <T> the type of descriptors to be expanded.
+             * @return a new relation.
+             */
+            public static <T extends Descriptor<?,?>> Relation<T> relation(java.lang.Class<T> type,
+                                                                           Function<? super T, ? extends Collection<? extends Descriptor<?,?>>> build){
+                return new Relation<>( type, build);
+            }
+
+            /**
+             * @return the relations that expand a descriptor.
+             */
+            public List<Relation<?>> getRelations() {
+                return relations;
+            }
+
+            /**
+             * @return the number of times that the relations are applied from the root descriptor.
+             */
+            public int getDepth() {
+                return depth;
+            }
+
+            /**
+             * Sets the maximum distance of the descriptors in the graph from the root descriptor.
+             * @param depth the number of times that the relations are applied from the root descriptor.
+             */
+            public void setDepth(int depth) {
+                this.depth = Math.max( depth, 0);
+            }
+
+            /**
+             * @return the executor that expands the descriptors of the same level. If it is {@code null} (by default),
+             * the {@link Builder#getExecutor()} is used.
+             */
+            public ExecutorService getExecutor() {
+                return executor;
+            }
+
+            /**
+             * Sets the executor that expands the descriptors of the same level.
+             * @param executor the executor to be used, or {@code null} to use the {@link Builder#getExecutor()}.
+             */
+            public void setExecutor(ExecutorService executor) {
+                this.executor = executor;
+            }
+
+            /**
+             * Reads the given descriptor and expands it through the {@link #getRelations()} up to the {@link #getDepth()}.
+             * @param root the descriptor from which the graph is built.
+             * @return the graph of the descriptors reachable from the root.
+             */
+            public Graph build(Descriptor<?,?> root){
+                ExecutorService pool = executor != null ? executor : Builder.getExecutor();
+                Memo memo = new Memo();
+                Graph graph = new Graph( memo.read( root));
+                List<Descriptor<?,?>> level = Collections.singletonList( graph.getRoot());
+                for ( int d = 1; d <= depth && ! level.isEmpty(); d++) {
+                    List<Descriptor<?,?>> next = new ArrayList<>();
+                    List<Set<Descriptor<?,?>>> expanded = expand( level, memo, pool);
+                    for ( int i = 0; i < level.size(); i++)
+                        for ( Descriptor<?,?> built : expanded.get( i)) {
+                            graph.link( level.get( i), built);
+                            if ( graph.add( built, d))
+                                next.add( built);
+                        }
+                    level = next;
+                }
+                return graph;
+            }
+
+            // expands the descriptors of a level, concurrently if they are many and there is an executor
+            private List<Set<Descriptor<?,?>>> expand(List<Descriptor<?,?>> level, Memo memo, ExecutorService pool){
+                List<Set<Descriptor<?,?>>> out = new ArrayList<>( level.size());
+                if ( pool == null || level.size() < 2) {
+                    // the built descriptors are read on the executor, since the calling thread does not belong to it
+                    for ( Descriptor<?,?> d : level)
+                        out.add( expand( d, new Expansion( memo, pool)));
+                    return out;
+                }
+
+                // fork
+                List<CompletableFuture<Set<Descriptor<?,?>>>> tasks = new ArrayList<>( level.size());
+                for ( Descriptor<?,?> d : level)
+                    tasks.add( CompletableFuture.supplyAsync( () -> expand( d, new Expansion( memo, null)), pool));
+                // join
+                for ( CompletableFuture<Set<Descriptor<?,?>>> t : tasks) {
+                    try {
+                        out.add( t.join());
+                    } catch ( CompletionException ex) {
+                        if ( ex.getCause() instanceof RuntimeException)
+                            throw (RuntimeException) ex.getCause();
+                        throw ex;
+                    }
+                }
+                return out;
+            }
+            private Set<Descriptor<?,?>> expand(Descriptor<?,?> descriptor, Expansion expansion){
+                Set<Descriptor<?,?>> out = Collections.newSetFromMap( new IdentityHashMap<>());
+                Expansion previous = EXPANSION.get();
+                EXPANSION.set( expansion);
+                try {
+                    for ( Relation<?> r : relations)
+                        out.addAll( r.apply( descriptor));
+                } finally {
+                    if ( previous != null)
+                        EXPANSION.set( previous);
+                    else EXPANSION.remove();
+                }
+                return out;
+            }
+
+            /**
+             * A {@code build...()} method that expands the descriptors of a type (see {@link #relation(java.lang.Class, Function)}).
+             * @param <T> the type of descriptors expanded by this relation.
+             */
+            public static class Relation<T extends Descriptor<?,?>> {
+
+                private final java.lang.Class<T> type;
+                private final Function<? super T, ? extends Collection<? extends Descriptor<?,?>>> build;
+
+                private Relation(java.lang.Class<T> type, Function<? super T, ? extends Collection<? extends Descriptor<?,?>>> build) {
+                    this.type = type;
+                    this.build = build;
+                }
+
+                /**
+                 * @return the type of descriptors expanded by this relation.
+                 */
+                public java.lang.Class<T> getType() {
+                    return type;
+                }
+
+                private Collection<? extends Descriptor<?,?>> apply(Descriptor<?,?> descriptor){
+                    if ( ! type.isInstance( descriptor))
+                        return Collections.emptySet();
+                    return build.apply( type.cast( descriptor));
+                }
+            }
+
+            /**
+             * The descriptors built by a {@link GraphBuilder}, and the relations among them.
+             * Each descriptor is identified by its type and {@link Ground}, and it has been read once.
+             */
+            public static class Graph {
+
+                private final Descriptor<?,?> root;
+                // the descriptors in breadth first order, their distance from the root and the descriptors they built
+                private final Map<Key,Descriptor<?,?>> descriptors = new LinkedHashMap<>();
+                private final Map<Key,Integer> depths = new HashMap<>();
+                private final Map<Key,Set<Descriptor<?,?>>> edges = new HashMap<>();
+
+                private Graph(Descriptor<?,?> root) {
+                    this.root = root;
+                    add( root, 0);
+                }
+
+                private boolean add(Descriptor<?,?> descriptor, int depth){
+                    Key key = new Key( descriptor);
+                    if ( descriptors.containsKey( key))
+                        return false;
+                    descriptors.put( key, descriptor);
+                    depths.put( key, depth);
+                    return true;
+                }
+
+                private void link(Descriptor<?,?> from, Descriptor<?,?> to){
+                    edges.computeIfAbsent( new Key( from), k -> Collections.newSetFromMap( new IdentityHashMap<>())).add( to);
+                }
+
+                /**
+                 * @return the descriptor from which this graph has been built.
+                 */
+                public Descriptor<?,?> getRoot() {
+                    return root;
+                }
+
+                /**
+                 * @return all the descriptors of this graph, in breadth first order.
+                 */
+                public List<Descriptor<?,?>> getDescriptors() {
+                    return new ArrayList<>( descriptors.values());
+                }
+
+                /**
+                 * @param type the type of descriptors to get.
+                 * @param <T> the type of descriptors to get.
+                 * @return the descriptors of this graph with the given type, in breadth first order.
+                 */
+                public <T extends Descriptor<?,?>> List<T> getDescriptors(java.lang.Class<T> type) {
+                    List<T> out = new ArrayList<>();
+                    for ( Descriptor<?,?> d : descriptors.values())
+                        if ( type.isInstance( d))
+                            out.add( type.cast( d));
+                    return out;
+                }
+
+                /**
+                 * @param descriptor a descriptor of this graph (or another descriptor with the same type and ground).
+                 * @return the descriptors built by the given descriptor, or an empty set if it has not been expanded.
+                 */
+                public Set<Descriptor<?,?>> getBuilt(Descriptor<?,?> descriptor) {
+                    Set<Descriptor<?,?>> built = edges.get( new Key( descriptor));
+                    if ( built == null)
+                        return Collections.emptySet();
+                    return Collections.unmodifiableSet( built);
+                }
+
+                /**
+                 * @param descriptor a descriptor of this graph (or another descriptor with the same type and ground).
+                 * @return the number of relations between the root and the given descriptor, or {@code -1}
+                 * if it is not in this graph.
+                 */
+                public int getDepth(Descriptor<?,?> descriptor) {
+                    Integer depth = depths.get( new Key( descriptor));
+                    return depth != null ? depth : -1;
+                }
+
+                /**
+                 * @param descriptor a descriptor.
+                 * @return {@code true} if a descriptor with the same type and ground is in this graph.
+                 */
+                public boolean contains(Descriptor<?,?> descriptor) {
+                    return descriptors.containsKey( new Key( descriptor));
+                }
+
+                /**
+                 * @return the number of descriptors in this graph.
+                 */
+                public int size() {
+                    return descriptors.size();
+                }
+
+                @Override
+                public String toString() {
+                    return "{root=" + root.getGround() +
+                            ", size=" + descriptors.size() +
+                            '}';
+                }
+            }
+
+            // the descriptors read while building a graph, by type and ground
+            private static class Memo {
+
+                private final Map<Key,CompletableFuture<Descriptor<?,?>>> descriptors = new ConcurrentHashMap<>();
+
+                @SuppressWarnings("unchecked") // the descriptors with the same key have the same type
+                private <D extends Descriptor<?,?>> D read(D built){
+                    CompletableFuture<Descriptor<?,?>> reading = new CompletableFuture<>();
+                    CompletableFuture<Descriptor<?,?>> memo = descriptors.putIfAbsent( new Key( built), reading);
+                    if ( memo != null) { // read, or being read, by another thread
+                        try {
+                            return (D) memo.join();
+                        } catch ( CompletionException ex) {
+                            if ( ex.getCause() instanceof RuntimeException)
+                                throw (RuntimeException) ex.getCause();
+                            throw ex;
+                        }
+                    }
+                    try {
+                        built.readAxioms();
+                    } catch ( RuntimeException ex) {
+                        reading.completeExceptionally( ex);
+                        throw ex;
+                    }
+                    reading.complete( built);
+                    return built;
+                }
+            }
+
+            // the state of the expansion of a descriptor, used by the build...() methods in the expanding thread
+            private static class Expansion {
+
+                private final Memo memo;
+                private final ExecutorService executor;
+
+                private Expansion(Memo memo, ExecutorService executor) {
+                    this.memo = memo;
+                    this.executor = executor;
+                }
+            }
+
+            // a descriptor is identified by its type and ground, since descriptors of different types are equal if they have the same ground
+            private static class Key {
+
+                private final java.lang.Class<?> type;
+                private final Ground<?,?> ground;
+
+                private Key(Descriptor<?,?> descriptor) {
+                    this.type = descriptor.getClass();
+                    this.ground = descriptor.getGround();
+                }
+
+                @Override
+                public boolean equals(Object o) {
+                    if (this == o) return true;
+                    if (!(o instanceof Key)) return false;
+
+                    Key key = (Key) o;
+
+                    return type.equals( key.type) && ground.equals( key.ground);
+                }
+
+                @Override
+                public int hashCode() {
+                    return 31 * type.hashCode() + ground.hashCode();
+                }
+            }
+        }
+
         /**
          * To hide a commonly used aMOR class behind OWLOOP API.
          * It provides methods that allow to instantiate an ontology-reference object.
@@ -671,6 +1593,7 @@ public interface Axiom {
         private I ground;
         private boolean writing;
         private C ontologyChanges = null;
+        private Metrics metrics;
 
         /**
          * Initialise this object without specifying any {@link #getOntologyChanges()}.
@@ -718,6 +1641,7 @@ public interface Axiom {
         }
         private void initialise(I ground, EntitySet.SynchronisationIntent intent, boolean writing){
             this.time = System.currentTimeMillis();
+            this.metrics = new Metrics();
             this.writing = writing;
             this.ground = ground;
             this.intent = intent;
@@ -751,6 +1675,16 @@ public interface Axiom {
             return time;
         }
 
+        /**
+         * Returns the time spent in each phase of the synchronisation that generated {@code this} intent,
+         * and the number of elements that have been involved.
+         *
+         * @return the measurements of the synchronisation.
+         */
+        public Metrics getMetrics() {
+            return metrics;
+        }
+
         /**
          * Returns the changes within the OWl structure and internal state of the descriptor.
          * If {@link #wasReading()} is (true) those are the changes made
@@ -791,6 +1725,21 @@ public interface Axiom {
             return intent == null;
         }
 
+        /**
+         * Returns {@code true} if the synchronisation did not find any element to add or to remove.
+         * It is always {@code true} when {@link Descriptor#readAxioms()} did not query the ontology since
+         * it has not changed after the previous reading (i.e., {@link #getIntent()} is
+         * {@link EntitySet.SynchronisationIntent#unchanged()}).
+         *
+         * @return {@code true} if nothing changed during reading or writing.
+         * {@code false} otherwise, or if an error occurred.
+         */
+        public boolean isUnchanged(){
+            if ( intent == null)
+                return false;
+            return intent.getToAddView().isEmpty() & intent.getToRemoveView().isEmpty();
+        }
+
         /**
          * Return {@code true} if {@code {@link #getOntologyChanges()} = null}.
          *
@@ -830,7 +1779,183 @@ public interface Axiom {
                     ", ground=" + ground +
                     ", writing=" + writing +
                     ", ontologyChanges=" + ontologyChanges +
+                    ", metrics=" + metrics +
                     '}';
         }
+
+        /**
+         * The measurements of the synchronisation that generated a {@link MappingIntent}.
+         * <p>
+         *     The synchronisation of an expression is made of the following phases, whose time is
+         *     given in nanoseconds.
+         *     <ul>
+         *     <li><b>query</b>: the time spent to query the ontology (e.g., {@code queryTypes()}).</li>
+         *     <li><b>synchronisation</b>: the time spent to compute the differences between the queried elements and
+         *     the internal state of the descriptor ({@link EntitySet#synchroniseFrom(EntitySet)} or
+         *     {@link EntitySet#synchroniseTo(EntitySet)}). During {@link Descriptor#readAxioms()}, it also
+         *     includes the time spent to apply those differences to the internal state of the descriptor.</li>
+         *     <li><b>change</b>: the time spent by {@link Descriptor#writeAxioms()} to generate the changes of the
+         *     ontology. If the changes of the ontology are not buffered, it also includes the time spent to apply them.</li>
+         *     <li><b>apply</b>: the time spent to apply the buffered changes of the ontology at once.</li>
+         *     <li><b>reason</b>: the time spent to synchronise the reasoner.</li>
+         *     </ul>
+         *     The first three phases are measured by
+         *     {@link Descriptor#synchroniseFrom(EntitySet, Supplier)} and {@link Descriptor#synchroniseTo(EntitySet, Supplier)},
+         *     and they are recorded when the intent is generated (see {@link Descriptor#getIntent(EntitySet.SynchronisationIntent)}
+         *     and {@link Descriptor#getChangingIntent(EntitySet.SynchronisationIntent, Object)}). The last two phases
+         *     are performed once for many intents (e.g., after {@link Descriptor#writeAxioms()}), and their
+         *     time is given to the last intent that has been written before them, in order to not count it more than once.
+         * </p>
+         */
+        public static class Metrics {
+
+            // the measurements of the synchronisation that is running in a thread
+            private static final ThreadLocal<Metrics> RECORDING = new ThreadLocal<>();
+
+            private long queryTime, synchronisationTime, changeTime, applyTime, reasonTime;
+            private int comparedElements, emittedChanges;
+            private long mark = -1; // the end of the last synchronisation measured by this object
+
+            /**
+             * @return the nanoseconds spent to query the ontology.
+             */
+            public long getQueryTime() {
+                return queryTime;
+            }
+
+            /**
+             * @return the nanoseconds spent to compute (and, when reading, to apply) the differences
+             * between the ontology and the internal state of the descriptor.
+             */
+            public long getSynchronisationTime() {
+                return synchronisationTime;
+            }
+
+            /**
+             * @return the nanoseconds spent to generate the changes of the ontology while writing.
+             */
+            public long getChangeTime() {
+                return changeTime;
+            }
+
+            /**
+             * @return the nanoseconds spent to apply the buffered changes of the ontology.
+             */
+            public long getApplyTime() {
+                return applyTime;
+            }
+
+            /**
+             * @return the nanoseconds spent to synchronise the reasoner.
+             */
+            public long getReasonTime() {
+                return reasonTime;
+            }
+
+            /**
+             * @return the sum of the nanoseconds spent in all the phases.
+             */
+            public long getTotalTime() {
+                return queryTime + synchronisationTime + changeTime + applyTime + reasonTime;
+            }
+
+            /**
+             * @return the number of elements that have been compared, i.e., the elements of the
+             * internal state of the descriptor and the elements queried from the ontology.
+             */
+            public int getComparedElements() {
+                return comparedElements;
+            }
+
+            /**
+             * @return the number of changes that have been generated, i.e., the changes of the ontology when
+             * writing, or the changes of the internal state of the descriptor when reading.
+             */
+            public int getEmittedChanges() {
+                return emittedChanges;
+            }
+
+            /**
+             * Adds the time spent to apply the buffered changes of the ontology.
+             * @param nanos the nanoseconds spent to apply the changes.
+             */
+            public void addApplyTime(long nanos) {
+                applyTime += nanos;
+            }
+
+            /**
+             * Adds the time spent to synchronise the reasoner.
+             * @param nanos the nanoseconds spent to reason.
+             */
+            public void addReasonTime(long nanos) {
+                reasonTime += nanos;
+            }
+
+            /*
+             * queries the ontology and computes the differences with the internal state, while measuring them
+             * in the thread. The measurements are given to the next intent generated in the same thread (see take(..)).
+             */
+            static <Y> EntitySet.SynchronisationIntent<Y> synchronise(EntitySet<Y> state, Supplier<? extends EntitySet<Y>> query, boolean reading){
+                Metrics metrics = RECORDING.get();
+                if ( metrics == null) {
+                    metrics = new Metrics();
+                    RECORDING.set( metrics);
+                }
+                long start = System.nanoTime();
+                EntitySet<Y> queried = query.get();
+                long queryEnd = System.nanoTime();
+                EntitySet.SynchronisationIntent<Y> intent = reading ? state.synchroniseFrom( queried) : state.synchroniseTo( queried);
+                int differences = intent.getToAddView().size() + intent.getToRemoveView().size(); // computes lazy intents
+                metrics.mark = System.nanoTime();
+                metrics.queryTime += queryEnd - start;
+                metrics.synchronisationTime += metrics.mark - queryEnd;
+                metrics.comparedElements += state.size() + ( queried != null ? queried.size() : 0);
+                if ( reading)
+                    metrics.emittedChanges += differences;
+                return intent;
+            }
+
+            /*
+             * returns the measurements made in the thread since the last generated intent (if any),
+             * and completes them with the time elapsed since the last synchronisation.
+             */
+            static Metrics take(boolean reading, Object changes){
+                Metrics metrics = RECORDING.get();
+                if ( metrics == null)
+                    return new Metrics();
+                RECORDING.remove();
+                if ( metrics.mark >= 0) {
+                    long elapsed = System.nanoTime() - metrics.mark;
+                    if ( reading)
+                        metrics.synchronisationTime += elapsed;
+                    else metrics.changeTime += elapsed;
+                }
+                if ( changes instanceof Collection)
+                    metrics.emittedChanges += ( (Collection<?>) changes).size();
+                return metrics;
+            }
+
+            /**
+             * Discards the measurements made in the current thread that have not been given to an intent yet.
+             * It should be called in a {@code finally} block after each reading or writing, since a failure between
+             * the query of the ontology and the generation of the intent would otherwise give the measurements to
+             * the next intent generated in the same thread (and keep them in the thread, e.g., of a pool).
+             */
+            public static void discard(){
+                RECORDING.remove();
+            }
+
+            @Override
+            public String toString() {
+                return "{queryTime=" + queryTime +
+                        ", synchronisationTime=" + synchronisationTime +
+                        ", changeTime=" + changeTime +
+                        ", applyTime=" + applyTime +
+                        ", reasonTime=" + reasonTime +
+                        ", comparedElements=" + comparedElements +
+                        ", emittedChanges=" + emittedChanges +
+                        '}';
+            }
+        }
     }
 }
@@ -1,8 +1,8 @@
 package it.emarolab.owloop.core;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface is a part of the core of OWLOOP architecture.
@@ -50,8 +50,8 @@ public interface Class<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseEquivalentClassesFromExpressionAxioms();
                 if ( from != null) {
-                    getEquivalentClasses().addAll(from.getToAdd());
-                    getEquivalentClasses().removeAll(from.getToRemove());
+                    getEquivalentClasses().addAll(from.getToAddView());
+                    getEquivalentClasses().removeAll(from.getToRemoveView());
                 }
                 return getIntent( from);
             } catch (Exception e){
@@ -70,13 +70,15 @@ public interface Class<O,J>
          * entities equivalent to {@code this} described ontological class.
          */
         default Set<D> buildEquivalentClasses(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getEquivalentClasses()){
-                D built = getEquivalentClassDescriptor( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getEquivalentClasses(), cl -> getEquivalentClassDescriptor( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildEquivalentClasses()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildEquivalentClasses()}.
+         */
+        default CompletableFuture<Set<D>> buildEquivalentClassesAsync(){
+            return asynchronously( this::buildEquivalentClasses);
         }
 
         /**
@@ -114,7 +116,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentClassesToExpressionAxioms(){
             try {
-                return getEquivalentClasses().synchroniseTo( queryEquivalentClasses());
+                return synchroniseTo( getEquivalentClasses(), this::queryEquivalentClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -131,7 +133,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentClassesFromExpressionAxioms(){
             try{
-                return getEquivalentClasses().synchroniseFrom( queryEquivalentClasses());
+                return synchroniseFrom( getEquivalentClasses(), this::queryEquivalentClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -155,8 +157,8 @@ public interface Class<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseDisjointClassesFromExpressionAxioms();
                 if ( from != null) {
-                    getDisjointClasses().addAll(from.getToAdd());
-                    getDisjointClasses().removeAll(from.getToRemove());
+                    getDisjointClasses().addAll(from.getToAddView());
+                    getDisjointClasses().removeAll(from.getToRemoveView());
                 }
                 return getIntent( from);
             } catch (Exception e){
@@ -176,13 +178,15 @@ public interface Class<O,J>
          * entities disjointed to {@code this} described ontological class.
          */
         default Set<D> buildDisjointClasses(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getDisjointClasses()){
-                D built = getDisjointClassDescriptor( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getDisjointClasses(), cl -> getDisjointClassDescriptor( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildDisjointClasses()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildDisjointClasses()}.
+         */
+        default CompletableFuture<Set<D>> buildDisjointClassesAsync(){
+            return asynchronously( this::buildDisjointClasses);
         }
 
         /**
@@ -220,7 +224,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointClassesToExpressionAxioms(){
             try {
-                return getDisjointClasses().synchroniseTo( queryDisjointClasses());
+                return synchroniseTo( getDisjointClasses(), this::queryDisjointClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -237,7 +241,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointClassesFromExpressionAxioms(){
             try{
-                return getDisjointClasses().synchroniseFrom( queryDisjointClasses());
+                return synchroniseFrom( getDisjointClasses(), this::queryDisjointClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -261,8 +265,8 @@ public interface Class<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseSubClassesFromExpressionAxioms();
                 if ( from != null) {
-                    getSubClasses().addAll(from.getToAdd());
-                    getSubClasses().removeAll(from.getToRemove());
+                    getSubClasses().addAll(from.getToAddView());
+                    getSubClasses().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             }catch (Exception e){
@@ -281,13 +285,15 @@ public interface Class<O,J>
          * sub entities of {@code this} described ontological class.
          */
         default Set<D> buildSubClasses(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getSubClasses()){
-                D built = getSubClassDescriptor( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getSubClasses(), cl -> getSubClassDescriptor( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildSubClasses()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildSubClasses()}.
+         */
+        default CompletableFuture<Set<D>> buildSubClassesAsync(){
+            return asynchronously( this::buildSubClasses);
         }
 
         /**
@@ -325,7 +331,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubClassesToExpressionAxioms(){
             try {
-                return getSubClasses().synchroniseTo( querySubClasses());
+                return synchroniseTo( getSubClasses(), this::querySubClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -342,7 +348,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubClassesFromExpressionAxioms(){
             try{
-                return getSubClasses().synchroniseFrom( querySubClasses());
+                return synchroniseFrom( getSubClasses(), this::querySubClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -366,8 +372,8 @@ public interface Class<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseSuperClassesFromExpressionAxioms();
                 if ( from != null) {
-                    getSuperClasses().addAll(from.getToAdd());
-                    getSuperClasses().removeAll(from.getToRemove());
+                    getSuperClasses().addAll(from.getToAddView());
+                    getSuperClasses().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -386,13 +392,15 @@ public interface Class<O,J>
          * super entities of {@code this} described ontological class.
          */
         default Set<D> buildSuperClasses(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getSuperClasses()){
-                D built = getSuperClassDescriptor( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getSuperClasses(), cl -> getSuperClassDescriptor( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildSuperClasses()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildSuperClasses()}.
+         */
+        default CompletableFuture<Set<D>> buildSuperClassesAsync(){
+            return asynchronously( this::buildSuperClasses);
         }
 
         /**
@@ -430,7 +438,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperClassesToExpressionAxioms(){
             try {
-                return getSuperClasses().synchroniseTo( querySuperClasses());
+                return synchroniseTo( getSuperClasses(), this::querySuperClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -447,7 +455,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperClassesFromExpressionAxioms(){
             try{
-                return getSuperClasses().synchroniseFrom( querySuperClasses());
+                return synchroniseFrom( getSuperClasses(), this::querySuperClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -472,8 +480,8 @@ public interface Class<O,J>
             try {
                 EntitySet.SynchronisationIntent<Y> from = synchroniseIndividualsFromExpressionAxioms();
                 if ( from != null) {
-                    getIndividuals().addAll(from.getToAdd());
-                    getIndividuals().removeAll(from.getToRemove());
+                    getIndividuals().addAll(from.getToAddView());
+                    getIndividuals().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -492,13 +500,15 @@ public interface Class<O,J>
          * entities belonging to {@code this} described ontological class.
          */
         default Set<D> buildIndividuals(){
-            Set<D> out = new HashSet<>();
-            for( Y cl : getIndividuals()){
-                D built = getIndividualDescriptor( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getIndividuals(), cl -> getIndividualDescriptor( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildIndividuals()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildIndividuals()}.
+         */
+        default CompletableFuture<Set<D>> buildIndividualsAsync(){
+            return asynchronously( this::buildIndividuals);
         }
 
         /**
@@ -536,7 +546,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseIndividualsToExpressionAxioms(){
             try {
-                return getIndividuals().synchroniseTo( queryIndividuals());
+                return synchroniseTo( getIndividuals(), this::queryIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -553,7 +563,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseIndividualsFromExpressionAxioms(){
             try{
-                return getIndividuals().synchroniseFrom( queryIndividuals());
+                return synchroniseFrom( getIndividuals(), this::queryIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -596,8 +606,8 @@ public interface Class<O,J>
             try {
                 EntitySet.SynchronisationIntent<Y> from = synchroniseEquivalentRestrictionsFromExpressionAxioms();
                 if ( from != null) {
-                    getEquivalentRestrictions().addAll(from.getToAdd());
-                    getEquivalentRestrictions().removeAll(from.getToRemove());
+                    getEquivalentRestrictions().addAll(from.getToAddView());
+                    getEquivalentRestrictions().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -630,7 +640,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseEquivalentRestrictionsToExpressionAxioms(){
             try {
-                return getEquivalentRestrictions().synchroniseTo( queryEquivalentRestrictions());
+                return synchroniseTo( getEquivalentRestrictions(), this::queryEquivalentRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -647,7 +657,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseEquivalentRestrictionsFromExpressionAxioms(){
             try{
-                return getEquivalentRestrictions().synchroniseFrom( queryEquivalentRestrictions());
+                return synchroniseFrom( getEquivalentRestrictions(), this::queryEquivalentRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
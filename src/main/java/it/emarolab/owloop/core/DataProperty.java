@@ -1,8 +1,8 @@
 package it.emarolab.owloop.core;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface is a part of the core of OWLOOP architecture.
@@ -60,8 +60,8 @@ public interface DataProperty<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseEquivalentDataPropertiesFromExpressionAxioms();
                 if (from != null) {
-                    getEquivalentDataProperties().addAll(from.getToAdd());
-                    getEquivalentDataProperties().removeAll(from.getToRemove());
+                    getEquivalentDataProperties().addAll(from.getToAddView());
+                    getEquivalentDataProperties().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -80,13 +80,15 @@ public interface DataProperty<O,J>
          * equivalent relations of {@code this} described ontological property.
          */
         default Set<D> buildEquivalentDataProperties(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getEquivalentDataProperties()){
-                D built = getNewEquivalentDataProperty( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getEquivalentDataProperties(), cl -> getNewEquivalentDataProperty( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildEquivalentDataProperties()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildEquivalentDataProperties()}.
+         */
+        default CompletableFuture<Set<D>> buildEquivalentDataPropertiesAsync(){
+            return asynchronously( this::buildEquivalentDataProperties);
         }
 
         /**
@@ -124,7 +126,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentDataPropertiesToExpressionAxioms(){
             try {
-                return getEquivalentDataProperties().synchroniseTo( queryEquivalentDataProperties());
+                return synchroniseTo( getEquivalentDataProperties(), this::queryEquivalentDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -141,7 +143,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentDataPropertiesFromExpressionAxioms(){
             try{
-                return getEquivalentDataProperties().synchroniseFrom( queryEquivalentDataProperties());
+                return synchroniseFrom( getEquivalentDataProperties(), this::queryEquivalentDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -163,8 +165,8 @@ public interface DataProperty<O,J>
         @Override
         default List<MappingIntent> readAxioms(){
             EntitySet.SynchronisationIntent<J> from = synchroniseDisjointDataPropertiesFromExpressionAxioms();
-            getDisjointDataProperties().addAll( from.getToAdd());
-            getDisjointDataProperties().removeAll( from.getToRemove());
+            getDisjointDataProperties().addAll( from.getToAddView());
+            getDisjointDataProperties().removeAll( from.getToRemoveView());
             return getIntent( from);
         }
 
@@ -178,13 +180,15 @@ public interface DataProperty<O,J>
          * disjoint relations of {@code this} described ontological property.
          */
         default Set< D> buildDisjointDataProperties(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getDisjointDataProperties()){
-                D built = getNewDisjointDataProperty( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getDisjointDataProperties(), cl -> getNewDisjointDataProperty( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildDisjointDataProperties()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildDisjointDataProperties()}.
+         */
+        default CompletableFuture<Set<D>> buildDisjointDataPropertiesAsync(){
+            return asynchronously( this::buildDisjointDataProperties);
         }
 
         /**
@@ -222,7 +226,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointDataPropertiesToExpressionAxioms(){
             try {
-                return getDisjointDataProperties().synchroniseTo( queryDisjointDataProperties());
+                return synchroniseTo( getDisjointDataProperties(), this::queryDisjointDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -239,7 +243,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointDataPropertiesFromExpressionAxioms(){
             try{
-                return getDisjointDataProperties().synchroniseFrom( queryDisjointDataProperties());
+                return synchroniseFrom( getDisjointDataProperties(), this::queryDisjointDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -263,8 +267,8 @@ public interface DataProperty<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseSubDataPropertiesFromExpressionAxioms();
                 if (from != null) {
-                    getSubDataProperties().addAll(from.getToAdd());
-                    getSubDataProperties().removeAll(from.getToRemove());
+                    getSubDataProperties().addAll(from.getToAddView());
+                    getSubDataProperties().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -283,13 +287,15 @@ public interface DataProperty<O,J>
          * sub relations of {@code this} described ontological property.
          */
         default Set< D> buildSubDataProperties(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getSubDataProperties()){
-                D built = getNewSubDataProperty( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getSubDataProperties(), cl -> getNewSubDataProperty( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildSubDataProperties()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildSubDataProperties()}.
+         */
+        default CompletableFuture<Set<D>> buildSubDataPropertiesAsync(){
+            return asynchronously( this::buildSubDataProperties);
         }
 
         /**
@@ -327,7 +333,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubDataPropertiesToExpressionAxioms(){
             try {
-                return getSubDataProperties().synchroniseTo( querySubDataProperties());
+                return synchroniseTo( getSubDataProperties(), this::querySubDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -344,7 +350,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubDataPropertiesFromExpressionAxioms(){
             try{
-                return getSubDataProperties().synchroniseFrom( querySubDataProperties());
+                return synchroniseFrom( getSubDataProperties(), this::querySubDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -367,8 +373,8 @@ public interface DataProperty<O,J>
         default List<MappingIntent> readAxioms(){
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseSuperDataPropertiesFromExpressionAxioms();
-                getSuperDataProperties().addAll(from.getToAdd());
-                getSuperDataProperties().removeAll(from.getToRemove());
+                getSuperDataProperties().addAll(from.getToAddView());
+                getSuperDataProperties().removeAll(from.getToRemoveView());
                 return getIntent(from);
             } catch (Exception e){
                 e.printStackTrace();
@@ -386,13 +392,15 @@ public interface DataProperty<O,J>
          * super relations of {@code this} described ontological property.
          */
         default Set< D> buildSuperDataProperties(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getSuperDataProperties()){
-                D built = getNewSuperDataProperty( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getSuperDataProperties(), cl -> getNewSuperDataProperty( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildSuperDataProperties()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildSuperDataProperties()}.
+         */
+        default CompletableFuture<Set<D>> buildSuperDataPropertiesAsync(){
+            return asynchronously( this::buildSuperDataProperties);
         }
 
         /**
@@ -430,7 +438,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperDataPropertiesToExpressionAxioms(){
             try {
-                return getSuperDataProperties().synchroniseTo( querySuperDataProperties());
+                return synchroniseTo( getSuperDataProperties(), this::querySuperDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -447,7 +455,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperDataPropertiesFromExpressionAxioms(){
             try{
-                return getSuperDataProperties().synchroniseFrom( querySuperDataProperties());
+                return synchroniseFrom( getSuperDataProperties(), this::querySuperDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -488,8 +496,8 @@ public interface DataProperty<O,J>
             try {
                 EntitySet.SynchronisationIntent<Y> from = synchroniseDomainDataPropertyFromExpressionAxioms();
                 if ( from != null) {
-                    getDomainRestrictions().addAll(from.getToAdd());
-                    getDomainRestrictions().removeAll(from.getToRemove());
+                    getDomainRestrictions().addAll(from.getToAddView());
+                    getDomainRestrictions().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -522,7 +530,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDomainDataPropertyToExpressionAxioms(){
             try {
-                return getDomainRestrictions().synchroniseTo( queryDomainRestrictions());
+                return synchroniseTo( getDomainRestrictions(), this::queryDomainRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -539,7 +547,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDomainDataPropertyFromExpressionAxioms(){
             try{
-                return getDomainRestrictions().synchroniseFrom( queryDomainRestrictions());
+                return synchroniseFrom( getDomainRestrictions(), this::queryDomainRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -580,8 +588,8 @@ public interface DataProperty<O,J>
             try {
                 EntitySet.SynchronisationIntent<Y> from = synchroniseRangeDataPropertyFromExpressionAxioms();
                 if (from != null) {
-                    getRangeRestrictions().addAll(from.getToAdd());
-                    getRangeRestrictions().removeAll(from.getToRemove());
+                    getRangeRestrictions().addAll(from.getToAddView());
+                    getRangeRestrictions().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch ( Exception e){
@@ -614,7 +622,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseRangeDataPropertyToExpressionAxioms(){
             try {
-                return getRangeRestrictions().synchroniseTo( queryRangeRestrictions());
+                return synchroniseTo( getRangeRestrictions(), this::queryRangeRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -631,7 +639,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseRangeDataPropertyFromExpressionAxioms(){
             try{
-                return getRangeRestrictions().synchroniseFrom( queryRangeRestrictions());
+                return synchroniseFrom( getRangeRestrictions(), this::queryRangeRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -1,8 +1,8 @@
 package it.emarolab.owloop.core;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface is a part of the core of OWLOOP architecture.
@@ -50,8 +50,8 @@ public interface Individual<O,J>
             try {
                 EntitySet.SynchronisationIntent<Y> from = synchroniseTypesFromExpressionAxioms();
                 if ( from != null) {
-                    getTypes().addAll(from.getToAdd());
-                    getTypes().removeAll(from.getToRemove());
+                    getTypes().addAll(from.getToAddView());
+                    getTypes().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -71,13 +71,15 @@ public interface Individual<O,J>
          * is belonging to.
          */
         default Set<D> buildTypes(){
-            Set<D> out = new HashSet<>();
-            for( Y cl : getTypes()){
-                D built = getNewType( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getTypes(), cl -> getNewType( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildTypes()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildTypes()}.
+         */
+        default CompletableFuture<Set<D>> buildTypesAsync(){
+            return asynchronously( this::buildTypes);
         }
 
         /**
@@ -115,7 +117,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseTypesToExpressionAxioms(){
             try {
-                return getTypes().synchroniseTo( queryTypes());
+                return synchroniseTo( getTypes(), this::queryTypes);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -132,7 +134,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseTypesFromExpressionAxioms(){
             try{
-                return getTypes().synchroniseFrom( queryTypes());
+                return synchroniseFrom( getTypes(), this::queryTypes);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -156,8 +158,8 @@ public interface Individual<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseDisjointIndividualsFromExpressionAxioms();
                 if ( from != null) {
-                    getDisjointIndividuals().addAll(from.getToAdd());
-                    getDisjointIndividuals().removeAll(from.getToRemove());
+                    getDisjointIndividuals().addAll(from.getToAddView());
+                    getDisjointIndividuals().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -176,13 +178,15 @@ public interface Individual<O,J>
          * entities that are different from {@code this} described ontological individualDescriptor.
          */
         default Set<D> buildDisjointIndividuals(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getDisjointIndividuals()){
-                D built = getNewDisjointIndividual( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getDisjointIndividuals(), cl -> getNewDisjointIndividual( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildDisjointIndividuals()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildDisjointIndividuals()}.
+         */
+        default CompletableFuture<Set<D>> buildDisjointIndividualsAsync(){
+            return asynchronously( this::buildDisjointIndividuals);
         }
 
         /**
@@ -220,7 +224,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointIndividualsToExpressionAxioms(){
             try {
-                return getDisjointIndividuals().synchroniseTo( queryDisjointIndividuals());
+                return synchroniseTo( getDisjointIndividuals(), this::queryDisjointIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -237,7 +241,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointIndividualsFromExpressionAxioms(){
             try{
-                return getDisjointIndividuals().synchroniseFrom( queryDisjointIndividuals());
+                return synchroniseFrom( getDisjointIndividuals(), this::queryDisjointIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -260,8 +264,8 @@ public interface Individual<O,J>
         default List<MappingIntent> readAxioms(){
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseEquivalentIndividualsFromExpressionAxioms();
-                getEquivalentIndividuals().addAll(from.getToAdd());
-                getEquivalentIndividuals().removeAll(from.getToRemove());
+                getEquivalentIndividuals().addAll(from.getToAddView());
+                getEquivalentIndividuals().removeAll(from.getToRemoveView());
                 return getIntent(from);
             } catch (Exception e){
                 e.printStackTrace();
@@ -279,13 +283,15 @@ public interface Individual<O,J>
          * entities that are equivalent from {@code this} described ontological individualDescriptor.
          */
         default Set<D> buildEquivalentIndividuals(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getEquivalentIndividuals()){
-                D built = getNewEquivalentIndividual( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getEquivalentIndividuals(), cl -> getNewEquivalentIndividual( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildEquivalentIndividuals()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildEquivalentIndividuals()}.
+         */
+        default CompletableFuture<Set<D>> buildEquivalentIndividualsAsync(){
+            return asynchronously( this::buildEquivalentIndividuals);
         }
 
         /**
@@ -323,7 +329,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentIndividualsToExpressionAxioms(){
             try {
-                return getEquivalentIndividuals().synchroniseTo( queryEquivalentIndividuals());
+                return synchroniseTo( getEquivalentIndividuals(), this::queryEquivalentIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -340,7 +346,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentIndividualsFromExpressionAxioms(){
             try{
-                return getEquivalentIndividuals().synchroniseFrom( queryEquivalentIndividuals());
+                return synchroniseFrom( getEquivalentIndividuals(), this::queryEquivalentIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -375,8 +381,8 @@ public interface Individual<O,J>
             try {
                 EntitySet.SynchronisationIntent<Y> from = synchroniseDataPropertiesFromExpressionAxioms();
                 if (from != null) {
-                    getDataProperties().addAll(from.getToAdd());
-                    getDataProperties().removeAll(from.getToRemove());
+                    getDataProperties().addAll(from.getToAddView());
+                    getDataProperties().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             }catch (Exception e){
@@ -395,13 +401,15 @@ public interface Individual<O,J>
          * entities that are applied to {@code this} described ontological individualDescriptor.
          */
         default Set<D> buildDataProperties(){
-            Set<D> out = new HashSet<>();
-            for( Y cl : getDataProperties()){
-                D built = getNewDataProperty( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getDataProperties(), cl -> getNewDataProperty( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildDataProperties()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildDataProperties()}.
+         */
+        default CompletableFuture<Set<D>> buildDataPropertiesAsync(){
+            return asynchronously( this::buildDataProperties);
         }
 
         /**
@@ -439,7 +447,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDataPropertiesToExpressionAxioms(){
             try {
-                return getDataProperties().synchroniseTo( queryDataProperties());
+                return synchroniseTo( getDataProperties(), this::queryDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -456,7 +464,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDataPropertiesFromExpressionAxioms(){
             try{
-                return getDataProperties().synchroniseFrom( queryDataProperties());
+                return synchroniseFrom( getDataProperties(), this::queryDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -491,8 +499,8 @@ public interface Individual<O,J>
             try{
                 EntitySet.SynchronisationIntent<Y> from = synchroniseObjectPropertiesFromExpressionAxioms();
                 if (from != null) {
-                    getObjectProperties().addAll(from.getToAdd());
-                    getObjectProperties().removeAll(from.getToRemove());
+                    getObjectProperties().addAll(from.getToAddView());
+                    getObjectProperties().removeAll(from.getToRemoveView());
                 }
                 return getIntent( from);
             }catch (Exception e){
@@ -511,13 +519,15 @@ public interface Individual<O,J>
          * entities that are applied to {@code this} described ontological individualDescriptor.
          */
         default Set< D> buildObjectProperties(){
-            Set<D> out = new HashSet<>();
-            for( Y cl : getObjectProperties()){
-                D built = getNewObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getObjectProperties(), cl -> getNewObjectProperty( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildObjectProperties()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildObjectProperties()}.
+         */
+        default CompletableFuture<Set<D>> buildObjectPropertiesAsync(){
+            return asynchronously( this::buildObjectProperties);
         }
 
         /**
@@ -555,7 +565,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseObjectPropertiesToExpressionAxioms(){
             try {
-                return getObjectProperties().synchroniseTo( queryObjectProperties());
+                return synchroniseTo( getObjectProperties(), this::queryObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -572,7 +582,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseObjectPropertiesFromExpressionAxioms(){
             try{
-                return getObjectProperties().synchroniseFrom( queryObjectProperties());
+                return synchroniseFrom( getObjectProperties(), this::queryObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -1,8 +1,8 @@
 package it.emarolab.owloop.core;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface is a part of the core of OWLOOP architecture.
@@ -115,8 +115,8 @@ public interface ObjectProperty<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseInverseObjectPropertiesFromExpressionAxioms();
                 if( from != null) {
-                    getInverseObjectProperties().addAll(from.getToAdd());
-                    getInverseObjectProperties().removeAll(from.getToRemove());
+                    getInverseObjectProperties().addAll(from.getToAddView());
+                    getInverseObjectProperties().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             }catch (Exception e){
@@ -135,13 +135,15 @@ public interface ObjectProperty<O,J>
          * inverse relations of {@code this} described ontological property.
          */
         default Set<D> buildInverseObjectProperties(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getInverseObjectProperties()){
-                D built = getNewInverseObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getInverseObjectProperties(), cl -> getNewInverseObjectProperty( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildInverseObjectProperties()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildInverseObjectProperties()}.
+         */
+        default CompletableFuture<Set<D>> buildInverseObjectPropertiesAsync(){
+            return asynchronously( this::buildInverseObjectProperties);
         }
 
         /**
@@ -179,7 +181,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseInverseObjectPropertiesToExpressionAxioms(){
             try {
-                return getInverseObjectProperties().synchroniseTo( queryInverseObjectProperties());
+                return synchroniseTo( getInverseObjectProperties(), this::queryInverseObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -196,7 +198,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseInverseObjectPropertiesFromExpressionAxioms(){
             try{
-                return getInverseObjectProperties().synchroniseFrom( queryInverseObjectProperties());
+                return synchroniseFrom( getInverseObjectProperties(), this::queryInverseObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -220,8 +222,8 @@ public interface ObjectProperty<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseDisjointObjectPropertiesFromExpressionAxioms();
                 if ( from != null) {
-                    getDisjointObjectProperties().addAll(from.getToAdd());
-                    getDisjointObjectProperties().removeAll(from.getToRemove());
+                    getDisjointObjectProperties().addAll(from.getToAddView());
+                    getDisjointObjectProperties().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -240,13 +242,15 @@ public interface ObjectProperty<O,J>
          * disjoint relations of {@code this} described ontological property.
          */
         default Set< D> buildDisjointObjectProperties(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getDisjointObjectProperties()){
-                D built = getNewDisjointObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getDisjointObjectProperties(), cl -> getNewDisjointObjectProperty( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildDisjointObjectProperties()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildDisjointObjectProperties()}.
+         */
+        default CompletableFuture<Set<D>> buildDisjointObjectPropertiesAsync(){
+            return asynchronously( this::buildDisjointObjectProperties);
         }
 
         /**
@@ -284,7 +288,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointObjectPropertiesToExpressionAxioms(){
             try {
-                return getDisjointObjectProperties().synchroniseTo( queryDisjointObjectProperties());
+                return synchroniseTo( getDisjointObjectProperties(), this::queryDisjointObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -301,7 +305,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointObjectPropertiesFromExpressionAxioms(){
             try{
-                return getDisjointObjectProperties().synchroniseFrom( queryDisjointObjectProperties());
+                return synchroniseFrom( getDisjointObjectProperties(), this::queryDisjointObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -325,8 +329,8 @@ public interface ObjectProperty<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseEquivalentObjectPropertiesFromExpressionAxioms();
                 if (from != null) {
-                    getEquivalentObjectProperties().addAll(from.getToAdd());
-                    getEquivalentObjectProperties().removeAll(from.getToRemove());
+                    getEquivalentObjectProperties().addAll(from.getToAddView());
+                    getEquivalentObjectProperties().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -345,13 +349,15 @@ public interface ObjectProperty<O,J>
          * equivalent relations of {@code this} described ontological property.
          */
         default Set<D> buildEquivalentObjectProperties(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getEquivalentObjectProperties()){
-                D built = getNewEquivalentObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getEquivalentObjectProperties(), cl -> getNewEquivalentObjectProperty( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildEquivalentObjectProperties()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildEquivalentObjectProperties()}.
+         */
+        default CompletableFuture<Set<D>> buildEquivalentObjectPropertiesAsync(){
+            return asynchronously( this::buildEquivalentObjectProperties);
         }
 
         /**
@@ -389,7 +395,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentObjectPropertiesToExpressionAxioms(){
             try {
-                return getEquivalentObjectProperties().synchroniseTo( queryEquivalentObjectProperties());
+                return synchroniseTo( getEquivalentObjectProperties(), this::queryEquivalentObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -406,7 +412,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentObjectPropertiesFromExpressionAxioms(){
             try{
-                return getEquivalentObjectProperties().synchroniseFrom( queryEquivalentObjectProperties());
+                return synchroniseFrom( getEquivalentObjectProperties(), this::queryEquivalentObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -430,8 +436,8 @@ public interface ObjectProperty<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseSubObjectPropertiesFromExpressionAxioms();
                 if (from != null) {
-                    getSubObjectProperties().addAll(from.getToAdd());
-                    getSubObjectProperties().removeAll(from.getToRemove());
+                    getSubObjectProperties().addAll(from.getToAddView());
+                    getSubObjectProperties().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -450,13 +456,15 @@ public interface ObjectProperty<O,J>
          * sub relations of {@code this} described ontological property.
          */
         default Set<D> buildSubObjectProperties(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getSubObjectProperties()){
-                D built = getNewSubObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getSubObjectProperties(), cl -> getNewSubObjectProperty( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildSubObjectProperties()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildSubObjectProperties()}.
+         */
+        default CompletableFuture<Set<D>> buildSubObjectPropertiesAsync(){
+            return asynchronously( this::buildSubObjectProperties);
         }
 
         /**
@@ -494,7 +502,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubObjectPropertiesToExpressionAxioms(){
             try {
-                return getSubObjectProperties().synchroniseTo( querySubObjectProperties());
+                return synchroniseTo( getSubObjectProperties(), this::querySubObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -511,7 +519,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubObjectPropertiesFromExpressionAxioms(){
             try{
-                return getSubObjectProperties().synchroniseFrom( querySubObjectProperties());
+                return synchroniseFrom( getSubObjectProperties(), this::querySubObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -535,8 +543,8 @@ public interface ObjectProperty<O,J>
             try {
                 EntitySet.SynchronisationIntent<J> from = synchroniseSuperObjectPropertiesFromExpressionAxioms();
                 if ( from != null) {
-                    getSuperObjectProperties().addAll(from.getToAdd());
-                    getSuperObjectProperties().removeAll(from.getToRemove());
+                    getSuperObjectProperties().addAll(from.getToAddView());
+                    getSuperObjectProperties().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch ( Exception e){
@@ -555,13 +563,15 @@ public interface ObjectProperty<O,J>
          * super relations of {@code this} described ontological property.
          */
         default Set<D> buildSuperObjectProperties(){
-            Set<D> out = new HashSet<>();
-            for( J cl : getSuperObjectProperties()){
-                D built = getNewSuperObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
-                out.add( built);
-            }
-            return out;
+            return buildDescriptors( getSuperObjectProperties(), cl -> getNewSuperObjectProperty( cl, getOntologyReference()));
+        }
+
+        /**
+         * Calls {@link #buildSuperObjectProperties()} on {@link #getAsyncExecutor()}.
+         * @return a future completed with the set of descriptors built by {@link #buildSuperObjectProperties()}.
+         */
+        default CompletableFuture<Set<D>> buildSuperObjectPropertiesAsync(){
+            return asynchronously( this::buildSuperObjectProperties);
         }
 
         /**
@@ -599,7 +609,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperObjectPropertiesToExpressionAxioms(){
             try {
-                return getSuperObjectProperties().synchroniseTo( querySuperObjectProperties());
+                return synchroniseTo( getSuperObjectProperties(), this::querySuperObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -616,7 +626,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperObjectPropertiesFromExpressionAxioms(){
             try{
-                return getSuperObjectProperties().synchroniseFrom( querySuperObjectProperties());
+                return synchroniseFrom( getSuperObjectProperties(), this::querySuperObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -656,8 +666,8 @@ public interface ObjectProperty<O,J>
         default List<MappingIntent> readAxioms(){
             try {
                 EntitySet.SynchronisationIntent<Y> from = synchroniseDomainObjectPropertyFromExpressionAxioms();
-                getDomainRestrictions().addAll(from.getToAdd());
-                getDomainRestrictions().removeAll(from.getToRemove());
+                getDomainRestrictions().addAll(from.getToAddView());
+                getDomainRestrictions().removeAll(from.getToRemoveView());
                 return getIntent(from);
             } catch (Exception e){
                 e.printStackTrace();
@@ -689,7 +699,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDomainObjectPropertyToExpressionAxioms(){
             try {
-                return getDomainRestrictions().synchroniseTo( queryDomainRestrictions());
+                return synchroniseTo( getDomainRestrictions(), this::queryDomainRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -706,7 +716,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDomainObjectPropertyFromExpressionAxioms(){
             try{
-                return getDomainRestrictions().synchroniseFrom( queryDomainRestrictions());
+                return synchroniseFrom( getDomainRestrictions(), this::queryDomainRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -747,8 +757,8 @@ public interface ObjectProperty<O,J>
             try {
                 EntitySet.SynchronisationIntent<Y> from = synchroniseRangeObjectPropertyFromExpressionAxioms();
                 if (from != null) {
-                    getRangeRestrictions().addAll(from.getToAdd());
-                    getRangeRestrictions().removeAll(from.getToRemove());
+                    getRangeRestrictions().addAll(from.getToAddView());
+                    getRangeRestrictions().removeAll(from.getToRemoveView());
                 }
                 return getIntent(from);
             } catch (Exception e){
@@ -781,7 +791,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseRangeObjectPropertyToExpressionAxioms(){
             try {
-                return getRangeRestrictions().synchroniseTo( queryRangeRestrictions());
+                return synchroniseTo( getRangeRestrictions(), this::queryRangeRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -798,7 +808,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseRangeObjectPropertyFromExpressionAxioms(){
             try{
-                return getRangeRestrictions().synchroniseFrom( queryRangeRestrictions());
+                return synchroniseFrom( getRangeRestrictions(), this::queryRangeRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -6,7 +6,7 @@ import org.semanticweb.owlapi.model.OWLClass;
 import java.util.Collection;
 
 /**
- * An extension of {@link DescriptorEntitySet.EntitySetBase} for {@link OWLClass}.
+ * An extension of {@link DescriptorEntitySet.CompactEntitySetBase} for {@link OWLClass}.
  * <p>
  *     It represent the {@link Axiom.EntitySet} which contains OWL-Classes.
  * </p>
@@ -21,7 +21,7 @@ import java.util.Collection;
  * </small></div>
  */
 public class Classes
-        extends DescriptorEntitySet.OWLEntitySetBase<OWLClass>
+        extends DescriptorEntitySet.CompactOWLEntitySetBase<OWLClass>
         implements Axiom.EntitySet<OWLClass> {
     public Classes() {
     }
@@ -0,0 +1,196 @@
+package it.emarolab.owloop.descriptor.construction.descriptorEntitySet;
+
+import java.util.*;
+
+/**
+ * The index of a {@link DescriptorEntitySet.IndexedExpressionEntitySetBase}, which maps expressions to their entities.
+ * <p>
+ *     Up to {@link DescriptorEntitySet.CompactEntitySetBase#HASHING_THRESHOLD} entries, the keys and the values
+ *     are stored in two arrays, which are linearly scanned. When more entries are added, they are moved into a
+ *     {@link HashMap}, which is used until the index is cleared.
+ *     It only implements the operations required by the indexed sets, and it is not thread safe.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorEntitySet.CompactIndex <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ *
+ * @param <K> the type of keys (i.e.: the expressions).
+ * @param <V> the type of values (i.e.: the expression entities).
+ */
+class CompactIndex<K,V> {
+
+    private static final int THRESHOLD = DescriptorEntitySet.CompactEntitySetBase.HASHING_THRESHOLD;
+
+    private Object[] keys, values; // null if empty or hashed
+    private int size = 0;
+    private HashMap<K,V> hashed = null; // not null above the threshold
+    private int modifications = 0;
+
+    CompactIndex() {
+    }
+    CompactIndex(int initialCapacity) {
+        if ( initialCapacity > THRESHOLD)
+            hashed = new HashMap<>( initialCapacity);
+    }
+    CompactIndex(int initialCapacity, float loadFactor) {
+        if ( initialCapacity > THRESHOLD)
+            hashed = new HashMap<>( initialCapacity, loadFactor);
+    }
+
+    // the number of entries added or removed, used also to detect concurrent modifications while compact
+    int getModifications(){
+        return modifications;
+    }
+
+    private int indexOf(Object key){
+        for ( int i = 0; i < size; i++)
+            if ( Objects.equals( keys[ i], key))
+                return i;
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(Object key){
+        if ( hashed != null)
+            return hashed.get( key);
+        int i = indexOf( key);
+        return i < 0 ? null : (V) values[ i];
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(K key, V value){
+        if ( hashed != null) {
+            V previous = hashed.put( key, value);
+            if ( previous == null)
+                modifications++;
+            return previous;
+        }
+        int i = indexOf( key);
+        if ( i >= 0) {
+            V previous = (V) values[ i];
+            values[ i] = value;
+            return previous;
+        }
+        modifications++;
+        if ( size == THRESHOLD) { // switch to hashing
+            hashed = new HashMap<>( THRESHOLD * 4);
+            for ( int j = 0; j < size; j++)
+                hashed.put( (K) keys[ j], (V) values[ j]);
+            hashed.put( key, value);
+            keys = values = null;
+            size = 0;
+            return null;
+        }
+        if ( keys == null) {
+            keys = new Object[ 2];
+            values = new Object[ 2];
+        } else if ( size == keys.length) {
+            int length = Math.min( keys.length * 2, THRESHOLD);
+            keys = Arrays.copyOf( keys, length);
+            values = Arrays.copyOf( values, length);
+        }
+        keys[ size] = key;
+        values[ size++] = value;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(Object key){
+        if ( hashed != null) {
+            V previous = hashed.remove( key);
+            if ( previous != null)
+                modifications++;
+            return previous;
+        }
+        int i = indexOf( key);
+        if ( i < 0)
+            return null;
+        V previous = (V) values[ i];
+        removeAt( i);
+        return previous;
+    }
+
+    private void removeAt(int i){
+        modifications++;
+        int moved = size - i - 1;
+        if ( moved > 0) {
+            System.arraycopy( keys, i + 1, keys, i, moved);
+            System.arraycopy( values, i + 1, values, i, moved);
+        }
+        keys[ --size] = null;
+        values[ size] = null;
+    }
+
+    int size(){
+        if ( hashed != null)
+            return hashed.size();
+        return size;
+    }
+
+    void clear(){
+        modifications++;
+        keys = values = null;
+        size = 0;
+        hashed = null;
+    }
+
+    Iterator<V> values(){
+        if ( hashed != null) {
+            Iterator<V> iterator = hashed.values().iterator();
+            return new Iterator<V>() { // counts the removed entries
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public V next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    modifications++;
+                }
+            };
+        }
+        return new Iterator<V>() {
+            private int cursor = 0, last = -1, expected = modifications;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public V next() {
+                if ( expected != modifications)
+                    throw new ConcurrentModificationException();
+                if ( cursor >= size)
+                    throw new NoSuchElementException();
+                last = cursor++;
+                return (V) values[ last];
+            }
+
+            @Override
+            public void remove() {
+                if ( last < 0)
+                    throw new IllegalStateException();
+                if ( expected != modifications)
+                    throw new ConcurrentModificationException();
+                removeAt( last);
+                cursor = last;
+                last = -1;
+                expected = modifications;
+            }
+        };
+    }
+}
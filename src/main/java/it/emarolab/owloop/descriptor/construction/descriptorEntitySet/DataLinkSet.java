@@ -7,7 +7,7 @@ import org.semanticweb.owlapi.model.OWLLiteral;
 import java.util.Collection;
 
 /**
- * An extension of {@link DescriptorEntitySet.EntitySetBase} for {@link Axiom.ExpressionEntitySet} for DataLinks.
+ * An extension of {@link DescriptorEntitySet.IndexedExpressionEntitySetBase} for {@link Axiom.ExpressionEntitySet} for DataLinks.
  * <p>
  *     It represents a set of OWL-DataProperties and related OWL-Literals, as a collection of {@link DataLinks}.
  * </p>
@@ -22,7 +22,7 @@ import java.util.Collection;
  * </small></div>
  */
 public class DataLinkSet
-        extends DescriptorEntitySet.ExpressionEntitySetBase<DataLinks, OWLDataProperty, OWLLiteral>
+        extends DescriptorEntitySet.IndexedExpressionEntitySetBase<DataLinks, OWLDataProperty, OWLLiteral>
         implements Axiom.ExpressionEntitySet<DataLinks,OWLLiteral> {
 
     public DataLinkSet() {
@@ -2,8 +2,11 @@ package it.emarolab.owloop.descriptor.construction.descriptorEntitySet;
 
 import com.google.common.base.Objects;
 import it.emarolab.owloop.core.Axiom;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -16,6 +19,16 @@ import java.util.Set;
  *     property, while {@link #getValues()} represents a set of values linked with the
  *     above property to a {@link Axiom.Ground}, not specified here.
  *     For this class, ({@link #getValues()}) returns elements of {@link Literals} type.
+ *     <br>
+ *     A single {@code int}, {@code long}, {@code double} or {@code boolean} value can also be
+ *     set, got and summed (e.g., {@link #setInt(int)}, {@link #getInt()} and {@link #sumInt(int)})
+ *     without creating an {@link OWLLiteral} for each change. Such a value is stored as a
+ *     primitive, and it is converted into the only element of a singleton {@link #getValues()}
+ *     when the values are required, e.g., when {@link Axiom.Descriptor#writeAxioms()} compares them
+ *     with the ontology. The conversion is the same of
+ *     {@link it.emarolab.amor.owlInterface.OWLReferences#getOWLLiteral(Object)}, except for
+ *     {@code double} values, which are represented as {@code xsd:double} (instead of {@code xsd:float})
+ *     in order to do not lose precision.
  * </p>
  *
  * <p>
@@ -30,8 +43,14 @@ import java.util.Set;
 public class DataLinks
         implements Axiom.ExpressionEntity<OWLDataProperty, OWLLiteral> {
 
+    private static final OWLDataFactory FACTORY = OWLManager.getOWLDataFactory();
+    // the types of the primitive value that has not been converted into a literal yet
+    private static final byte NONE = 0, INT = 1, LONG = 2, DOUBLE = 3, BOOLEAN = 4;
+
     private OWLDataProperty semantic;
     private Literals literals;
+    private byte primitiveType = NONE;
+    private long primitiveBits; // the integer value, the bits of the double value, or 1 for true
 
     /**
      * Initialise this object to have {@code null} {@link #getExpression()} and empty {@link #getValues()}.
@@ -115,11 +134,162 @@ public class DataLinks
         this.semantic = semantic;
     }
 
-    @Override // see super class for documentation
+    /**
+     * Returns the values of this {@link Axiom.ExpressionEntity}. If a primitive value has been
+     * set (e.g., through {@link #setInt(int)}), it is converted into the only element of the returned set,
+     * which is also made {@link Literals#isSingleton()}.
+     * @return the literals of {@code this} data property.
+     */
+    @Override
     public Literals getValues() {
+        if ( primitiveType != NONE) {
+            OWLLiteral literal = getPrimitiveLiteral();
+            primitiveType = NONE;
+            literals.clear();
+            literals.setSingleton( true);
+            literals.add( literal);
+        }
         return literals;
     }
 
+    // converts the primitive value as OWLReferences.getOWLLiteral(Object) does, but with double literals
+    private OWLLiteral getPrimitiveLiteral(){
+        switch ( primitiveType){
+            case INT: return FACTORY.getOWLLiteral( (int) primitiveBits);
+            case LONG: return FACTORY.getOWLLiteral( String.valueOf( primitiveBits),
+                    FACTORY.getOWLDatatype( OWL2Datatype.XSD_LONG.getIRI()));
+            case DOUBLE: return FACTORY.getOWLLiteral( Double.longBitsToDouble( primitiveBits));
+            default: return FACTORY.getOWLLiteral( primitiveBits != 0);
+        }
+    }
+
+    /**
+     * @return {@code true} if a primitive value has been set and it has not been converted into a literal yet.
+     */
+    public boolean hasPrimitiveValue(){
+        return primitiveType != NONE;
+    }
+
+    /**
+     * Sets the only value of this {@link Axiom.ExpressionEntity}, which is converted into an {@code xsd:integer}
+     * literal only when {@link #getValues()} is called.
+     * @param value the new value.
+     */
+    public void setInt(int value){
+        primitiveType = INT;
+        primitiveBits = value;
+    }
+    /**
+     * Sets the only value of this {@link Axiom.ExpressionEntity}, which is converted into an {@code xsd:long}
+     * literal only when {@link #getValues()} is called.
+     * @param value the new value.
+     */
+    public void setLong(long value){
+        primitiveType = LONG;
+        primitiveBits = value;
+    }
+    /**
+     * Sets the only value of this {@link Axiom.ExpressionEntity}, which is converted into an {@code xsd:double}
+     * literal only when {@link #getValues()} is called.
+     * @param value the new value.
+     */
+    public void setDouble(double value){
+        primitiveType = DOUBLE;
+        primitiveBits = Double.doubleToLongBits( value);
+    }
+    /**
+     * Sets the only value of this {@link Axiom.ExpressionEntity}, which is converted into an {@code xsd:boolean}
+     * literal only when {@link #getValues()} is called.
+     * @param value the new value.
+     */
+    public void setBoolean(boolean value){
+        primitiveType = BOOLEAN;
+        primitiveBits = value ? 1 : 0;
+    }
+
+    /**
+     * Returns the primitive value that has been set, or it parses one of the {@link #getValues()}.
+     * @return the value as an {@code int}, or {@code 0} if there are no values.
+     */
+    public int getInt(){
+        switch ( primitiveType){
+            case NONE: OWLLiteral l = getLiteral(); return l == null ? 0 : l.parseInteger();
+            case DOUBLE: return (int) Double.longBitsToDouble( primitiveBits);
+            default: return (int) primitiveBits;
+        }
+    }
+    /**
+     * Returns the primitive value that has been set, or it parses one of the {@link #getValues()}.
+     * @return the value as a {@code long}, or {@code 0} if there are no values.
+     */
+    public long getLong(){
+        switch ( primitiveType){
+            case NONE: OWLLiteral l = getLiteral(); return l == null ? 0 : Long.parseLong( l.getLiteral());
+            case DOUBLE: return (long) Double.longBitsToDouble( primitiveBits);
+            default: return primitiveBits;
+        }
+    }
+    /**
+     * Returns the primitive value that has been set, or it parses one of the {@link #getValues()}.
+     * @return the value as a {@code double}, or {@code 0} if there are no values.
+     */
+    public double getDouble(){
+        switch ( primitiveType){
+            case NONE: OWLLiteral l = getLiteral(); return l == null ? 0 : l.parseDouble();
+            case DOUBLE: return Double.longBitsToDouble( primitiveBits);
+            default: return primitiveBits;
+        }
+    }
+    /**
+     * Returns the primitive value that has been set, or it parses one of the {@link #getValues()}.
+     * @return the value as a {@code boolean}, or {@code false} if there are no values.
+     */
+    public boolean getBoolean(){
+        switch ( primitiveType){
+            case NONE: OWLLiteral l = getLiteral(); return l != null && l.parseBoolean();
+            case DOUBLE: return Double.longBitsToDouble( primitiveBits) != 0;
+            default: return primitiveBits != 0;
+        }
+    }
+
+    // one of the literals (the only one for singleton values)
+    private OWLLiteral getLiteral(){
+        for ( OWLLiteral l : literals)
+            return l;
+        return null;
+    }
+
+    /**
+     * Adds the given quantity to the value given by {@link #getInt()}, and sets the result.
+     * @param delta the quantity to add.
+     * @return the new value.
+     */
+    public int sumInt(int delta){
+        int value = getInt() + delta;
+        setInt( value);
+        return value;
+    }
+    /**
+     * Adds the given quantity to the value given by {@link #getLong()}, and sets the result.
+     * @param delta the quantity to add.
+     * @return the new value.
+     */
+    public long sumLong(long delta){
+        long value = getLong() + delta;
+        setLong( value);
+        return value;
+    }
+    /**
+     * Adds the given quantity to the value given by {@link #getDouble()}, and sets the result.
+     * @param delta the quantity to add.
+     * @return the new value.
+     */
+    public double sumDouble(double delta){
+        double value = getDouble() + delta;
+        setDouble( value);
+        return value;
+    }
+
     @Override // see super class for documentation
     public DataLinks getNewData(Set<OWLLiteral> values) {
         return new DataLinks( semantic, values);
@@ -131,7 +301,7 @@ public class DataLinks
         if (!(o instanceof DataLinks)) return false;
         DataLinks morSemanticData = (DataLinks) o;
         return Objects.equal(getExpression(), morSemanticData.getExpression()) &&
-                Objects.equal(literals, morSemanticData.literals);
+                Objects.equal(getValues(), morSemanticData.getValues());
     }
 
     @Override // see super class for documentation
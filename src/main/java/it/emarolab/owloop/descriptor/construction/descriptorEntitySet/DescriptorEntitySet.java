@@ -6,9 +6,7 @@ import it.emarolab.amor.owlInterface.SemanticRestriction;
 import it.emarolab.owloop.core.*;
 import org.semanticweb.owlapi.model.*;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 /**
  * This interface contains classes that can be used to instantiate EntitySets containing
@@ -36,6 +34,444 @@ import java.util.Set;
  */
 public interface DescriptorEntitySet extends Axiom {
 
+    /**
+     * An {@link EntitySet} that can record the elements added and removed since its last synchronisation.
+     * <p>
+     *     When journaling is enabled (see {@link #setJournaling(boolean)}), the set records its changes
+     *     in an {@link EntityJournal}. The descriptors use it to write the changes made to the set
+     *     without querying the ontology, provided that the ontology did not change since the last
+     *     synchronisation of the set (see
+     *     {@link it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGround#synchroniseTo(EntitySet, java.util.function.Supplier)}).
+     *     Journaling is disabled by default.
+     * </p>
+     *
+     * @param <T> the type of the axiom to collect.
+     */
+    interface JournaledEntitySet<T>
+            extends EntitySet<T> {
+
+        /**
+         * @return the journal of the changes of this set, {@code null} if journaling is not enabled.
+         */
+        EntityJournal<T> getJournal();
+
+        /**
+         * Enables or disables the recording of the changes of this set.
+         * When it is enabled, the journal is not valid until this set is synchronised with the ontology.
+         * @param journaling set to {@code true} to record the changes of this set.
+         */
+        void setJournaling(boolean journaling);
+
+        /**
+         * @return {@code true} if the changes of this set are recorded.
+         */
+        default boolean isJournaling(){
+            return getJournal() != null;
+        }
+    }
+
+    /**
+     * An {@link EntitySet} that counts the times its elements are added or removed.
+     * <p>
+     *     The descriptors use the count to know whether their internal state changed since their last
+     *     reading, without comparing all the elements (see
+     *     {@link it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGround#readChangedAxioms(java.util.function.Supplier, Collection[])}).
+     *     The count of an {@link ExpressionEntitySet} does not consider the changes of the values of its elements,
+     *     which should be counted by their own {@link ExpressionEntity#getValues()}.
+     * </p>
+     *
+     * @param <T> the type of the axiom to collect.
+     */
+    interface CountedEntitySet<T>
+            extends EntitySet<T> {
+
+        /**
+         * @return the number of times that elements have been added to or removed from this set (it might overflow).
+         */
+        int getModifications();
+    }
+
+    /**
+     * The elements added and removed to a {@link JournaledEntitySet} since its last synchronisation.
+     * <p>
+     *     An element that is added and then removed (or vice versa) is not recorded. The journal is valid
+     *     only if it has been synchronised when the ontology had a given number of changes (see
+     *     {@link #synchronised(long)}), and it becomes invalid as soon as the ontology changes for
+     *     other reasons (see {@link #isValid(long)}). This class is not thread safe.
+     * </p>
+     *
+     * @param <T> the type of the axiom to collect.
+     */
+    class EntityJournal<T> {
+
+        private final Set<T> added = new HashSet<>(), removed = new HashSet<>();
+        private long synchronisedChanges = -1; // the changes of the ontology when synchronised, -1 if invalid
+
+        private EntityJournal() {
+        }
+
+        private void recordAdd(T t){
+            if ( ! removed.remove( t))
+                added.add( t);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void recordRemove(Object o){
+            if ( ! added.remove( o))
+                removed.add( (T) o);
+        }
+
+        // records the elements removed through the given iterator
+        private Iterator<T> recording(Iterator<T> iterator){
+            return new Iterator<T>() {
+                private T last;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    return last = iterator.next();
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    recordRemove( last);
+                }
+            };
+        }
+
+        /**
+         * @return the elements added since the last synchronisation (read-only).
+         */
+        public Set<T> getAdded() {
+            return Collections.unmodifiableSet( added);
+        }
+
+        /**
+         * @return the elements removed since the last synchronisation (read-only).
+         */
+        public Set<T> getRemoved() {
+            return Collections.unmodifiableSet( removed);
+        }
+
+        /**
+         * @return {@code true} if no elements have been added or removed since the last synchronisation.
+         */
+        public boolean isEmpty(){
+            return added.isEmpty() && removed.isEmpty();
+        }
+
+        // a copy of the added (or removed) elements
+        private Set<T> getChanged(boolean added){
+            return new HashSet<>( added ? this.added : this.removed);
+        }
+
+        /**
+         * @param state the journaled set.
+         * @return the elements of the given set that have not been added since the last synchronisation.
+         */
+        public Set<T> getUnchanged(Collection<? extends T> state){
+            Set<T> unchanged = new HashSet<>( state);
+            unchanged.removeAll( added);
+            return unchanged;
+        }
+
+        /**
+         * @return the number of changes of the ontology at the last synchronisation, {@code -1} if it is not valid.
+         */
+        public long getSynchronisedChanges() {
+            return synchronisedChanges;
+        }
+
+        /**
+         * @param changes the actual number of changes of the ontology.
+         * @return {@code true} if the ontology did not change since the last synchronisation.
+         */
+        public boolean isValid(long changes){
+            return synchronisedChanges >= 0 && synchronisedChanges == changes;
+        }
+
+        /**
+         * Clears the recorded changes, since the set has been synchronised with the ontology.
+         * @param changes the number of changes of the ontology when the set has been synchronised.
+         */
+        public void synchronised(long changes){
+            added.clear();
+            removed.clear();
+            synchronisedChanges = changes;
+        }
+
+        /**
+         * Updates the number of changes of the ontology at the last synchronisation, if it is equal to
+         * the given number. It is used when the ontology has been changed by the same descriptor.
+         * @param before the number of changes before the descriptor changed the ontology.
+         * @param after the number of changes after the descriptor changed the ontology.
+         */
+        public void advance(long before, long after){
+            if ( synchronisedChanges >= 0 && synchronisedChanges == before)
+                synchronisedChanges = after;
+        }
+
+        /**
+         * Records the inverse of the given changes, which will be done to the set for synchronising it
+         * with the ontology. Therefore, they will not be recorded when done.
+         * @param toAdd the elements that will be added to the set.
+         * @param toRemove the elements that will be removed from the set.
+         */
+        public void expect(Collection<? extends T> toAdd, Collection<? extends T> toRemove){
+            removed.addAll( toAdd);
+            added.addAll( toRemove);
+        }
+
+        /**
+         * Clears the recorded changes and makes the journal not valid until the next synchronisation.
+         */
+        public void invalidate(){
+            synchronised( -1);
+        }
+
+        @Override
+        public String toString() {
+            return "{added=" + added +
+                    ", removed=" + removed +
+                    ", synchronisedChanges=" + synchronisedChanges +
+                    '}';
+        }
+    }
+
+    /**
+     * The values added and removed to each expression of a {@link ExpressionEntitySet} since its last synchronisation.
+     * <p>
+     *     Since the values of an {@link ExpressionEntity} can change while it is in the set, this journal records the
+     *     added and removed values for each property (see {@link ExpressionEntity#getExpression()}), and
+     *     {@link #getAdded()} and {@link #getRemoved()} give a new {@link ExpressionEntity} for each changed property,
+     *     with only the added or removed values. The values of the elements that are added to or removed from the set
+     *     are recorded by this journal, while the changes of the values of the elements in the set (e.g., through
+     *     {@link IndexedExpressionEntitySetBase#getLinks(OWLProperty)} or {@link DataLinks#setInt(int)}) are recorded by
+     *     the {@link JournaledEntitySet} of their values, whose journaling is enabled while they are in the set.
+     *     If the values of an element are not a {@link JournaledEntitySet}, or if an element has been removed
+     *     through the iterator of the set, the journal is not valid (see {@link #isValid(long)}).
+     *     This class is not thread safe.
+     * </p>
+     *
+     * @param <X> the type of {@link ExpressionEntity} to collect.
+     * @param <S> the type of expression (i.e.: the property).
+     * @param <A> the type of values associated to the expression.
+     */
+    class ExpressionJournal<X extends ExpressionEntity<S,A>,S,A>
+            extends EntityJournal<X> {
+
+        private final CountedEntitySet<X> set;
+        private final Map<S,EntityJournal<A>> links = new HashMap<>(); // the values of the elements added and removed, by property
+        private final Map<S,X> elements = new HashMap<>(); // an element of each property in links, to create the changes
+        private int setModifications;
+
+        private ExpressionJournal(CountedEntitySet<X> set) {
+            this.set = set;
+            for ( X x : set)
+                journalValues( x, true);
+            setModifications = set.getModifications();
+        }
+
+        // the journal of the values of the given element, null if they are not journaled
+        @SuppressWarnings("unchecked")
+        private EntityJournal<A> getValuesJournal(X element){
+            EntitySet<A> values = element.getValues();
+            if ( values instanceof JournaledEntitySet)
+                return ( (JournaledEntitySet<A>) values).getJournal();
+            return null;
+        }
+
+        // enables (and clears) or disables the journal of the values of the given element
+        @SuppressWarnings("unchecked")
+        private void journalValues(X element, boolean journaling){
+            EntitySet<A> values = element.getValues();
+            if ( values instanceof JournaledEntitySet) {
+                JournaledEntitySet<A> journaled = (JournaledEntitySet<A>) values;
+                journaled.setJournaling( journaling);
+                if ( journaling)
+                    journaled.getJournal().invalidate(); // only its added and removed values are used
+            }
+        }
+
+        // disables the journals of the values of the elements in the set
+        private void stop(){
+            for ( X x : set)
+                journalValues( x, false);
+        }
+
+        // the journal of the values of the elements of the given property that have been added and removed
+        private EntityJournal<A> getLinks(X element){
+            elements.putIfAbsent( element.getExpression(), element);
+            return links.computeIfAbsent( element.getExpression(), k -> new EntityJournal<>());
+        }
+
+        // records that the given element has been added to the set
+        private void recordAdded(X element){
+            EntityJournal<A> journal = getLinks( element);
+            for ( A a : element.getValues())
+                journal.recordAdd( a);
+            journalValues( element, true);
+            setModifications = set.getModifications();
+        }
+
+        // records that the given element has been removed from the set
+        private void recordRemoved(X element){
+            EntityJournal<A> journal = getLinks( element);
+            EntityJournal<A> values = getValuesJournal( element);
+            if ( values != null) { // the changes made while the element was in the set
+                for ( A a : values.added)
+                    journal.recordAdd( a);
+                for ( A a : values.removed)
+                    journal.recordRemove( a);
+            }
+            journalValues( element, false);
+            for ( A a : element.getValues())
+                journal.recordRemove( a);
+            setModifications = set.getModifications();
+        }
+
+        // records that all the elements of the set are going to be removed
+        private void recordCleared(){
+            for ( X x : set)
+                recordRemoved( x);
+        }
+
+        // the changes of the values of the given property, including the ones of the element in the set
+        private EntityJournal<A> getChanges(S property, X element){
+            EntityJournal<A> changes = new EntityJournal<>();
+            EntityJournal<A> journal = links.get( property);
+            if ( journal != null) {
+                changes.added.addAll( journal.added);
+                changes.removed.addAll( journal.removed);
+            }
+            EntityJournal<A> values = element != null ? getValuesJournal( element) : null;
+            if ( values != null) {
+                for ( A a : values.added)
+                    changes.recordAdd( a);
+                for ( A a : values.removed)
+                    changes.recordRemove( a);
+            }
+            return changes;
+        }
+
+        // the changes of each property, with the added (or removed) values
+        @SuppressWarnings("unchecked")
+        private Set<X> getChanges(boolean added){
+            Set<X> changes = new HashSet<>();
+            Set<S> properties = new HashSet<>( links.keySet());
+            for ( X x : set) {
+                properties.remove( x.getExpression());
+                Set<A> values = getChanges( x.getExpression(), x).getChanged( added);
+                if ( ! values.isEmpty())
+                    changes.add( (X) x.getNewData( values));
+            }
+            for ( S p : properties) { // the properties that are not in the set anymore
+                Set<A> values = getChanges( p, null).getChanged( added);
+                if ( ! values.isEmpty())
+                    changes.add( (X) elements.get( p).getNewData( values));
+            }
+            return changes;
+        }
+
+        /**
+         * @return a new element for each property whose values have been added since the last synchronisation,
+         * which contains only the added values.
+         */
+        @Override
+        public Set<X> getAdded() {
+            return getChanges( true);
+        }
+
+        /**
+         * @return a new element for each property whose values have been removed since the last synchronisation,
+         * which contains only the removed values.
+         */
+        @Override
+        public Set<X> getRemoved() {
+            return getChanges( false);
+        }
+
+        @Override // see super class for documentation
+        public boolean isEmpty(){
+            return getAdded().isEmpty() && getRemoved().isEmpty();
+        }
+
+        /**
+         * @param state the journaled set.
+         * @return a new element for each property of the given set, which contains only the values
+         * that have not been added since the last synchronisation.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Set<X> getUnchanged(Collection<? extends X> state){
+            Set<X> unchanged = new HashSet<>();
+            for ( X x : state) {
+                Set<A> added = getChanges( x.getExpression(), x).added;
+                Set<A> values = new HashSet<>();
+                for ( A a : x.getValues())
+                    if ( ! added.contains( a))
+                        values.add( a);
+                if ( ! values.isEmpty())
+                    unchanged.add( (X) x.getNewData( values));
+            }
+            return unchanged;
+        }
+
+        /**
+         * @param changes the actual number of changes of the ontology.
+         * @return {@code true} if the ontology did not change since the last synchronisation, and
+         * all the changes of the set have been recorded.
+         */
+        @Override
+        public boolean isValid(long changes){
+            if ( ! super.isValid( changes) || setModifications != set.getModifications())
+                return false;
+            for ( X x : set)
+                if ( getValuesJournal( x) == null)
+                    return false;
+            return true;
+        }
+
+        @Override // see super class for documentation
+        public void synchronised(long changes){
+            super.synchronised( changes);
+            links.clear();
+            elements.clear();
+            for ( X x : set)
+                journalValues( x, true);
+            setModifications = set.getModifications();
+        }
+
+        /**
+         * Records the inverse of the given changes, which will be done to the values of the set for synchronising it
+         * with the ontology. Therefore, they will not be recorded when done.
+         * @param toAdd the elements whose values will be added to the set.
+         * @param toRemove the elements whose values will be removed from the set.
+         */
+        @Override
+        public void expect(Collection<? extends X> toAdd, Collection<? extends X> toRemove){
+            for ( X x : toAdd)
+                for ( A a : x.getValues())
+                    getLinks( x).removed.add( a);
+            for ( X x : toRemove)
+                for ( A a : x.getValues())
+                    getLinks( x).added.add( a);
+        }
+
+        @Override
+        public String toString() {
+            return "{added=" + getAdded() +
+                    ", removed=" + getRemoved() +
+                    ", synchronisedChanges=" + getSynchronisedChanges() +
+                    '}';
+        }
+    }
+
     /**
      * Base interface for all the {@link DescriptorEntitySet} that extends {@link EntitySet}.
      * <p>
@@ -47,13 +483,16 @@ public interface DescriptorEntitySet extends Axiom {
      */
     class EntitySetBase<T>
             extends HashSet<T>
-            implements EntitySet<T> {
+            implements JournaledEntitySet<T>, CountedEntitySet<T> {
 
         /**
          * the actual singleton flagging value. Constructing value is set to {@code false}.
          */
         protected boolean singleton = false;
 
+        private EntityJournal<T> journal = null; // not null only while journaling
+        private int modifications = 0;
+
         /**
          * Instantiate this {@link EntitySet} as an empty {@link HashSet}.
          * It is not set to be a {@code singleton}.
@@ -97,6 +536,82 @@ public interface DescriptorEntitySet extends Axiom {
             this.singleton = singleton;
         }
 
+        @Override // see JournaledEntitySet for documentation
+        public EntityJournal<T> getJournal() {
+            return journal;
+        }
+
+        @Override // see JournaledEntitySet for documentation
+        public void setJournaling(boolean journaling) {
+            if ( journaling != ( journal != null))
+                journal = journaling ? new EntityJournal<>() : null;
+        }
+
+        @Override // see CountedEntitySet for documentation
+        public int getModifications() {
+            return modifications;
+        }
+
+        @Override
+        public boolean add(T t) {
+            boolean added = super.add( t);
+            if ( added) {
+                modifications++;
+                if ( journal != null)
+                    journal.recordAdd( t);
+            }
+            return added;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            boolean removed = super.remove( o);
+            if ( removed) {
+                modifications++;
+                if ( journal != null)
+                    journal.recordRemove( o);
+            }
+            return removed;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> iterator = countingIterator( super.iterator());
+            if ( journal != null)
+                return journal.recording( iterator);
+            return iterator;
+        }
+
+        // counts the elements removed through the given iterator
+        private Iterator<T> countingIterator(Iterator<T> iterator){
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    modifications++;
+                }
+            };
+        }
+
+        @Override
+        public void clear() {
+            if ( journal != null)
+                for ( T t : this)
+                    journal.recordRemove( t);
+            if ( ! isEmpty())
+                modifications++;
+            super.clear();
+        }
 
         @Override
         public String toString() {
@@ -155,6 +670,316 @@ public interface DescriptorEntitySet extends Axiom {
         }
     }
 
+    /**
+     * A compact implementation of {@link EntitySet}, for sets that usually contain few elements.
+     * <p>
+     *     It has the same semantics of {@link EntitySetBase} but, up to {@link #HASHING_THRESHOLD}
+     *     elements, it stores them in an array, which is linearly scanned. This avoids the memory
+     *     overhead of the entries of an {@link HashSet}, which dominates for sets with few elements.
+     *     When more elements are added, they are moved into an {@link HashSet}, which is used until the set
+     *     is cleared. Also, the set is directly backed by an {@link HashSet} if it is constructed with
+     *     more than {@link #HASHING_THRESHOLD} elements (or with a larger initial capacity).
+     *     <br>
+     *     Until it is hashed, the elements are iterated in the order in which they have been added.
+     * </p>
+     *
+     * @param <T> the type of the axiom to collect.
+     */
+    class CompactEntitySetBase<T>
+            extends AbstractSet<T>
+            implements JournaledEntitySet<T>, CountedEntitySet<T> {
+
+        /**
+         * The maximum number of elements stored in an array (linearly scanned) instead than in an {@link HashSet}.
+         */
+        public static final int HASHING_THRESHOLD = 8;
+
+        /**
+         * the actual singleton flagging value. Constructing value is set to {@code false}.
+         */
+        protected boolean singleton = false;
+
+        private Object[] elements = null; // null if empty or hashed
+        private int size = 0;
+        private HashSet<T> hashed = null; // not null above the threshold
+        private int modifications = 0;
+        private EntityJournal<T> journal = null; // not null only while journaling
+
+        /**
+         * Instantiate this {@link EntitySet} as an empty set.
+         * It is not set to be a {@code singleton}.
+         */
+        public CompactEntitySetBase() {
+        }
+        /**
+         * Instantiate this {@link EntitySet} containing the given value.
+         * It is not set to be {@code singleton}.
+         * @param c the element with which populate the set.
+         */
+        public CompactEntitySetBase(Collection<? extends T> c) {
+            if ( c.size() > HASHING_THRESHOLD)
+                hashed = new HashSet<>( c);
+            else addAll( c);
+        }
+        /**
+         * Instantiate this {@link EntitySet} with a given initial size and load factor,
+         * which are used only if the set is initially hashed.
+         * It is not set to be {@code singleton}.
+         * @param initialCapacity the initial capacity of the set.
+         * @param loadFactor the load factor of the {@link HashSet}.
+         */
+        public CompactEntitySetBase(int initialCapacity, float loadFactor) {
+            if ( initialCapacity > HASHING_THRESHOLD)
+                hashed = new HashSet<>( initialCapacity, loadFactor);
+        }
+        /**
+         * Instantiate this {@link EntitySet} with a given initial size.
+         * It is not set to be {@code singleton}.
+         * @param initialCapacity the initial capacity of the set.
+         */
+        public CompactEntitySetBase(int initialCapacity) {
+            if ( initialCapacity > HASHING_THRESHOLD)
+                hashed = new HashSet<>( initialCapacity);
+            else if ( initialCapacity > 0)
+                elements = new Object[ initialCapacity];
+        }
+
+        @Override // see Axiom.EntitySet for documentation
+        public boolean isSingleton() {
+            return singleton;
+        }
+
+        @Override // see Axiom.EntitySet for documentation
+        public void setSingleton(boolean singleton) {
+            this.singleton = singleton;
+        }
+
+        @Override // see JournaledEntitySet for documentation
+        public EntityJournal<T> getJournal() {
+            return journal;
+        }
+
+        @Override // see JournaledEntitySet for documentation
+        public void setJournaling(boolean journaling) {
+            if ( journaling != ( journal != null))
+                journal = journaling ? new EntityJournal<>() : null;
+        }
+
+        @Override // see CountedEntitySet for documentation
+        public int getModifications() {
+            return modifications;
+        }
+
+        private int indexOf(Object o){
+            for ( int i = 0; i < size; i++)
+                if ( java.util.Objects.equals( elements[ i], o))
+                    return i;
+            return -1;
+        }
+
+        private void removeAt(int i){
+            modifications++;
+            int moved = size - i - 1;
+            if ( moved > 0)
+                System.arraycopy( elements, i + 1, elements, i, moved);
+            elements[ --size] = null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean add(T t) {
+            if ( journal != null) {
+                if ( contains( t))
+                    return false;
+                journal.recordAdd( t);
+            }
+            if ( hashed != null) {
+                if ( ! hashed.add( t))
+                    return false;
+                modifications++;
+                return true;
+            }
+            if ( indexOf( t) >= 0)
+                return false;
+            modifications++;
+            if ( size == HASHING_THRESHOLD) { // switch to hashing
+                hashed = new HashSet<>( HASHING_THRESHOLD * 4);
+                for ( int i = 0; i < size; i++)
+                    hashed.add( (T) elements[ i]);
+                hashed.add( t);
+                elements = null;
+                size = 0;
+                return true;
+            }
+            if ( elements == null)
+                elements = new Object[ 2];
+            else if ( size == elements.length)
+                elements = Arrays.copyOf( elements, Math.min( elements.length * 2, HASHING_THRESHOLD));
+            elements[ size++] = t;
+            return true;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            boolean removed;
+            if ( hashed != null) {
+                removed = hashed.remove( o);
+                if ( removed)
+                    modifications++;
+            } else {
+                int i = indexOf( o);
+                removed = i >= 0;
+                if ( removed)
+                    removeAt( i);
+            }
+            if ( removed && journal != null)
+                journal.recordRemove( o);
+            return removed;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if ( hashed != null)
+                return hashed.contains( o);
+            return indexOf( o) >= 0;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            if ( journal != null)
+                return journal.recording( compactIterator());
+            return compactIterator();
+        }
+
+        private Iterator<T> compactIterator() {
+            if ( hashed != null) {
+                Iterator<T> iterator = hashed.iterator();
+                return new Iterator<T>() { // counts the removed elements
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public T next() {
+                        return iterator.next();
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                        modifications++;
+                    }
+                };
+            }
+            return new Iterator<T>() {
+                private int cursor = 0, last = -1, expected = modifications;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < size;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if ( expected != modifications)
+                        throw new ConcurrentModificationException();
+                    if ( cursor >= size)
+                        throw new NoSuchElementException();
+                    last = cursor++;
+                    return (T) elements[ last];
+                }
+
+                @Override
+                public void remove() {
+                    if ( last < 0)
+                        throw new IllegalStateException();
+                    if ( expected != modifications)
+                        throw new ConcurrentModificationException();
+                    removeAt( last);
+                    cursor = last;
+                    last = -1;
+                    expected = modifications;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            if ( hashed != null)
+                return hashed.size();
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            if ( journal != null)
+                for ( T t : this)
+                    journal.recordRemove( t);
+            modifications++;
+            elements = null;
+            size = 0;
+            hashed = null;
+        }
+
+        @Override
+        public String toString() {
+            String out = "{";
+            int cnt = size();
+            for ( T l : this) {
+                out += l;
+                if ( cnt-- > 1)
+                    out += ", ";
+            }
+            out += "}";
+            if ( isSingleton())
+                out += "(singleton)";
+            return out;
+        }
+    }
+
+    /**
+     * An extension of {@link CompactEntitySetBase} for type extending {@link OWLObject}.
+     * <p>
+     *     This class only override the {@link CompactEntitySetBase#toString()} method,
+     *     as {@link OWLEntitySetBase} does. Refer to the super class for documentation
+     *     (constructors only call {@code super(..)}).
+     * </p>
+     *
+     * @param <T> the type of the axiom to collect.
+     */
+    class CompactOWLEntitySetBase<T extends OWLObject>
+            extends CompactEntitySetBase<T> {
+
+        public CompactOWLEntitySetBase() {
+        }
+        public CompactOWLEntitySetBase(Collection<? extends T> c) {
+            super(c);
+        }
+        public CompactOWLEntitySetBase(int initialCapacity, float loadFactor) {
+            super(initialCapacity, loadFactor);
+        }
+        public CompactOWLEntitySetBase(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        @Override
+        public String toString() {
+            String out = "{";
+            int cnt = size();
+            for ( T l : this) {
+                out += OWLReferencesInterface.getOWLName( l);
+                if ( cnt-- > 1)
+                    out += ", ";
+            }
+            out += "}";
+            if ( isSingleton())
+                out += "(singleton)";
+            return out;
+        }
+    }
+
     /**
      * The base implementation for the {@link ExpressionEntitySet}.
      * <p>
@@ -182,6 +1007,29 @@ public interface DescriptorEntitySet extends Axiom {
             super(initialCapacity);
         }
 
+        private ExpressionJournal<X,S,A> journal = null; // not null only while journaling
+
+        /**
+         * @return the journal of the values added and removed to each property of this set
+         * (see {@link ExpressionJournal}), {@code null} if journaling is not enabled.
+         */
+        @Override
+        public ExpressionJournal<X,S,A> getJournal() {
+            return journal;
+        }
+
+        @Override // see JournaledEntitySet for documentation
+        public void setJournaling(boolean journaling) {
+            if ( journaling == ( journal != null))
+                return;
+            if ( journaling)
+                journal = new ExpressionJournal<>( this);
+            else {
+                journal.stop();
+                journal = null;
+            }
+        }
+
         /**
          * Searches in the {@link ExpressionEntity} for the given property and
          * returns all its values.
@@ -241,7 +1089,10 @@ public interface DescriptorEntitySet extends Axiom {
                     return d.getValues().addAll( dataSemantic.getValues());
                 }
 
-            return super.add( dataSemantic);
+            boolean added = super.add( dataSemantic);
+            if ( added && journal != null)
+                journal.recordAdded( dataSemantic);
+            return added;
         }
 
         /**
@@ -257,9 +1108,9 @@ public interface DescriptorEntitySet extends Axiom {
         public boolean remove(Object o) {
             for (X d : this){//.set) {
                 if (d.equals(o))
-                    return super.remove(d);
+                    return removeElement(d);
                 if (d.getExpression().equals(o))
-                    return super.remove(d);
+                    return removeElement(d);
                 if( o instanceof  ObjectLinks) {
                     ObjectLinks objLink = (ObjectLinks) o;
                     if (d.getExpression().equals( objLink.getExpression())) {
@@ -269,6 +1120,21 @@ public interface DescriptorEntitySet extends Axiom {
             }
             return false;
         }
+        private boolean removeElement(X d){
+            boolean removed = super.remove( d);
+            if ( removed && journal != null)
+                journal.recordRemoved( d);
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            if ( journal != null)
+                journal.recordCleared();
+            super.clear();
+            if ( journal != null)
+                journal.setModifications = getModifications();
+        }
 
         @Override
         public String toString() {
@@ -278,4 +1144,262 @@ public interface DescriptorEntitySet extends Axiom {
             return out;
         }
     }
+
+    /**
+     * An implementation of the {@link ExpressionEntitySet} indexed by expression.
+     * <p>
+     *     It has the same adding and removing semantics of {@link ExpressionEntitySetBase}
+     *     but, instead of scanning all the elements, it maps each expression (i.e.: data or
+     *     object property) to the {@link ExpressionEntity} that describes it. Therefore,
+     *     looking for, adding and removing the values of a property take a constant time.
+     *     Since this set never contains two elements with the same expression, the
+     *     {@link ExpressionEntity} should not change its expression while it is in the set.
+     *     <br>
+     *     As for {@link CompactEntitySetBase}, the index is stored in arrays while it contains up to
+     *     {@link CompactEntitySetBase#HASHING_THRESHOLD} expressions, and it is hashed otherwise.
+     *     When journaling is enabled, the values added and removed to each expression are recorded
+     *     in an {@link ExpressionJournal}.
+     * </p>
+     *
+     * @param <X> the type of {@link ExpressionEntity} to collect.
+     * @param <S> the type of expression (i.e.: the property).
+     * @param <A> the type of values associated to the expression.
+     */
+    abstract class IndexedExpressionEntitySetBase<X extends ExpressionEntity<S,A>,S extends OWLProperty,A>
+            extends AbstractSet<X>
+            implements ExpressionEntitySet<X,A>, JournaledEntitySet<X>, CountedEntitySet<X> {
+
+        private CompactIndex<S,X> index; // compact while it contains few expressions
+        private boolean singleton = false;
+        private ExpressionJournal<X,S,A> journal = null; // not null only while journaling
+
+        /**
+         * Instantiate this {@link EntitySet} as an empty set.
+         * It is not set to be a {@code singleton}.
+         */
+        public IndexedExpressionEntitySetBase() {
+            index = new CompactIndex<>();
+        }
+        /**
+         * Instantiate this {@link EntitySet} containing the given value.
+         * Elements with the same expression are merged as in {@link #add(ExpressionEntity)}.
+         * It is not set to be {@code singleton}.
+         * @param c the element with which populate the set.
+         */
+        public IndexedExpressionEntitySetBase(Collection<? extends X> c) {
+            index = new CompactIndex<>( c.size());
+            addAll( c);
+        }
+        /**
+         * Instantiate this {@link EntitySet} with a given initial size and load factor of its index.
+         * It is not set to be {@code singleton}.
+         * @param initialCapacity the initial capacity of the expressions index.
+         * @param loadFactor the load factor of the expressions index.
+         */
+        public IndexedExpressionEntitySetBase(int initialCapacity, float loadFactor) {
+            index = new CompactIndex<>( initialCapacity, loadFactor);
+        }
+        /**
+         * Instantiate this {@link EntitySet} with a given initial size of its index.
+         * It is not set to be {@code singleton}.
+         * @param initialCapacity the initial capacity of the expressions index.
+         */
+        public IndexedExpressionEntitySetBase(int initialCapacity) {
+            index = new CompactIndex<>( initialCapacity);
+        }
+
+        @Override // see Axiom.EntitySet for documentation
+        public boolean isSingleton() {
+            return singleton;
+        }
+
+        @Override // see Axiom.EntitySet for documentation
+        public void setSingleton(boolean singleton) {
+            this.singleton = singleton;
+        }
+
+        @Override // see CountedEntitySet for documentation
+        public int getModifications() {
+            return index.getModifications();
+        }
+
+        /**
+         * @return the journal of the values added and removed to each property of this set
+         * (see {@link ExpressionJournal}), {@code null} if journaling is not enabled.
+         */
+        @Override
+        public ExpressionJournal<X,S,A> getJournal() {
+            return journal;
+        }
+
+        @Override // see JournaledEntitySet for documentation
+        public void setJournaling(boolean journaling) {
+            if ( journaling == ( journal != null))
+                return;
+            if ( journaling)
+                journal = new ExpressionJournal<>( this);
+            else {
+                journal.stop();
+                journal = null;
+            }
+        }
+
+        /**
+         * Returns the {@link ExpressionEntity} that describes the given property.
+         * @param semantic the properties to look for.
+         * @return the element of this set with the given expression.
+         * {@code null} if the property is not in this set.
+         */
+        public X getEntity(S semantic){
+            return index.get( semantic);
+        }
+
+        /**
+         * Searches in the {@link ExpressionEntity} for the given property and
+         * returns all its values.
+         * @param semantic the properties to look for.
+         * @return all the synchronised values of the given property.
+         * An {@code empty} {@link EntitySet} if the values is not available.
+         */
+        public EntitySet<A> getLinks(S semantic){
+            X s = index.get( semantic);
+            if ( s != null)
+                return s.getValues();
+            return new EntitySetBase<>();
+        }
+
+        /**
+         * Searches in the {@link ExpressionEntity} for the given property and
+         * returns one of its values. It should be used with a {@link EntitySet#isSingleton()}
+         * axioms, since other values are ignored.
+         * @param semantic the properties to look for.
+         * @return one of the synchronised values of the given property.
+         * An {@code null} if the values is not available.
+         */
+        public A getLink(S semantic){
+            X s = index.get( semantic);
+            if ( s == null)
+                return null;
+            if ( ! s.getValues().isSingleton() & s.getValues().size() > 1)
+                System.out.println( " !![WARNING] Uncertainty in the element that is returned, if there is more than 1 element in the EntitySet: " + s);
+            for (A l : s.getValues())
+                return l;
+            return null;
+        }
+
+        /**
+         * If this set already contains the expression (i.e.: data or object property)
+         * of the given parameter, its values are added to the related
+         * {@link ExpressionEntity#getValues()}. Otherwise the given object is added as
+         * a new element.
+         * Note that if the input parameter describes a {@code singleton}
+         * object all the previous contents related to that semantic
+         * are deleted.
+         * @param dataSemantic the new semantic to add.
+         * @return {@code true} if this collection changed as a result of the call.
+         */
+        @Override
+        public boolean add(X dataSemantic) {
+            X d = index.get( dataSemantic.getExpression());
+            if ( d == null) {
+                index.put( dataSemantic.getExpression(), dataSemantic);
+                if ( journal != null)
+                    journal.recordAdded( dataSemantic);
+                return true;
+            }
+            if ( dataSemantic.getValues().isSingleton())
+                d.getValues().clear();
+            d.getValues().setSingleton( dataSemantic.getValues().isSingleton());
+            return d.getValues().addAll( dataSemantic.getValues());
+        }
+
+        /**
+         * It removes an entry from the {@link ExpressionEntitySet}.
+         * The input parameter can be ether the object describing the
+         * {@link ExpressionEntity} with a specific semantic and values
+         * to be removed. Or it can a property. For the latter,
+         * all the values are deleted.
+         * If an {@link ObjectLinks} is given with only some of the values
+         * of this set, only those values are removed.
+         * @param o the object to be removed.
+         * @return {@code true} if the set contained the specified element.
+         */
+        @Override
+        public boolean remove(Object o) {
+            if ( ! ( o instanceof ExpressionEntity)) {
+                X d = index.remove( o);
+                if ( d != null && journal != null)
+                    journal.recordRemoved( d);
+                return d != null;
+            }
+            X d = index.get( ((ExpressionEntity<?,?>) o).getExpression());
+            if ( d == null)
+                return false;
+            if ( d.equals( o)) {
+                index.remove( d.getExpression());
+                if ( journal != null)
+                    journal.recordRemoved( d);
+                return true;
+            }
+            if ( o instanceof ObjectLinks)
+                return d.getValues().removeAll( ((ObjectLinks) o).getValues());
+            return false;
+        }
+
+        /**
+         * Calls {@link #remove(Object)} for each element of the given collection,
+         * which can contain both {@link ExpressionEntity} and properties.
+         * @param c the objects to be removed.
+         * @return {@code true} if this set changed as a result of the call.
+         */
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            boolean modified = false;
+            for ( Object o : c)
+                modified |= remove( o);
+            return modified;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if ( ! ( o instanceof ExpressionEntity))
+                return false;
+            X d = index.get( ((ExpressionEntity<?,?>) o).getExpression());
+            return d != null && d.equals( o);
+        }
+
+        @Override
+        public Iterator<X> iterator() {
+            return index.values();
+        }
+
+        @Override
+        public int size() {
+            return index.size();
+        }
+
+        @Override
+        public void clear() {
+            if ( journal != null)
+                journal.recordCleared();
+            index.clear();
+            if ( journal != null)
+                journal.setModifications = getModifications();
+        }
+
+        @Override
+        public String toString() {
+            String out = "{";
+            int cnt = size();
+            for ( X l : this) {
+                out += l;
+                if ( cnt-- > 1)
+                    out += ", ";
+            }
+            out += "}";
+            if ( isSingleton())
+                out += "(singleton)";
+            return out;
+        }
+    }
 }
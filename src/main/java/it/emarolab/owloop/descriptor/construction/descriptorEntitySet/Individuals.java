@@ -6,7 +6,7 @@ import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import java.util.Collection;
 
 /**
- * An extension of {@link DescriptorEntitySet.EntitySetBase} for {@link OWLNamedIndividual}.
+ * An extension of {@link DescriptorEntitySet.CompactEntitySetBase} for {@link OWLNamedIndividual}.
  * <p>
  *     It represents the {@link Axiom.EntitySet} which contains OWL-Individuals.
  * </p>
@@ -21,7 +21,7 @@ import java.util.Collection;
  * </small></div>
  */
 public class Individuals
-        extends DescriptorEntitySet.OWLEntitySetBase<OWLNamedIndividual>
+        extends DescriptorEntitySet.CompactOWLEntitySetBase<OWLNamedIndividual>
         implements Axiom.EntitySet<OWLNamedIndividual> {
     public Individuals() {
     }
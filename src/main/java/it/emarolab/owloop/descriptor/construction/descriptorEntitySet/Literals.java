@@ -6,7 +6,7 @@ import org.semanticweb.owlapi.model.OWLLiteral;
 import java.util.Collection;
 
 /**
- * An extension of {@link DescriptorEntitySet.EntitySetBase} for {@link OWLLiteral}.
+ * An extension of {@link DescriptorEntitySet.CompactEntitySetBase} for {@link OWLLiteral}.
  * <p>
  *     It represent the {@link Axiom.EntitySet} which contains OWL-literals.
  * </p>
@@ -21,7 +21,7 @@ import java.util.Collection;
  * </small></div>
  */
 public class Literals
-        extends DescriptorEntitySet.OWLEntitySetBase<OWLLiteral>
+        extends DescriptorEntitySet.CompactOWLEntitySetBase<OWLLiteral>
         implements Axiom.EntitySet<OWLLiteral> {
 
     public Literals() {
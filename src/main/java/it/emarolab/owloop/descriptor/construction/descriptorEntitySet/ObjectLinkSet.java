@@ -7,7 +7,7 @@ import org.semanticweb.owlapi.model.OWLObjectProperty;
 import java.util.Collection;
 
 /**
- * An extension of {@link DescriptorEntitySet.EntitySetBase} for {@link Axiom.ExpressionEntitySet} for ObjectLinks.
+ * An extension of {@link DescriptorEntitySet.IndexedExpressionEntitySetBase} for {@link Axiom.ExpressionEntitySet} for ObjectLinks.
  * <p>
  *     It represents a set of OWL-ObjectProperties and related OWL-Individuals, as a collection of {@link ObjectLinks}.
  * </p>
@@ -22,7 +22,7 @@ import java.util.Collection;
  * </small></div>
  */
 public class ObjectLinkSet
-        extends DescriptorEntitySet.ExpressionEntitySetBase<ObjectLinks, OWLObjectProperty, OWLNamedIndividual>
+        extends DescriptorEntitySet.IndexedExpressionEntitySetBase<ObjectLinks, OWLObjectProperty, OWLNamedIndividual>
         implements Axiom.ExpressionEntitySet<ObjectLinks,OWLNamedIndividual> {
 
     public ObjectLinkSet() {
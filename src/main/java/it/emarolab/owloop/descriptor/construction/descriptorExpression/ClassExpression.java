@@ -7,6 +7,8 @@ import it.emarolab.owloop.core.Class;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Individuals;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.AssertedQueries;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.ClassTaxonomy;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
 import org.semanticweb.owlapi.model.*;
 
@@ -76,7 +78,7 @@ public interface ClassExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addIndividual(String individualName){
-            return getIndividuals().add( getOntologyReference().getOWLIndividual( individualName));
+            return getIndividuals().add( getOWLIndividual( individualName));
         }
         /**
          * It is an helper that just calls:
@@ -97,7 +99,7 @@ public interface ClassExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeIndividual(String individualName){
-            return getIndividuals().remove( getOntologyReference().getOWLIndividual( individualName));
+            return getIndividuals().remove( getOWLIndividual( individualName));
         }
         /**
          * It is an helper that just calls:
@@ -112,7 +114,8 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Individuals queryIndividuals(){
-            Individuals set = new Individuals(getOntologyReference().getIndividualB2Class(getInstance()));
+            Individuals set = new Individuals( isAssertedReading() ? AssertedQueries.getIndividualB2Class( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getIndividualB2Class(getInstance()));
             set.setSingleton( getIndividuals().isSingleton());
             return set;
         }
@@ -124,9 +127,9 @@ public interface ClassExpression
                 if (to == null)
                     return getIntent(null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLNamedIndividual a : to.getToAdd())
+                for (OWLNamedIndividual a : to.getToAddView())
                     changes.add(getOntologyReference().addIndividualB2Class(a, getInstance()));
-                for (OWLNamedIndividual b : to.getToRemove())
+                for (OWLNamedIndividual b : to.getToRemoveView())
                     changes.add(getOntologyReference().removeIndividualB2Class(b, getInstance()));
                 return getChangingIntent(to, changes);
             } catch (Exception e){
@@ -160,7 +163,7 @@ public interface ClassExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addDisjointClass(String className){
-            return getDisjointClasses().add( getOntologyReference().getOWLClass( className));
+            return getDisjointClasses().add( getOWLClass( className));
         }
         /**
          * It is an helper that just calls:
@@ -185,7 +188,7 @@ public interface ClassExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeDisjointClass(String className){
-            return getDisjointClasses().remove( getOntologyReference().getOWLClass( className));
+            return getDisjointClasses().remove( getOWLClass( className));
         }
         /**
          * It is an helper that just calls:
@@ -203,7 +206,10 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes queryDisjointClasses(){
-            Classes set = new Classes(getOntologyReference().getDisjointClasses(getInstance()));
+            ClassTaxonomy taxonomy = getClassTaxonomy();
+            Classes set = new Classes( isAssertedReading() ? AssertedQueries.getDisjointClasses( getOntologyReference().getOWLOntology(), getInstance())
+                    : taxonomy != null && taxonomy.contains( getInstance()) ? taxonomy.getDisjointClasses( getInstance())
+                    : getOntologyReference().getDisjointClasses(getInstance()));
             set.remove( getInstance());
             set.remove( getOntologyReference().getOWLFactory().getOWLNothing());
             set.setSingleton( getDisjointClasses().isSingleton());
@@ -217,14 +223,14 @@ public interface ClassExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLClass a : to.getToAdd())
+                for( OWLClass a : to.getToAddView())
                     if ( ! a.isOWLNothing()){
                         Set<OWLClass> s = new HashSet<>();
                         s.add( getInstance());
                         s.add( a);
                         changes.add( getOntologyReference().makeDisjointClasses( s));
                     }
-                for( OWLClass r : to.getToRemove()){
+                for( OWLClass r : to.getToRemoveView()){
                     Set<OWLClass> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( r);
@@ -260,7 +266,7 @@ public interface ClassExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addEquivalentClass(String className){
-            return getEquivalentClasses().add( getOntologyReference().getOWLClass( className));
+            return getEquivalentClasses().add( getOWLClass( className));
         }
         /**
          * It is an helper that just calls:
@@ -281,7 +287,7 @@ public interface ClassExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeEquivalentClass(String className){
-            return getEquivalentClasses().remove( getOntologyReference().getOWLClass( className));
+            return getEquivalentClasses().remove( getOWLClass( className));
         }
         /**
          * It is an helper that just calls:
@@ -296,7 +302,10 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes queryEquivalentClasses(){
-            Classes set = new Classes(getOntologyReference().getEquivalentClasses(getInstance()));
+            ClassTaxonomy taxonomy = getClassTaxonomy();
+            Classes set = new Classes( isAssertedReading() ? AssertedQueries.getEquivalentClasses( getOntologyReference().getOWLOntology(), getInstance())
+                    : taxonomy != null && taxonomy.contains( getInstance()) ? taxonomy.getEquivalentClasses( getInstance())
+                    : getOntologyReference().getEquivalentClasses(getInstance()));
             set.remove( getInstance());
             //set.remove( getOntology().getOWLFactory().getOWLNothing());
             set.setSingleton( getEquivalentClasses().isSingleton());
@@ -310,14 +319,14 @@ public interface ClassExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLClass a : to.getToAdd())
+                for( OWLClass a : to.getToAddView())
                     if ( ! a.isOWLNothing()){
                         Set<OWLClass> s = new HashSet<>();
                         s.add( getInstance());
                         s.add( a);
                         changes.add( getOntologyReference().makeEquivalentClasses( s));
                     }
-                for( OWLClass r : to.getToRemove()){
+                for( OWLClass r : to.getToRemoveView()){
                     Set<OWLClass> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( r);
@@ -353,7 +362,7 @@ public interface ClassExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addSubClass(String className){
-            return getSubClasses().add( getOntologyReference().getOWLClass( className));
+            return getSubClasses().add( getOWLClass( className));
         }
         /**
          * It is an helper that just calls:
@@ -374,7 +383,7 @@ public interface ClassExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeSubClass(String className){
-            return getSubClasses().remove( getOntologyReference().getOWLClass( className));
+            return getSubClasses().remove( getOWLClass( className));
         }
         /**
          * It is an helper that just calls:
@@ -389,7 +398,10 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes querySubClasses(){
-            Classes set = new Classes(getOntologyReference().getSubClassOf(getInstance()));
+            ClassTaxonomy taxonomy = getClassTaxonomy();
+            Classes set = new Classes( isAssertedReading() ? AssertedQueries.getSubClassOf( getOntologyReference().getOWLOntology(), getInstance())
+                    : taxonomy != null && taxonomy.contains( getInstance()) ? taxonomy.getSubClassOf( getInstance(), ! isCompleteQuery())
+                    : getOntologyReference().getSubClassOf(getInstance()));
             //set.remove( getOntology().getOWLFactory().getOWLNothing());
             set.setSingleton( getSubClasses().isSingleton());
             return set;
@@ -402,10 +414,10 @@ public interface ClassExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLClass a : to.getToAdd())
+                for (OWLClass a : to.getToAddView())
                     if ( ! a.isOWLNothing())
                         changes.add(getOntologyReference().addSubClassOf(getInstance(), a));
-                for (OWLClass r : to.getToRemove())
+                for (OWLClass r : to.getToRemoveView())
                     changes.add(getOntologyReference().removeSubClassOf(getInstance(), r));
                 return getChangingIntent(to, changes);
             } catch ( Exception e){
@@ -439,7 +451,7 @@ public interface ClassExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addSuperClass(String className){
-            return getSuperClasses().add( getOntologyReference().getOWLClass( className));
+            return getSuperClasses().add( getOWLClass( className));
         }
         /**
          * It is an helper that just calls:
@@ -464,7 +476,7 @@ public interface ClassExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeSuperClass(String className){
-            return getSuperClasses().remove( getOntologyReference().getOWLClass( className));
+            return getSuperClasses().remove( getOWLClass( className));
         }
         /**
          * It is an helper that just calls:
@@ -481,7 +493,10 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes querySuperClasses(){
-            Classes set = new Classes( getOntologyReference().getSuperClassOf(getInstance()));
+            ClassTaxonomy taxonomy = getClassTaxonomy();
+            Classes set = new Classes( isAssertedReading() ? AssertedQueries.getSuperClassOf( getOntologyReference().getOWLOntology(), getInstance())
+                    : taxonomy != null && taxonomy.contains( getInstance()) ? taxonomy.getSuperClassOf( getInstance(), ! isCompleteQuery())
+                    : getOntologyReference().getSuperClassOf(getInstance()));
             set.setSingleton( getSuperClasses().isSingleton());
             return set;
         }
@@ -493,10 +508,10 @@ public interface ClassExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLClass a : to.getToAdd())
+                for (OWLClass a : to.getToAddView())
                     if( ! a.isOWLNothing())
                         changes.add(getOntologyReference().addSubClassOf(a, getInstance()));
-                for (OWLClass r : to.getToRemove())
+                for (OWLClass r : to.getToRemoveView())
                     changes.add(getOntologyReference().removeSubClassOf(r, getInstance()));
                 return getChangingIntent(to, changes);
             } catch ( Exception e){
@@ -1283,16 +1298,16 @@ public interface ClassExpression
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
 
-                if ( to.getToAdd().size() > 0 | to.getToRemove().size() > 0){
+                if ( to.getToAddView().size() > 0 | to.getToRemoveView().size() > 0){
                     //noinspection unchecked
                     changes.addAll( getOntologyReference().convertEquivalentClassesToSuperClasses( getInstance()));
-                    for (SemanticRestriction r : to.getToRemove()) {
+                    for (SemanticRestriction r : to.getToRemoveView()) {
                         changes.add( getOntologyReference().removeRestriction(r));
                         if( r instanceof ClassRestrictedOnClass)
                             changes.add( getOntologyReference().removeSubClassOf( (OWLClass) r.getSubject(), (OWLClass) r.getValue()));
                     }
 
-                    for (SemanticRestriction a : to.getToAdd())
+                    for (SemanticRestriction a : to.getToAddView())
                         changes.add(getOntologyReference().addRestriction(a));
 
                     if ( ! getEquivalentRestrictions().isEmpty())
@@ -6,6 +6,7 @@ import it.emarolab.amor.owlInterface.SemanticRestriction.*;
 import it.emarolab.owloop.core.DataProperty;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.AssertedQueries;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLDataProperty;
@@ -89,7 +90,7 @@ public interface DataPropertyExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addDisjointDataProperty( String dataPropertyName){
-            return getDisjointDataProperties().add( getOntologyReference().getOWLDataProperty( dataPropertyName));
+            return getDisjointDataProperties().add( getOWLDataProperty( dataPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -110,7 +111,7 @@ public interface DataPropertyExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeDisjointDataProperty( String dataPropertyName){
-            return getDisjointDataProperties().remove( getOntologyReference().getOWLDataProperty( dataPropertyName));
+            return getDisjointDataProperties().remove( getOWLDataProperty( dataPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -128,7 +129,8 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties queryDisjointDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getDisjointDataProperty(getInstance()));
+            DataProperties set = new DataProperties( isAssertedReading() ? AssertedQueries.getDisjointDataProperty( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getDisjointDataProperty(getInstance()));
             set.remove( getInstance());
             set.remove( getOntologyReference().getOWLFactory().getOWLBottomDataProperty());
             set.setSingleton( getDisjointDataProperties().isSingleton());
@@ -142,13 +144,13 @@ public interface DataPropertyExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLDataProperty a : to.getToAdd()){
+                for( OWLDataProperty a : to.getToAddView()){
                     Set<OWLDataProperty> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( a);
                     changes.add( getOntologyReference().makeDisjointDataProperties( s));
                 }
-                for( OWLDataProperty r : to.getToRemove()){
+                for( OWLDataProperty r : to.getToRemoveView()){
                     Set<OWLDataProperty> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( r);
@@ -184,7 +186,7 @@ public interface DataPropertyExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addEquivalentDataProperty( String dataPropertyName){
-            return getEquivalentDataProperties().add( getOntologyReference().getOWLDataProperty( dataPropertyName));
+            return getEquivalentDataProperties().add( getOWLDataProperty( dataPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -205,7 +207,7 @@ public interface DataPropertyExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeEquivalentDataProperty( String dataPropertyName){
-            return getEquivalentDataProperties().remove( getOntologyReference().getOWLDataProperty( dataPropertyName));
+            return getEquivalentDataProperties().remove( getOWLDataProperty( dataPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -223,7 +225,8 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties queryEquivalentDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getEquivalentDataProperty(getInstance()));
+            DataProperties set = new DataProperties( isAssertedReading() ? AssertedQueries.getEquivalentDataProperty( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getEquivalentDataProperty(getInstance()));
             set.remove( getInstance());
             set.setSingleton( getEquivalentDataProperties().isSingleton());
             return set;
@@ -236,13 +239,13 @@ public interface DataPropertyExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLDataProperty a : to.getToAdd()){
+                for( OWLDataProperty a : to.getToAddView()){
                     Set<OWLDataProperty> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( a);
                     changes.add( getOntologyReference().makeEquivalentDataProperties( s));
                 }
-                for( OWLDataProperty r : to.getToRemove()){
+                for( OWLDataProperty r : to.getToRemoveView()){
                     Set<OWLDataProperty> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( r);
@@ -278,7 +281,7 @@ public interface DataPropertyExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addSubDataProperty( String dataPropertyName){
-            return getSubDataProperties().add( getOntologyReference().getOWLDataProperty( dataPropertyName));
+            return getSubDataProperties().add( getOWLDataProperty( dataPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -299,7 +302,7 @@ public interface DataPropertyExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeSubDataProperty( String dataPropertyName){
-            return getSubDataProperties().remove( getOntologyReference().getOWLDataProperty( dataPropertyName));
+            return getSubDataProperties().remove( getOWLDataProperty( dataPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -314,7 +317,8 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties querySubDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getSubDataPropertyOf(getInstance()));
+            DataProperties set = new DataProperties( isAssertedReading() ? AssertedQueries.getSubDataPropertyOf( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getSubDataPropertyOf(getInstance()));
             set.setSingleton( getSubDataProperties().isSingleton());
             return set;
         }
@@ -326,9 +330,9 @@ public interface DataPropertyExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLDataProperty a : to.getToAdd())
+                for (OWLDataProperty a : to.getToAddView())
                     changes.add(getOntologyReference().addSubDataPropertyOf(getInstance(), a));
-                for (OWLDataProperty r : to.getToRemove())
+                for (OWLDataProperty r : to.getToRemoveView())
                     changes.add(getOntologyReference().removeSubDataPropertyOf(getInstance(), r));
                 return getChangingIntent(to, changes);
             } catch (Exception e){
@@ -360,7 +364,7 @@ public interface DataPropertyExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addSuperDataProperty( String dataPropertyName){
-            return getSuperDataProperties().add( getOntologyReference().getOWLDataProperty( dataPropertyName));
+            return getSuperDataProperties().add( getOWLDataProperty( dataPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -381,7 +385,7 @@ public interface DataPropertyExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeSuperDataProperty( String dataPropertyName){
-            return getSuperDataProperties().remove( getOntologyReference().getOWLDataProperty( dataPropertyName));
+            return getSuperDataProperties().remove( getOWLDataProperty( dataPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -399,7 +403,8 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties querySuperDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getSuperDataPropertyOf(getInstance()));
+            DataProperties set = new DataProperties( isAssertedReading() ? AssertedQueries.getSuperDataPropertyOf( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getSuperDataPropertyOf(getInstance()));
             set.setSingleton( getSuperDataProperties().isSingleton());
             return set;
         }
@@ -411,9 +416,9 @@ public interface DataPropertyExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLDataProperty a : to.getToAdd())
+                for( OWLDataProperty a : to.getToAddView())
                     changes.add( getOntologyReference().addSubDataPropertyOf( a, getInstance()));
-                for( OWLDataProperty r : to.getToRemove())
+                for( OWLDataProperty r : to.getToRemoveView())
                     changes.add( getOntologyReference().removeSubDataPropertyOf( r, getInstance()));
                 return getChangingIntent( to, changes);
             } catch ( Exception e){
@@ -1255,11 +1260,11 @@ public interface DataPropertyExpression
                 EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseDomainDataPropertyToExpressionAxioms();
                 List<OWLOntologyChange> changes = new ArrayList<>();
                 // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                if ( ! to.getToAddView().isEmpty() || ! to.getToRemoveView().isEmpty()) {
                     for( Set<ApplyingRestriction> r : getOntologyReference().getDataDomainRestrictions( getInstance()))
                         changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
+                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAddView());
+                    copy.addAll( to.getUnchangedView());
                     changes.add(getOntologyReference().addRestrictionAxiom( copy));
                 }
 
@@ -1332,10 +1337,10 @@ public interface DataPropertyExpression
                 EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseRangeDataPropertyToExpressionAxioms();
                 List<OWLOntologyChange> changes = new ArrayList<>();
                 // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                if ( ! to.getToAddView().isEmpty() || ! to.getToRemoveView().isEmpty()) {
                     changes.remove(getOntologyReference().removeRestrictionAxiom(queryRangeRestrictions()));
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
+                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAddView());
+                    copy.addAll( to.getUnchangedView());
                     changes.add(getOntologyReference().addRestrictionAxiom( copy));
                 }
 
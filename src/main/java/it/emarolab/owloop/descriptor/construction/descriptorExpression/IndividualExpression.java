@@ -5,6 +5,7 @@ import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.amor.owlInterface.ObjectPropertyRelations;
 import it.emarolab.owloop.core.Individual;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.*;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.AssertedQueries;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
 import org.semanticweb.owlapi.model.*;
 
@@ -71,7 +72,7 @@ public interface IndividualExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addTypeIndividual(String className){
-            return getTypes().add( getOntologyReference().getOWLClass( className));
+            return getTypes().add( getOWLClass( className));
         }
         /**
          * It is an helper that just calls:
@@ -92,7 +93,7 @@ public interface IndividualExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeTypeIndividual(String className){
-            return getTypes().remove( getOntologyReference().getOWLClass( className));
+            return getTypes().remove( getOWLClass( className));
         }
         /**
          * It is an helper that just calls:
@@ -110,7 +111,8 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default Classes queryTypes(){
-            Classes set = new Classes(getOntologyReference().getIndividualClasses(getInstance()));
+            Classes set = new Classes( isAssertedReading() ? AssertedQueries.getIndividualClasses( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getIndividualClasses(getInstance()));
             set.setSingleton( getTypes().isSingleton());
             return set;
         }
@@ -122,9 +124,9 @@ public interface IndividualExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLClass a : to.getToAdd())
+                for (OWLClass a : to.getToAddView())
                     changes.add(getOntologyReference().addIndividualB2Class(getInstance(), a));
-                for (OWLClass b : to.getToRemove())
+                for (OWLClass b : to.getToRemoveView())
                     changes.add(getOntologyReference().removeIndividualB2Class(getInstance(), b));
                 return getChangingIntent(to, changes);
             } catch (Exception e){
@@ -156,7 +158,7 @@ public interface IndividualExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addDisjointIndividual( String individualName){
-            return getDisjointIndividuals().add( getOntologyReference().getOWLIndividual( individualName));
+            return getDisjointIndividuals().add( getOWLIndividual( individualName));
         }
         /**
          * It is an helper that just calls:
@@ -177,7 +179,7 @@ public interface IndividualExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeDisjointIndividual( String individualName){
-            return getDisjointIndividuals().remove( getOntologyReference().getOWLIndividual( individualName));
+            return getDisjointIndividuals().remove( getOWLIndividual( individualName));
         }
         /**
          * It is an helper that just calls:
@@ -195,7 +197,8 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default Individuals queryDisjointIndividuals(){
-            Individuals set = new Individuals(getOntologyReference().getDisjointIndividuals(getInstance()));
+            Individuals set = new Individuals( isAssertedReading() ? AssertedQueries.getDisjointIndividuals( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getDisjointIndividuals(getInstance()));
             set.remove( getInstance());
             set.setSingleton( getDisjointIndividuals().isSingleton());
             return set;
@@ -208,13 +211,13 @@ public interface IndividualExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLNamedIndividual a : to.getToAdd()){
+                for( OWLNamedIndividual a : to.getToAddView()){
                     Set<OWLNamedIndividual> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( a);
                     changes.add( getOntologyReference().makeDisjointIndividuals( s));
                 }
-                for( OWLNamedIndividual r : to.getToRemove()){
+                for( OWLNamedIndividual r : to.getToRemoveView()){
                     Set<OWLNamedIndividual> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( r);
@@ -250,7 +253,7 @@ public interface IndividualExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addEquivalentIndividual( String individualName){
-            return getEquivalentIndividuals().add( getOntologyReference().getOWLIndividual( individualName));
+            return getEquivalentIndividuals().add( getOWLIndividual( individualName));
         }
         /**
          * It is an helper that just calls:
@@ -271,7 +274,7 @@ public interface IndividualExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeEquivalentIndividual( String individualName){
-            return getEquivalentIndividuals().remove( getOntologyReference().getOWLIndividual( individualName));
+            return getEquivalentIndividuals().remove( getOWLIndividual( individualName));
         }
         /**
          * It is an helper that just calls:
@@ -289,7 +292,8 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default Individuals queryEquivalentIndividuals(){
-            Individuals set = new Individuals(getOntologyReference().getEquivalentIndividuals(getInstance()));
+            Individuals set = new Individuals( isAssertedReading() ? AssertedQueries.getEquivalentIndividuals( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getEquivalentIndividuals(getInstance()));
             set.remove( getInstance());
             set.setSingleton( getEquivalentIndividuals().isSingleton());
             return set;
@@ -302,13 +306,13 @@ public interface IndividualExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLNamedIndividual a : to.getToAdd()){
+                for( OWLNamedIndividual a : to.getToAddView()){
                     Set<OWLNamedIndividual> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( a);
                     changes.add( getOntologyReference().makeEquivalentIndividuals( s));
                 }
-                for( OWLNamedIndividual r : to.getToRemove()){
+                for( OWLNamedIndividual r : to.getToRemoveView()){
                     Set<OWLNamedIndividual> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( r);
@@ -362,10 +366,7 @@ public interface IndividualExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeData( OWLDataProperty dataProperty){
-            for (DataLinks d : getDataProperties())
-                if( d.getExpression().equals( dataProperty))
-                    return getDataProperties().remove( d);
-            return false;
+            return getDataProperties().remove( dataProperty);
         }
 
         /**
@@ -390,15 +391,12 @@ public interface IndividualExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeData( OWLDataProperty dataProperty, OWLLiteral value){
-            boolean out = false;
-            HashSet<OWLDataProperty> toRemove = new HashSet<>();
-            for (DataLinks d : getDataProperties()) {
-                if (d.getExpression().equals(dataProperty))
-                    out = d.getValues().remove(value);
-                if ( d.getValues().isEmpty())
-                    toRemove.add( d.getExpression());
-            }
-            getDataProperties().removeAll( toRemove);
+            DataLinks d = getDataProperties().getEntity( dataProperty);
+            if ( d == null)
+                return false;
+            boolean out = d.getValues().remove( value);
+            if ( d.getValues().isEmpty())
+                getDataProperties().remove( dataProperty);
             return out;
         }
         default boolean removeData( OWLDataProperty dataProperty, Set<OWLLiteral> values){
@@ -461,11 +459,10 @@ public interface IndividualExpression
          * (a change of singleton value is not considered).
          */
         default boolean addData( OWLDataProperty dataProperty, boolean singleton){
-            for (DataLinks d : getDataProperties()) {
-                if (d.getExpression().equals(dataProperty)) {
-                    d.getValues().setSingleton( singleton);
-                    return false;
-                }
+            DataLinks d = getDataProperties().getEntity( dataProperty);
+            if ( d != null) {
+                d.getValues().setSingleton( singleton);
+                return false;
             }
 
             DataLinks data = new DataLinks(dataProperty);
@@ -527,13 +524,13 @@ public interface IndividualExpression
          * (a change of singleton value is not considered).
          */
         default boolean addData( OWLDataProperty dataProperty, OWLLiteral value, boolean singleton){
-            for (DataLinks d : getDataProperties())
-                if( d.getExpression().equals( dataProperty)){
-                    if ( singleton)
-                        d.getValues().clear();
-                    d.getValues().setSingleton( singleton);
-                    return d.getValues().add( value);
-                }
+            DataLinks d = getDataProperties().getEntity( dataProperty);
+            if( d != null){
+                if ( singleton)
+                    d.getValues().clear();
+                d.getValues().setSingleton( singleton);
+                return d.getValues().add( value);
+            }
 
             DataLinks data = new DataLinks(dataProperty);
             data.getValues().add(value);
@@ -592,7 +589,7 @@ public interface IndividualExpression
          * @return a value of the given data dataProperty. {@code Null} if is not available.
          */
         default OWLLiteral getLiteralFromDataProperty(String dataPropertyName){
-            return getDataProperties().getLink( getOntologyReference().getOWLDataProperty( dataPropertyName));
+            return getDataProperties().getLink( getOWLDataProperty( dataPropertyName));
         }
 
         /**
@@ -609,7 +606,223 @@ public interface IndividualExpression
          * @return all the values of the given data dataProperty. An {@code empty} {@link HashSet} if is not available.
          */
         default EntitySet<OWLLiteral> getLiteralsFromDataProperty(String dataPropertyName){
-            return getDataProperties().getLinks( getOntologyReference().getOWLDataProperty( dataPropertyName));
+            return getDataProperties().getLinks( getOWLDataProperty( dataPropertyName));
+        }
+
+        /**
+         * Returns the {@link DataLinks} of the given data property. If it is not in {@link #getDataProperties()},
+         * a new {@link DataLinks} with a singleton set of values is added.
+         * It is used to access the primitive values of a data property (e.g., {@link #setData(OWLDataProperty, int)}).
+         * @param dataProperty the data property to look for.
+         * @return the values of the given data property within {@code this} descriptor.
+         */
+        default DataLinks getOrAddData( OWLDataProperty dataProperty){
+            DataLinks d = getDataProperties().getEntity( dataProperty);
+            if ( d == null) {
+                d = new DataLinks( dataProperty);
+                d.getValues().setSingleton( true);
+                getDataProperties().add( d);
+            }
+            return d;
+        }
+
+        /**
+         * A shortcut for {@code getDataProperties().getEntity( dataProperty).getInt()} (see {@link DataLinks#getInt()}).
+         * @param dataProperty the data property to look for its value.
+         * @return the value of the given data property, or {@code 0} if it is not available.
+         */
+        default int getIntFromDataProperty( OWLDataProperty dataProperty){
+            DataLinks d = getDataProperties().getEntity( dataProperty);
+            return d == null ? 0 : d.getInt();
+        }
+        /**
+         * A shortcut for {@code getDataProperties().getEntity( getOWLDataProperty( dataPropertyName)).getInt()}.
+         * @param dataPropertyName the name of the data property to look for its value.
+         * @return the value of the given data property, or {@code 0} if it is not available.
+         */
+        default int getIntFromDataProperty( String dataPropertyName){
+            return getIntFromDataProperty( getOWLDataProperty( dataPropertyName));
+        }
+        /**
+         * A shortcut for {@code getDataProperties().getEntity( dataProperty).getLong()} (see {@link DataLinks#getLong()}).
+         * @param dataProperty the data property to look for its value.
+         * @return the value of the given data property, or {@code 0} if it is not available.
+         */
+        default long getLongFromDataProperty( OWLDataProperty dataProperty){
+            DataLinks d = getDataProperties().getEntity( dataProperty);
+            return d == null ? 0 : d.getLong();
+        }
+        /**
+         * A shortcut for {@code getDataProperties().getEntity( getOWLDataProperty( dataPropertyName)).getLong()}.
+         * @param dataPropertyName the name of the data property to look for its value.
+         * @return the value of the given data property, or {@code 0} if it is not available.
+         */
+        default long getLongFromDataProperty( String dataPropertyName){
+            return getLongFromDataProperty( getOWLDataProperty( dataPropertyName));
+        }
+        /**
+         * A shortcut for {@code getDataProperties().getEntity( dataProperty).getDouble()} (see {@link DataLinks#getDouble()}).
+         * @param dataProperty the data property to look for its value.
+         * @return the value of the given data property, or {@code 0} if it is not available.
+         */
+        default double getDoubleFromDataProperty( OWLDataProperty dataProperty){
+            DataLinks d = getDataProperties().getEntity( dataProperty);
+            return d == null ? 0 : d.getDouble();
+        }
+        /**
+         * A shortcut for {@code getDataProperties().getEntity( getOWLDataProperty( dataPropertyName)).getDouble()}.
+         * @param dataPropertyName the name of the data property to look for its value.
+         * @return the value of the given data property, or {@code 0} if it is not available.
+         */
+        default double getDoubleFromDataProperty( String dataPropertyName){
+            return getDoubleFromDataProperty( getOWLDataProperty( dataPropertyName));
+        }
+        /**
+         * A shortcut for {@code getDataProperties().getEntity( dataProperty).getBoolean()} (see {@link DataLinks#getBoolean()}).
+         * @param dataProperty the data property to look for its value.
+         * @return the value of the given data property, or {@code false} if it is not available.
+         */
+        default boolean getBooleanFromDataProperty( OWLDataProperty dataProperty){
+            DataLinks d = getDataProperties().getEntity( dataProperty);
+            return d != null && d.getBoolean();
+        }
+        /**
+         * A shortcut for {@code getDataProperties().getEntity( getOWLDataProperty( dataPropertyName)).getBoolean()}.
+         * @param dataPropertyName the name of the data property to look for its value.
+         * @return the value of the given data property, or {@code false} if it is not available.
+         */
+        default boolean getBooleanFromDataProperty( String dataPropertyName){
+            return getBooleanFromDataProperty( getOWLDataProperty( dataPropertyName));
+        }
+
+        /**
+         * Sets the only value of the given data property, without creating a literal
+         * until {@link #writeAxioms()} is called (see {@link DataLinks#setInt(int)}).
+         * @param dataProperty the data property to synchronise.
+         * @param value the value of the data property.
+         */
+        default void setData( OWLDataProperty dataProperty, int value){
+            getOrAddData( dataProperty).setInt( value);
+        }
+        /**
+         * Sets the only value of the given data property (see {@link #setData(OWLDataProperty, int)}).
+         * @param dataProperty the name of the data property to synchronise.
+         * @param value the value of the data property.
+         */
+        default void setData( String dataProperty, int value){
+            setData( getOWLDataProperty( dataProperty), value);
+        }
+        /**
+         * Sets the only value of the given data property, without creating a literal
+         * until {@link #writeAxioms()} is called (see {@link DataLinks#setLong(long)}).
+         * @param dataProperty the data property to synchronise.
+         * @param value the value of the data property.
+         */
+        default void setData( OWLDataProperty dataProperty, long value){
+            getOrAddData( dataProperty).setLong( value);
+        }
+        /**
+         * Sets the only value of the given data property (see {@link #setData(OWLDataProperty, long)}).
+         * @param dataProperty the name of the data property to synchronise.
+         * @param value the value of the data property.
+         */
+        default void setData( String dataProperty, long value){
+            setData( getOWLDataProperty( dataProperty), value);
+        }
+        /**
+         * Sets the only value of the given data property, without creating a literal
+         * until {@link #writeAxioms()} is called (see {@link DataLinks#setDouble(double)}).
+         * @param dataProperty the data property to synchronise.
+         * @param value the value of the data property.
+         */
+        default void setData( OWLDataProperty dataProperty, double value){
+            getOrAddData( dataProperty).setDouble( value);
+        }
+        /**
+         * Sets the only value of the given data property (see {@link #setData(OWLDataProperty, double)}).
+         * @param dataProperty the name of the data property to synchronise.
+         * @param value the value of the data property.
+         */
+        default void setData( String dataProperty, double value){
+            setData( getOWLDataProperty( dataProperty), value);
+        }
+        /**
+         * Sets the only value of the given data property, without creating a literal
+         * until {@link #writeAxioms()} is called (see {@link DataLinks#setBoolean(boolean)}).
+         * @param dataProperty the data property to synchronise.
+         * @param value the value of the data property.
+         */
+        default void setData( OWLDataProperty dataProperty, boolean value){
+            getOrAddData( dataProperty).setBoolean( value);
+        }
+        /**
+         * Sets the only value of the given data property (see {@link #setData(OWLDataProperty, boolean)}).
+         * @param dataProperty the name of the data property to synchronise.
+         * @param value the value of the data property.
+         */
+        default void setData( String dataProperty, boolean value){
+            setData( getOWLDataProperty( dataProperty), value);
+        }
+
+        /**
+         * Adds a quantity to the only value of the given data property, without creating a literal
+         * until {@link #writeAxioms()} is called (see {@link DataLinks#sumInt(int)}).
+         * If the data property has no values, it is considered to be {@code 0}.
+         * @param dataProperty the data property to synchronise.
+         * @param delta the quantity to add.
+         * @return the new value of the data property.
+         */
+        default int sumData( OWLDataProperty dataProperty, int delta){
+            return getOrAddData( dataProperty).sumInt( delta);
+        }
+        /**
+         * Adds a quantity to the only value of the given data property (see {@link #sumData(OWLDataProperty, int)}).
+         * @param dataProperty the name of the data property to synchronise.
+         * @param delta the quantity to add.
+         * @return the new value of the data property.
+         */
+        default int sumData( String dataProperty, int delta){
+            return sumData( getOWLDataProperty( dataProperty), delta);
+        }
+        /**
+         * Adds a quantity to the only value of the given data property, without creating a literal
+         * until {@link #writeAxioms()} is called (see {@link DataLinks#sumLong(long)}).
+         * If the data property has no values, it is considered to be {@code 0}.
+         * @param dataProperty the data property to synchronise.
+         * @param delta the quantity to add.
+         * @return the new value of the data property.
+         */
+        default long sumData( OWLDataProperty dataProperty, long delta){
+            return getOrAddData( dataProperty).sumLong( delta);
+        }
+        /**
+         * Adds a quantity to the only value of the given data property (see {@link #sumData(OWLDataProperty, long)}).
+         * @param dataProperty the name of the data property to synchronise.
+         * @param delta the quantity to add.
+         * @return the new value of the data property.
+         */
+        default long sumData( String dataProperty, long delta){
+            return sumData( getOWLDataProperty( dataProperty), delta);
+        }
+        /**
+         * Adds a quantity to the only value of the given data property, without creating a literal
+         * until {@link #writeAxioms()} is called (see {@link DataLinks#sumDouble(double)}).
+         * If the data property has no values, it is considered to be {@code 0}.
+         * @param dataProperty the data property to synchronise.
+         * @param delta the quantity to add.
+         * @return the new value of the data property.
+         */
+        default double sumData( OWLDataProperty dataProperty, double delta){
+            return getOrAddData( dataProperty).sumDouble( delta);
+        }
+        /**
+         * Adds a quantity to the only value of the given data property (see {@link #sumData(OWLDataProperty, double)}).
+         * @param dataProperty the name of the data property to synchronise.
+         * @param delta the quantity to add.
+         * @return the new value of the data property.
+         */
+        default double sumData( String dataProperty, double delta){
+            return sumData( getOWLDataProperty( dataProperty), delta);
         }
 
 
@@ -618,14 +831,13 @@ public interface IndividualExpression
         default DataLinkSet queryDataProperties(){
             DataLinkSet dataSet = new DataLinkSet();
             dataSet.setSingleton( getDataProperties().isSingleton());
-            for (DataPropertyRelations r :  getOntologyReference().getDataPropertyB2Individual(getInstance())){
+            for (DataPropertyRelations r : isAssertedReading() ? AssertedQueries.getDataPropertyB2Individual( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getDataPropertyB2Individual(getInstance())){
                 DataLinks data = new DataLinks( r.getProperty());
                 data.getValues().addAll( r.getValues());
-                for (DataLinks w : getDataProperties())
-                    if ( data.equals( w)){
-                        data.getValues().setSingleton( w.getValues().isSingleton());
-                        break;
-                    }
+                DataLinks w = getDataProperties().getEntity( r.getProperty());
+                if ( data.equals( w))
+                    data.getValues().setSingleton( w.getValues().isSingleton());
                 dataSet.add( data);
             }
             return dataSet;
@@ -638,10 +850,10 @@ public interface IndividualExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for (DataLinks a : to.getToAdd())
+                for (DataLinks a : to.getToAddView())
                     for (OWLLiteral l : a.getValues())
                         changes.add(getOntologyReference().addDataPropertyB2Individual(getInstance(), a.getExpression(), l));
-                for (DataLinks r : to.getToRemove())
+                for (DataLinks r : to.getToRemoveView())
                     for (OWLLiteral l : r.getValues())
                         changes.add(getOntologyReference().removeDataPropertyB2Individual(getInstance(), r.getExpression(), l));
                 return getChangingIntent(to, changes);
@@ -913,7 +1125,7 @@ public interface IndividualExpression
          * @return a value of the given object objectProperty. {@code Null} if is not available.
          */
         default OWLNamedIndividual getIndividualFromObjectProperty(String objectPropertyName){
-            return getObjectProperties().getLink( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getObjectProperties().getLink( getOWLObjectProperty( objectPropertyName));
         }
 
         /**
@@ -930,21 +1142,20 @@ public interface IndividualExpression
          * @return all the values of the given object objectProperty. {@code Null} if is not available.
          */
         default EntitySet<OWLNamedIndividual> getIndividualsFromObjectProperty(String objectPropertyName){
-            return getObjectProperties().getLinks( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getObjectProperties().getLinks( getOWLObjectProperty( objectPropertyName));
         }
 
         @Override // see super classes for documentation
         default ObjectLinkSet queryObjectProperties(){
             ObjectLinkSet objectSet = new ObjectLinkSet();
             objectSet.setSingleton( getObjectProperties().isSingleton());
-            for (ObjectPropertyRelations r :  getOntologyReference().getObjectPropertyB2Individual(getInstance())){
+            for (ObjectPropertyRelations r : isAssertedReading() ? AssertedQueries.getObjectPropertyB2Individual( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getObjectPropertyB2Individual(getInstance())){
                 ObjectLinks object = new ObjectLinks( r.getProperty());
                 object.getValues().addAll( r.getValues());
-                for (ObjectLinks w : getObjectProperties())
-                    if ( object.equals( w)){
-                        object.getValues().setSingleton( w.getValues().isSingleton());
-                        break;
-                    }
+                ObjectLinks w = getObjectProperties().getEntity( r.getProperty());
+                if ( object.equals( w))
+                    object.getValues().setSingleton( w.getValues().isSingleton());
                 objectSet.add( object);
             }
             return objectSet;
@@ -957,10 +1168,10 @@ public interface IndividualExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for (ObjectLinks a : to.getToAdd())
+                for (ObjectLinks a : to.getToAddView())
                     for (OWLNamedIndividual l : a.getValues())
                         changes.add(getOntologyReference().addObjectPropertyB2Individual(getInstance(), a.getExpression(), l));
-                for (ObjectLinks r : to.getToRemove())
+                for (ObjectLinks r : to.getToRemoveView())
                     for (OWLNamedIndividual l : r.getValues())
                         changes.add(getOntologyReference().removeObjectPropertyB2Individual(getInstance(), r.getExpression(), l));
                 return getChangingIntent(to, changes);
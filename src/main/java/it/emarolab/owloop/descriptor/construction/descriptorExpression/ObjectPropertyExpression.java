@@ -6,6 +6,7 @@ import it.emarolab.amor.owlInterface.SemanticRestriction.*;
 import it.emarolab.owloop.core.ObjectProperty;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.AssertedQueries;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
 import org.semanticweb.owlapi.model.*;
 
@@ -140,7 +141,7 @@ public interface ObjectPropertyExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addInverseObjectProperty( String objectPropertyName){
-            return getInverseObjectProperties().add( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getInverseObjectProperties().add( getOWLObjectProperty( objectPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -161,7 +162,7 @@ public interface ObjectPropertyExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeInverseObjectProperty( String objectPropertyName){
-            return getInverseObjectProperties().remove( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getInverseObjectProperties().remove( getOWLObjectProperty( objectPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -179,7 +180,8 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties queryInverseObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getInverseProperty(getInstance()));
+            ObjectProperties set = new ObjectProperties( isAssertedReading() ? AssertedQueries.getInverseProperty( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getInverseProperty(getInstance()));
             set.setSingleton( getInverseObjectProperties().isSingleton());
             return set;
         }
@@ -191,9 +193,9 @@ public interface ObjectPropertyExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLObjectProperty a : to.getToAdd())
+                for (OWLObjectProperty a : to.getToAddView())
                     changes.add(getOntologyReference().addObjectPropertyInverseOf(getInstance(), a));
-                for (OWLObjectProperty r : to.getToRemove())
+                for (OWLObjectProperty r : to.getToRemoveView())
                     changes.add(getOntologyReference().removeObjectPropertyInverseOf(getInstance(), r));
                 return getChangingIntent(to, changes);
             } catch ( Exception e){
@@ -225,7 +227,7 @@ public interface ObjectPropertyExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addDisjointObjectProperty( String objectPropertyName){
-            return getDisjointObjectProperties().add( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getDisjointObjectProperties().add( getOWLObjectProperty( objectPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -246,7 +248,7 @@ public interface ObjectPropertyExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeDisjointObjectProperty( String objectPropertyName){
-            return getDisjointObjectProperties().remove( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getDisjointObjectProperties().remove( getOWLObjectProperty( objectPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -264,7 +266,8 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties queryDisjointObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getDisjointObjectProperty(getInstance()));
+            ObjectProperties set = new ObjectProperties( isAssertedReading() ? AssertedQueries.getDisjointObjectProperty( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getDisjointObjectProperty(getInstance()));
             set.remove( getInstance());
             set.remove( getOntologyReference().getOWLFactory().getOWLBottomObjectProperty());
             set.setSingleton( getDisjointObjectProperties().isSingleton());
@@ -278,13 +281,13 @@ public interface ObjectPropertyExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd()){
+                for( OWLObjectProperty a : to.getToAddView()){
                     Set<OWLObjectProperty> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( a);
                     changes.add( getOntologyReference().makeDisjointObjectProperties( s));
                 }
-                for( OWLObjectProperty r : to.getToRemove()){
+                for( OWLObjectProperty r : to.getToRemoveView()){
                     Set<OWLObjectProperty> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( r);
@@ -320,7 +323,7 @@ public interface ObjectPropertyExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addEquivalentObjectProperty( String objectPropertyName){
-            return getEquivalentObjectProperties().add( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getEquivalentObjectProperties().add( getOWLObjectProperty( objectPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -341,7 +344,7 @@ public interface ObjectPropertyExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeEquivalentObjectProperty( String objectPropertyName){
-            return getEquivalentObjectProperties().remove( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getEquivalentObjectProperties().remove( getOWLObjectProperty( objectPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -359,7 +362,8 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties queryEquivalentObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getEquivalentObjectProperty(getInstance()));
+            ObjectProperties set = new ObjectProperties( isAssertedReading() ? AssertedQueries.getEquivalentObjectProperty( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getEquivalentObjectProperty(getInstance()));
             set.remove( getInstance());
             set.setSingleton( getEquivalentObjectProperties().isSingleton());
             return set;
@@ -372,13 +376,13 @@ public interface ObjectPropertyExpression
                 if( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd()){
+                for( OWLObjectProperty a : to.getToAddView()){
                     Set<OWLObjectProperty> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( a);
                     changes.add( getOntologyReference().makeEquivalentObjectProperties( s));
                 }
-                for( OWLObjectProperty r : to.getToRemove()){
+                for( OWLObjectProperty r : to.getToRemoveView()){
                     Set<OWLObjectProperty> s = new HashSet<>();
                     s.add( getInstance());
                     s.add( r);
@@ -414,7 +418,7 @@ public interface ObjectPropertyExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addSubObjectProperty( String objectPropertyName){
-            return getSubObjectProperties().add( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getSubObjectProperties().add( getOWLObjectProperty( objectPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -435,7 +439,7 @@ public interface ObjectPropertyExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeSubObjectProperty( String objectPropertyName){
-            return getSubObjectProperties().remove( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getSubObjectProperties().remove( getOWLObjectProperty( objectPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -453,7 +457,8 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties querySubObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getSubObjectPropertyOf(getInstance()));
+            ObjectProperties set = new ObjectProperties( isAssertedReading() ? AssertedQueries.getSubObjectPropertyOf( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getSubObjectPropertyOf(getInstance()));
             set.setSingleton( getSubObjectProperties().isSingleton());
             return set;
         }
@@ -465,9 +470,9 @@ public interface ObjectPropertyExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd())
+                for( OWLObjectProperty a : to.getToAddView())
                     changes.add( getOntologyReference().addSubObjectPropertyOf( getInstance(), a));
-                for( OWLObjectProperty r : to.getToRemove())
+                for( OWLObjectProperty r : to.getToRemoveView())
                     changes.add( getOntologyReference().removeSubObjectPropertyOf( getInstance(), r));
                 return getChangingIntent( to, changes);
             } catch ( Exception e){
@@ -500,7 +505,7 @@ public interface ObjectPropertyExpression
          * @return {@code true} if the axioms changed as a result of the call.
          */
         default boolean addSuperObjectProperty( String objectPropertyName){
-            return getSuperObjectProperties().add( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getSuperObjectProperties().add( getOWLObjectProperty( objectPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -521,7 +526,7 @@ public interface ObjectPropertyExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeSuperObjectProperty( String objectPropertyName){
-            return getSuperObjectProperties().remove( getOntologyReference().getOWLObjectProperty( objectPropertyName));
+            return getSuperObjectProperties().remove( getOWLObjectProperty( objectPropertyName));
         }
         /**
          * It is an helper that just calls:
@@ -539,7 +544,8 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties querySuperObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getSuperObjectPropertyOf(getInstance()));
+            ObjectProperties set = new ObjectProperties( isAssertedReading() ? AssertedQueries.getSuperObjectPropertyOf( getOntologyReference().getOWLOntology(), getInstance())
+                    : getOntologyReference().getSuperObjectPropertyOf(getInstance()));
             set.setSingleton( getSuperObjectProperties().isSingleton());
             return set;
         }
@@ -551,9 +557,9 @@ public interface ObjectPropertyExpression
                 if ( to == null)
                     return getIntent( null);
                 List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd())
+                for( OWLObjectProperty a : to.getToAddView())
                     changes.add( getOntologyReference().addSubObjectPropertyOf( a, getInstance()));
-                for( OWLObjectProperty r : to.getToRemove())
+                for( OWLObjectProperty r : to.getToRemoveView())
                     changes.add( getOntologyReference().removeSubObjectPropertyOf( r, getInstance()));
                 return getChangingIntent( to, changes);
             } catch ( Exception e){
@@ -1391,11 +1397,11 @@ public interface ObjectPropertyExpression
                 EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseDomainObjectPropertyToExpressionAxioms();
                 List<OWLOntologyChange> changes = new ArrayList<>();
                 // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                if ( ! to.getToAddView().isEmpty() || ! to.getToRemoveView().isEmpty()) {
                     for( Set<ApplyingRestriction> r : getOntologyReference().getObjectDomainRestrictions( getInstance()))
                         changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
+                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAddView());
+                    copy.addAll( to.getUnchangedView());
                     changes.add(getOntologyReference().addRestrictionAxiom( copy));
                 }
 
@@ -2237,11 +2243,11 @@ public interface ObjectPropertyExpression
                 EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseRangeObjectPropertyToExpressionAxioms();
                 List<OWLOntologyChange> changes = new ArrayList<>();
                 // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                if ( ! to.getToAddView().isEmpty() || ! to.getToRemoveView().isEmpty()) {
                     for( Set<ApplyingRestriction> r : getOntologyReference().getObjectRangeRestrictions( getInstance()))
                         changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
+                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAddView());
+                    copy.addAll( to.getUnchangedView());
                     changes.add(getOntologyReference().addRestrictionAxiom( copy));
                 }
 
@@ -0,0 +1,314 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.DataPropertyRelations;
+import it.emarolab.amor.owlInterface.ObjectPropertyRelations;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The queries of the asserted axioms of an ontology, which do not involve the reasoner.
+ * <p>
+ *     The descriptors query the ontology through {@link it.emarolab.amor.owlInterface.OWLReferences}, which
+ *     uses the reasoner (if {@link DescriptorGroundInterface#isReasonedQuery()}), and requires it to be synchronised.
+ *     When a descriptor {@link DescriptorGroundInterface#isAssertedReading()}, it uses these methods instead,
+ *     which look for the asserted axioms of an entity in the indexes of the {@link OWLOntology} and of the
+ *     ontologies that it imports, directly or indirectly (i.e., its {@link OWLOntology#importsClosure()}).
+ *     They give the same results of the {@link it.emarolab.amor.owlInterface.OWLReferences} methods with the same name,
+ *     when the reasoner is not used, but they do not synchronise with aMOR, and they do not log.
+ *     <br>
+ *     Note that the restrictions (e.g., {@link it.emarolab.amor.owlInterface.OWLReferences#getClassRestrictions(OWLClass)})
+ *     are always queried from the asserted axioms, thus they do not have a counterpart in this class.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.AssertedQueries <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class AssertedQueries {
+
+    private AssertedQueries() {
+    } // not instantiable
+
+    // the results of the given query on each ontology of the imports closure of the given ontology
+    private static <T> Stream<T> closure(OWLOntology ontology, Function<OWLOntology,Stream<T>> query){
+        return ontology.importsClosure().flatMap( query);
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param individual the individual to query.
+     * @return the named classes of the given individual.
+     */
+    public static Set<OWLClass> getIndividualClasses(OWLOntology ontology, OWLNamedIndividual individual){
+        Set<OWLClass> out = new HashSet<>();
+        closure( ontology, o -> o.classAssertionAxioms( individual)).forEach( a -> {
+            if ( ! a.getClassExpression().isAnonymous())
+                out.add( a.getClassExpression().asOWLClass());
+        });
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param cl the class to query.
+     * @return the named individuals classified in the given class.
+     */
+    public static Set<OWLNamedIndividual> getIndividualB2Class(OWLOntology ontology, OWLClass cl){
+        Set<OWLNamedIndividual> out = new HashSet<>();
+        closure( ontology, o -> o.classAssertionAxioms( cl)).forEach( a -> {
+            if ( a.getIndividual().isNamed())
+                out.add( a.getIndividual().asOWLNamedIndividual());
+        });
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param individual the individual to query.
+     * @return the named individuals different from the given individual, including itself.
+     */
+    public static Set<OWLNamedIndividual> getDisjointIndividuals(OWLOntology ontology, OWLNamedIndividual individual){
+        Set<OWLNamedIndividual> out = new HashSet<>();
+        closure( ontology, o -> o.differentIndividualAxioms( individual)).forEach( a -> addNamed( out, a.individuals()));
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param individual the individual to query.
+     * @return the named individuals same as the given individual, including itself.
+     */
+    public static Set<OWLNamedIndividual> getEquivalentIndividuals(OWLOntology ontology, OWLNamedIndividual individual){
+        Set<OWLNamedIndividual> out = new HashSet<>();
+        closure( ontology, o -> o.sameIndividualAxioms( individual)).forEach( a -> addNamed( out, a.individuals()));
+        return out;
+    }
+    private static void addNamed(Set<OWLNamedIndividual> out, Stream<? extends OWLIndividual> individuals){
+        individuals.forEach( i -> {
+            if ( i.isNamed())
+                out.add( i.asOWLNamedIndividual());
+        });
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param individual the individual to query.
+     * @return the values of the data properties of the given individual, grouped by property.
+     */
+    public static Set<DataPropertyRelations> getDataPropertyB2Individual(OWLOntology ontology, OWLNamedIndividual individual){
+        Map<OWLDataProperty,Set<OWLLiteral>> values = new HashMap<>();
+        closure( ontology, o -> o.dataPropertyAssertionAxioms( individual)).forEach( a -> {
+            if ( ! a.getProperty().isAnonymous())
+                values.computeIfAbsent( a.getProperty().asOWLDataProperty(), p -> new HashSet<>()).add( a.getObject());
+        });
+        Set<DataPropertyRelations> out = new HashSet<>();
+        for ( Map.Entry<OWLDataProperty,Set<OWLLiteral>> e : values.entrySet())
+            out.add( new DataPropertyRelations( individual, e.getKey(), e.getValue()));
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param individual the individual to query.
+     * @return the named individuals related to the given individual, grouped by object property.
+     */
+    public static Set<ObjectPropertyRelations> getObjectPropertyB2Individual(OWLOntology ontology, OWLNamedIndividual individual){
+        Map<OWLObjectProperty,Set<OWLNamedIndividual>> values = new HashMap<>();
+        closure( ontology, o -> o.objectPropertyAssertionAxioms( individual)).forEach( a -> {
+            if ( ! a.getProperty().isAnonymous() && a.getObject().isNamed())
+                values.computeIfAbsent( a.getProperty().asOWLObjectProperty(), p -> new HashSet<>())
+                        .add( a.getObject().asOWLNamedIndividual());
+        });
+        Set<ObjectPropertyRelations> out = new HashSet<>();
+        for ( Map.Entry<OWLObjectProperty,Set<OWLNamedIndividual>> e : values.entrySet())
+            out.add( new ObjectPropertyRelations( individual, e.getKey(), e.getValue()));
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param cl the class to query.
+     * @return the named classes directly asserted as sub classes of the given class.
+     */
+    public static Set<OWLClass> getSubClassOf(OWLOntology ontology, OWLClass cl){
+        Set<OWLClass> out = new HashSet<>();
+        closure( ontology, o -> o.subClassAxiomsForSuperClass( cl)).forEach( a -> {
+            if ( ! a.getSubClass().isAnonymous())
+                out.add( a.getSubClass().asOWLClass());
+        });
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param cl the class to query.
+     * @return the named classes directly asserted as super classes of the given class.
+     */
+    public static Set<OWLClass> getSuperClassOf(OWLOntology ontology, OWLClass cl){
+        Set<OWLClass> out = new HashSet<>();
+        closure( ontology, o -> o.subClassAxiomsForSubClass( cl)).forEach( a -> {
+            if ( ! a.getSuperClass().isAnonymous())
+                out.add( a.getSuperClass().asOWLClass());
+        });
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param cl the class to query.
+     * @return the named classes equivalent to the given class, including itself.
+     */
+    public static Set<OWLClass> getEquivalentClasses(OWLOntology ontology, OWLClass cl){
+        Set<OWLClass> out = new HashSet<>();
+        closure( ontology, o -> o.equivalentClassesAxioms( cl)).forEach( a -> a.namedClasses().forEach( out::add));
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param cl the class to query.
+     * @return the named classes disjoint with the given class, including itself.
+     */
+    public static Set<OWLClass> getDisjointClasses(OWLOntology ontology, OWLClass cl){
+        Set<OWLClass> out = new HashSet<>();
+        closure( ontology, o -> o.disjointClassesAxioms( cl)).forEach( a -> {
+            a.classExpressions().forEach( e -> {
+                if ( ! e.isAnonymous())
+                    out.add( e.asOWLClass());
+            });
+        });
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param property the data property to query.
+     * @return the named data properties directly asserted as sub properties of the given property.
+     */
+    public static Set<OWLDataProperty> getSubDataPropertyOf(OWLOntology ontology, OWLDataProperty property){
+        Set<OWLDataProperty> out = new HashSet<>();
+        closure( ontology, o -> o.dataSubPropertyAxiomsForSuperProperty( property)).forEach( a -> {
+            if ( ! a.getSubProperty().isAnonymous())
+                out.add( a.getSubProperty().asOWLDataProperty());
+        });
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param property the data property to query.
+     * @return the named data properties directly asserted as super properties of the given property.
+     */
+    public static Set<OWLDataProperty> getSuperDataPropertyOf(OWLOntology ontology, OWLDataProperty property){
+        Set<OWLDataProperty> out = new HashSet<>();
+        closure( ontology, o -> o.dataSubPropertyAxiomsForSubProperty( property)).forEach( a -> {
+            if ( ! a.getSuperProperty().isAnonymous())
+                out.add( a.getSuperProperty().asOWLDataProperty());
+        });
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param property the data property to query.
+     * @return the named data properties equivalent to the given property, including itself.
+     */
+    public static Set<OWLDataProperty> getEquivalentDataProperty(OWLOntology ontology, OWLDataProperty property){
+        Set<OWLDataProperty> out = new HashSet<>();
+        closure( ontology, o -> o.equivalentDataPropertiesAxioms( property)).forEach( a -> addNamedDataProperties( out, a.properties()));
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param property the data property to query.
+     * @return the named data properties disjoint with the given property, including itself.
+     */
+    public static Set<OWLDataProperty> getDisjointDataProperty(OWLOntology ontology, OWLDataProperty property){
+        Set<OWLDataProperty> out = new HashSet<>();
+        closure( ontology, o -> o.disjointDataPropertiesAxioms( property)).forEach( a -> addNamedDataProperties( out, a.properties()));
+        return out;
+    }
+    private static void addNamedDataProperties(Set<OWLDataProperty> out, Stream<? extends OWLDataPropertyExpression> properties){
+        properties.forEach( p -> {
+            if ( ! p.isAnonymous())
+                out.add( p.asOWLDataProperty());
+        });
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param property the object property to query.
+     * @return the named object properties directly asserted as sub properties of the given property.
+     */
+    public static Set<OWLObjectProperty> getSubObjectPropertyOf(OWLOntology ontology, OWLObjectProperty property){
+        Set<OWLObjectProperty> out = new HashSet<>();
+        closure( ontology, o -> o.objectSubPropertyAxiomsForSuperProperty( property)).forEach( a -> {
+            if ( ! a.getSubProperty().isAnonymous())
+                out.add( a.getSubProperty().asOWLObjectProperty());
+        });
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param property the object property to query.
+     * @return the named object properties directly asserted as super properties of the given property.
+     */
+    public static Set<OWLObjectProperty> getSuperObjectPropertyOf(OWLOntology ontology, OWLObjectProperty property){
+        Set<OWLObjectProperty> out = new HashSet<>();
+        closure( ontology, o -> o.objectSubPropertyAxiomsForSubProperty( property)).forEach( a -> {
+            if ( ! a.getSuperProperty().isAnonymous())
+                out.add( a.getSuperProperty().asOWLObjectProperty());
+        });
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param property the object property to query.
+     * @return the named object properties equivalent to the given property, including itself.
+     */
+    public static Set<OWLObjectProperty> getEquivalentObjectProperty(OWLOntology ontology, OWLObjectProperty property){
+        Set<OWLObjectProperty> out = new HashSet<>();
+        closure( ontology, o -> o.equivalentObjectPropertiesAxioms( property)).forEach( a -> addNamedObjectProperties( out, a.properties()));
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param property the object property to query.
+     * @return the named object properties disjoint with the given property, including itself.
+     */
+    public static Set<OWLObjectProperty> getDisjointObjectProperty(OWLOntology ontology, OWLObjectProperty property){
+        Set<OWLObjectProperty> out = new HashSet<>();
+        closure( ontology, o -> o.disjointObjectPropertiesAxioms( property)).forEach( a -> addNamedObjectProperties( out, a.properties()));
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param property the object property to query.
+     * @return the named object properties asserted as inverse of the given property.
+     */
+    public static Set<OWLObjectProperty> getInverseProperty(OWLOntology ontology, OWLObjectProperty property){
+        Set<OWLObjectProperty> out = new HashSet<>();
+        closure( ontology, o -> o.inverseObjectPropertyAxioms( property)).forEach( a -> addNamedObjectProperties( out, a.properties()));
+        out.remove( property);
+        return out;
+    }
+    private static void addNamedObjectProperties(Set<OWLObjectProperty> out, Stream<? extends OWLObjectPropertyExpression> properties){
+        properties.forEach( p -> {
+            if ( ! p.isAnonymous())
+                out.add( p.asOWLObjectProperty());
+        });
+    }
+}
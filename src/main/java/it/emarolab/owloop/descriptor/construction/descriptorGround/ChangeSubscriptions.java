@@ -0,0 +1,305 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.DataProperty;
+import it.emarolab.owloop.core.Individual;
+import it.emarolab.owloop.core.ObjectProperty;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * The subscriptions of the descriptors to the changes of an ontology.
+ * <p>
+ *     Instead of polling an ontology with {@link Axiom.Descriptor#readAxioms()}, a descriptor can be
+ *     {@link #subscribe(DescriptorGround, Listener, Class[])}d to the changes that concern its ground instance
+ *     and some of its expressions (e.g., {@link Individual.Type}). Every time an axiom is added or removed from the
+ *     ontology (either by a descriptor or by other components that use the same {@link OWLOntologyManager}), the
+ *     change is routed to the subscriptions of the entities that appear in the axiom, and it is filtered by the expression
+ *     that the axiom concerns (e.g., an {@link OWLClassAssertionAxiom} concerns the {@link Individual.Type} of its individual
+ *     and the {@link it.emarolab.owloop.core.Class.Instance} of its class). If the expression of an axiom is not known, the
+ *     change is routed to all the subscriptions of its entities.
+ *     <br>
+ *     The affected descriptors are not read while the ontology is changing, but when the changes are
+ *     {@link #dispatch()}ed, which is done every time a thread releases the write lock of the ontology
+ *     (see {@link OntologyContext#write(java.util.function.Supplier)}), i.e., after the writing of a descriptor,
+ *     a {@link WriteSession#commit()} or a synchronisation of the reasoner. Each affected descriptor is read once,
+ *     even if it is affected by many changes, and its {@link Listener} is called with the intents that changed
+ *     its internal state, i.e., the incremental {@link Axiom.EntitySet.SynchronisationIntent}s of its expressions.
+ *     If the changes are not made through OWLOOP, {@link #dispatch()} should be called explicitly.
+ *     <br>
+ *     Note that the changes are routed by the asserted axioms, therefore, a descriptor is not notified when
+ *     its inferred axioms change because of axioms that do not concern its ground instance.
+ *     Also, a subscription keeps the descriptor (and its ontology) until it is {@link Subscription#cancel()}ed.
+ *     There are the subscriptions of each ontology in its {@link OntologyContext#getSubscriptions()}.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.ChangeSubscriptions <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ChangeSubscriptions {
+
+    private final OWLOntology ontology;
+    // the subscriptions by ground instance, and the subscriptions affected by changes not dispatched yet, guarded by this
+    private final Map<OWLObject,List<Subscription>> subscriptions = new HashMap<>();
+    private final Set<Subscription> pending = new LinkedHashSet<>();
+    private volatile boolean subscribed = false;
+    private volatile Executor executor = null;
+
+    ChangeSubscriptions(OWLOntology ontology) {
+        this.ontology = ontology;
+    }
+
+    /**
+     * @return the executor that reads the affected descriptors and calls their listeners,
+     * or {@code null} (by default) if they are called by the thread that dispatches the changes.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor that reads the affected descriptors and calls their listeners.
+     * @param executor the executor to use, or {@code null} to use the thread that dispatches the changes.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Subscribes a descriptor to the changes that concern its ground instance.
+     * @param descriptor the descriptor to read when its ground instance changes.
+     * @param listener the listener to call with the intents that changed the descriptor.
+     * @param kinds the expressions of the descriptor whose changes are notified (e.g., {@link Individual.Type}{@code .class}).
+     *              If no expressions are given, the changes of all the expressions are notified.
+     * @return the subscription, which can be cancelled.
+     */
+    public Subscription subscribe(DescriptorGround<?> descriptor, Listener listener, Class<?>... kinds){
+        Subscription subscription = new Subscription( descriptor, listener, kinds);
+        synchronized ( this) {
+            subscriptions.computeIfAbsent( subscription.getInstance(), i -> new ArrayList<>()).add( subscription);
+            subscribed = true;
+        }
+        return subscription;
+    }
+
+    /**
+     * @return the number of active subscriptions.
+     */
+    public synchronized int size(){
+        int size = 0;
+        for ( List<Subscription> s : subscriptions.values())
+            size += s.size();
+        return size;
+    }
+
+    /**
+     * @return the number of subscriptions affected by changes that have not been dispatched yet.
+     */
+    public synchronized int getPending(){
+        return pending.size();
+    }
+
+    /**
+     * Reads the descriptors affected by the changes of the ontology since the previous dispatching,
+     * and calls their listeners if their internal state changed.
+     * It is called every time a thread releases the write lock of the ontology.
+     * @return the number of subscriptions that have been dispatched.
+     */
+    public int dispatch(){
+        List<Subscription> affected;
+        synchronized ( this) {
+            if ( pending.isEmpty())
+                return 0;
+            affected = new ArrayList<>( pending);
+            pending.clear();
+        }
+        Executor executor = this.executor;
+        for ( Subscription s : affected) {
+            if ( executor == null)
+                s.notifyChanges();
+            else executor.execute( s::notifyChanges);
+        }
+        return affected.size();
+    }
+
+    // called by the OntologyContext for each change of the ontology manager
+    void route(List<? extends OWLOntologyChange> changes){
+        if ( ! subscribed)
+            return;
+        synchronized ( this) {
+            for ( OWLOntologyChange c : changes)
+                if ( c.getOntology() == ontology && c.isAxiomChange())
+                    routeAxiom( c.getAxiom());
+        }
+    }
+    private void routeAxiom(OWLAxiom axiom){
+        if ( axiom instanceof OWLClassAssertionAxiom) {
+            OWLClassAssertionAxiom a = (OWLClassAssertionAxiom) axiom;
+            route( a.getIndividual(), Individual.Type.class);
+            route( a.getClassExpression(), it.emarolab.owloop.core.Class.Instance.class);
+        } else if ( axiom instanceof OWLDataPropertyAssertionAxiom)
+            route( ((OWLDataPropertyAssertionAxiom) axiom).getSubject(), Individual.DataLink.class);
+        else if ( axiom instanceof OWLObjectPropertyAssertionAxiom)
+            route( ((OWLObjectPropertyAssertionAxiom) axiom).getSubject(), Individual.ObjectLink.class);
+        else if ( axiom instanceof OWLSameIndividualAxiom)
+            route( ((OWLSameIndividualAxiom) axiom).individuals(), Individual.Equivalent.class);
+        else if ( axiom instanceof OWLDifferentIndividualsAxiom)
+            route( ((OWLDifferentIndividualsAxiom) axiom).individuals(), Individual.Disjoint.class);
+        else if ( axiom instanceof OWLSubClassOfAxiom) {
+            OWLSubClassOfAxiom a = (OWLSubClassOfAxiom) axiom;
+            route( a.getSubClass(), it.emarolab.owloop.core.Class.Super.class, it.emarolab.owloop.core.Class.Restriction.class);
+            route( a.getSuperClass(), it.emarolab.owloop.core.Class.Sub.class);
+        } else if ( axiom instanceof OWLEquivalentClassesAxiom)
+            route( ((OWLEquivalentClassesAxiom) axiom).classExpressions(),
+                    it.emarolab.owloop.core.Class.Equivalent.class, it.emarolab.owloop.core.Class.Restriction.class);
+        else if ( axiom instanceof OWLDisjointClassesAxiom)
+            route( ((OWLDisjointClassesAxiom) axiom).classExpressions(), it.emarolab.owloop.core.Class.Disjoint.class);
+        else if ( axiom instanceof OWLSubDataPropertyOfAxiom) {
+            OWLSubDataPropertyOfAxiom a = (OWLSubDataPropertyOfAxiom) axiom;
+            route( a.getSubProperty(), DataProperty.Super.class);
+            route( a.getSuperProperty(), DataProperty.Sub.class);
+        } else if ( axiom instanceof OWLEquivalentDataPropertiesAxiom)
+            route( ((OWLEquivalentDataPropertiesAxiom) axiom).properties(), DataProperty.Equivalent.class);
+        else if ( axiom instanceof OWLDisjointDataPropertiesAxiom)
+            route( ((OWLDisjointDataPropertiesAxiom) axiom).properties(), DataProperty.Disjoint.class);
+        else if ( axiom instanceof OWLDataPropertyDomainAxiom)
+            route( ((OWLDataPropertyDomainAxiom) axiom).getProperty(), DataProperty.Domain.class);
+        else if ( axiom instanceof OWLDataPropertyRangeAxiom)
+            route( ((OWLDataPropertyRangeAxiom) axiom).getProperty(), DataProperty.Range.class);
+        else if ( axiom instanceof OWLSubObjectPropertyOfAxiom) {
+            OWLSubObjectPropertyOfAxiom a = (OWLSubObjectPropertyOfAxiom) axiom;
+            route( a.getSubProperty(), ObjectProperty.Super.class);
+            route( a.getSuperProperty(), ObjectProperty.Sub.class);
+        } else if ( axiom instanceof OWLEquivalentObjectPropertiesAxiom)
+            route( ((OWLEquivalentObjectPropertiesAxiom) axiom).properties(), ObjectProperty.Equivalent.class);
+        else if ( axiom instanceof OWLDisjointObjectPropertiesAxiom)
+            route( ((OWLDisjointObjectPropertiesAxiom) axiom).properties(), ObjectProperty.Disjoint.class);
+        else if ( axiom instanceof OWLInverseObjectPropertiesAxiom)
+            route( ((OWLInverseObjectPropertiesAxiom) axiom).properties(), ObjectProperty.Inverse.class);
+        else if ( axiom instanceof OWLObjectPropertyDomainAxiom)
+            route( ((OWLObjectPropertyDomainAxiom) axiom).getProperty(), ObjectProperty.Domain.class);
+        else if ( axiom instanceof OWLObjectPropertyRangeAxiom)
+            route( ((OWLObjectPropertyRangeAxiom) axiom).getProperty(), ObjectProperty.Range.class);
+        else route( axiom.signature()); // any expression of the involved entities
+    }
+    private void route(Stream<? extends OWLObject> instances, Class<?>... kinds){
+        instances.forEach( i -> route( i, kinds));
+    }
+    private void route(OWLObject instance, Class<?>... kinds){
+        List<Subscription> affected = subscriptions.get( instance);
+        if ( affected == null)
+            return;
+        for ( Subscription s : affected)
+            if ( s.isInterested( kinds))
+                pending.add( s);
+    }
+
+    private synchronized void cancel(Subscription subscription){
+        List<Subscription> s = subscriptions.get( subscription.getInstance());
+        if ( s != null && s.remove( subscription) && s.isEmpty())
+            subscriptions.remove( subscription.getInstance());
+        pending.remove( subscription);
+        subscribed = ! subscriptions.isEmpty();
+    }
+
+    /**
+     * The listener of the changes of a subscribed descriptor (see {@link #subscribe(DescriptorGround, Listener, Class[])}).
+     */
+    public interface Listener {
+
+        /**
+         * It is called after that a subscribed descriptor has been read because of some changes of the ontology,
+         * only if its internal state changed. It is called by the thread that dispatches the changes,
+         * or by the {@link #getExecutor()}.
+         * @param descriptor the subscribed descriptor, which has been read.
+         * @param intents the intents of the reading that changed the internal state of the descriptor
+         *                (i.e., they are not {@link Axiom.MappingIntent#isUnchanged()}).
+         */
+        void onChange(DescriptorGround<?> descriptor, List<Axiom.MappingIntent> intents);
+    }
+
+    /**
+     * The subscription of a descriptor to the changes that concern its ground instance
+     * (see {@link #subscribe(DescriptorGround, Listener, Class[])}).
+     * It is bound to the ground instance of the descriptor at the time of subscribing.
+     */
+    public class Subscription {
+
+        private final DescriptorGround<?> descriptor;
+        private final OWLObject instance;
+        private final Listener listener;
+        private final Class<?>[] kinds;
+        private volatile boolean active = true;
+
+        private Subscription(DescriptorGround<?> descriptor, Listener listener, Class<?>[] kinds) {
+            this.descriptor = descriptor;
+            this.instance = descriptor.getInstance();
+            this.listener = listener;
+            this.kinds = kinds.clone();
+        }
+
+        /**
+         * @return the subscribed descriptor.
+         */
+        public DescriptorGround<?> getDescriptor() {
+            return descriptor;
+        }
+
+        /**
+         * @return the ground instance whose changes are notified.
+         */
+        public OWLObject getInstance() {
+            return instance;
+        }
+
+        /**
+         * @return {@code true} if this subscription has not been cancelled.
+         */
+        public boolean isActive() {
+            return active;
+        }
+
+        /**
+         * Stops the notification of the changes to the descriptor.
+         */
+        public void cancel() {
+            active = false;
+            ChangeSubscriptions.this.cancel( this);
+        }
+
+        // true if this subscription is interested to any of the given expressions (all the expressions if empty)
+        private boolean isInterested(Class<?>[] changed){
+            if ( kinds.length == 0 || changed.length == 0)
+                return true;
+            for ( Class<?> k : kinds)
+                for ( Class<?> c : changed)
+                    if ( k == c)
+                        return true;
+            return false;
+        }
+
+        private void notifyChanges(){
+            if ( ! active)
+                return;
+            try {
+                List<Axiom.MappingIntent> changed = new ArrayList<>();
+                for ( Axiom.MappingIntent i : descriptor.readAxioms())
+                    if ( ! i.isUnchanged())
+                        changed.add( i);
+                if ( ! changed.isEmpty())
+                    listener.onChange( descriptor, changed);
+            } catch ( RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
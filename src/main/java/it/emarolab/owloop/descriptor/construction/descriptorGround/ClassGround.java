@@ -53,7 +53,7 @@ abstract public class ClassGround
 
     @Override
     protected GroundInstance<OWLClass> getNewGround(OWLReferences ontology, String instance) {
-            return new ConceptGroundInstance( ontology, ontology.getOWLClass( instance));
+            return new ConceptGroundInstance( ontology, instance);
     }
 
     @Override
@@ -0,0 +1,253 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.reasoner.InconsistentOntologyException;
+import org.semanticweb.owlapi.reasoner.Node;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.util.*;
+
+/**
+ * An in-memory index of the class hierarchy inferred by the reasoner of an ontology.
+ * <p>
+ *     The descriptors query the sub, super, equivalent and disjoint classes of their instance through
+ *     {@link it.emarolab.amor.owlInterface.OWLReferences}, i.e., with a call to the reasoner for each
+ *     descriptor and for each reading. If {@link OntologyContext#isClassTaxonomyIndexing()}, those queries
+ *     are answered by this index instead (see {@link OntologyContext#getClassTaxonomy(it.emarolab.amor.owlInterface.OWLReferences)}),
+ *     which is built by traversing the classification of the reasoner once, and it is rebuilt only
+ *     after that the ontology changed and the reasoner has been synchronised again.
+ *     <br>
+ *     The classes are identified by integers, and the index stores, for each node of the classification
+ *     (i.e., a set of equivalent classes), its classes, its direct sub and super nodes, and its disjoint classes as
+ *     arrays of integers. The non direct sub and super classes are collected by traversing those arrays, while the disjoint
+ *     classes are queried to the reasoner once for each node, when the index is built. Thus, the index does not query
+ *     the reasoner after its construction, even if the reasoner has been synchronised with further changes.
+ *     <br>
+ *     The methods of this class give the same results of the {@link it.emarolab.amor.owlInterface.OWLReferences}
+ *     methods with the same name when the reasoner is used and synchronised, without the {@code OWLThing} class.
+ *     The {@code direct} parameter specifies whether the query is not
+ *     {@link it.emarolab.amor.owlInterface.OWLReferences#getOWLEnquirerCompletenessFlag()}.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.ClassTaxonomy <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ClassTaxonomy {
+
+    private static final int[] NONE = new int[ 0];
+
+    private final OWLReasoner reasoner;
+    private final long changes;
+    private final OWLClass thing;
+    // the classes by identifier, and the identifiers of the classes
+    private final List<OWLClass> classes = new ArrayList<>();
+    private final Map<OWLClass,Integer> ids = new HashMap<>();
+    // the node of each class (by identifier), and the classes, sub nodes, super nodes and disjoint classes of each node
+    private int[] nodeOf;
+    private final List<int[]> members = new ArrayList<>();
+    private final List<int[]> children = new ArrayList<>();
+    private final List<int[]> parents = new ArrayList<>();
+    private final List<int[]> disjoints = new ArrayList<>();
+
+    // called by the OntologyContext, the reasoner should be synchronised
+    ClassTaxonomy(OWLReasoner reasoner, long changes) {
+        this.reasoner = reasoner;
+        this.changes = changes;
+        this.thing = reasoner.getTopClassNode().getRepresentativeElement();
+        build();
+    }
+
+    // a breadth first visit of the classification, from the top node
+    private void build(){
+        Map<OWLClass,Integer> nodes = new HashMap<>(); // the representative class of each node
+        List<Node<OWLClass>> queue = new ArrayList<>();
+        List<List<Integer>> sub = new ArrayList<>();
+        List<List<Integer>> sup = new ArrayList<>();
+        addNode( reasoner.getTopClassNode(), nodes, queue, sub, sup);
+        for ( int n = 0; n < queue.size(); n++) {
+            Node<OWLClass> node = queue.get( n);
+            if ( node.isBottomNode())
+                continue;
+            int parent = n;
+            reasoner.getSubClasses( node.getRepresentativeElement(), true).nodes().forEach( child -> {
+                int c = addNode( child, nodes, queue, sub, sup);
+                sub.get( parent).add( c);
+                sup.get( c).add( parent);
+            });
+        }
+        for ( int n = 0; n < queue.size(); n++) {
+            children.add( toArray( sub.get( n)));
+            parents.add( toArray( sup.get( n)));
+            disjoints.add( queryDisjointClasses( queue.get( n).getRepresentativeElement()));
+        }
+        nodeOf = new int[ classes.size()];
+        for ( int n = 0; n < members.size(); n++)
+            for ( int c : members.get( n))
+                nodeOf[ c] = n;
+    }
+    private int addNode(Node<OWLClass> node, Map<OWLClass,Integer> nodes, List<Node<OWLClass>> queue,
+                        List<List<Integer>> sub, List<List<Integer>> sup){
+        Integer n = nodes.get( node.getRepresentativeElement());
+        if ( n != null)
+            return n;
+        n = queue.size();
+        nodes.put( node.getRepresentativeElement(), n);
+        queue.add( node);
+        sub.add( new ArrayList<>());
+        sup.add( new ArrayList<>());
+        members.add( node.entities().mapToInt( this::getId).toArray());
+        return n;
+    }
+    private int getId(OWLClass cl){
+        Integer id = ids.get( cl);
+        if ( id == null) {
+            id = classes.size();
+            ids.put( cl, id);
+            classes.add( cl);
+        }
+        return id;
+    }
+    private static int[] toArray(List<Integer> list){
+        if ( list.isEmpty())
+            return NONE;
+        int[] out = new int[ list.size()];
+        for ( int i = 0; i < out.length; i++)
+            out[ i] = list.get( i);
+        return out;
+    }
+
+    /**
+     * @return the reasoner whose classification is indexed.
+     */
+    public OWLReasoner getReasoner() {
+        return reasoner;
+    }
+
+    /**
+     * @return the number of changes applied to the ontology (see {@link OntologyContext#getChanges()})
+     * when this index has been built.
+     */
+    public long getChanges() {
+        return changes;
+    }
+
+    /**
+     * @param cl a class.
+     * @return {@code true} if the given class is classified in this index.
+     */
+    public boolean contains(OWLClass cl){
+        return ids.containsKey( cl);
+    }
+
+    /**
+     * @return the number of classes in this index.
+     */
+    public int size(){
+        return classes.size();
+    }
+
+    /**
+     * @param cl the class to query.
+     * @param direct {@code true} to get only the direct sub classes.
+     * @return the sub classes of the given class, or an empty set if it is not in this index.
+     */
+    public Set<OWLClass> getSubClassOf(OWLClass cl, boolean direct){
+        return getClasses( cl, children, direct);
+    }
+
+    /**
+     * @param cl the class to query.
+     * @param direct {@code true} to get only the direct super classes.
+     * @return the super classes of the given class, or an empty set if it is not in this index.
+     */
+    public Set<OWLClass> getSuperClassOf(OWLClass cl, boolean direct){
+        return getClasses( cl, parents, direct);
+    }
+
+    /**
+     * @param cl the class to query.
+     * @return the classes equivalent to the given class, including itself,
+     * or an empty set if it is not in this index.
+     */
+    public Set<OWLClass> getEquivalentClasses(OWLClass cl){
+        Set<OWLClass> out = new HashSet<>();
+        Integer id = ids.get( cl);
+        if ( id != null)
+            addMembers( out, nodeOf[ id]);
+        out.remove( thing);
+        return out;
+    }
+
+    /**
+     * @param cl the class to query.
+     * @return the classes disjoint with the given class, or an empty set if it is not in this index.
+     */
+    public Set<OWLClass> getDisjointClasses(OWLClass cl){
+        Set<OWLClass> out = new HashSet<>();
+        Integer id = ids.get( cl);
+        if ( id == null)
+            return out;
+        for ( int c : disjoints.get( nodeOf[ id]))
+            out.add( classes.get( c));
+        out.remove( thing);
+        return out;
+    }
+    private int[] queryDisjointClasses(OWLClass cl){
+        try {
+            List<Integer> out = new ArrayList<>();
+            for ( OWLClass c : reasoner.getDisjointClasses( cl).entities().toArray( OWLClass[]::new)) {
+                Integer id = ids.get( c);
+                if ( id != null)
+                    out.add( id);
+            }
+            return toArray( out);
+        } catch ( InconsistentOntologyException e){
+            e.printStackTrace();
+            return NONE;
+        }
+    }
+
+    private Set<OWLClass> getClasses(OWLClass cl, List<int[]> edges, boolean direct){
+        Set<OWLClass> out = new HashSet<>();
+        Integer id = ids.get( cl);
+        if ( id == null)
+            return out;
+        int start = nodeOf[ id];
+        if ( direct) {
+            for ( int n : edges.get( start))
+                addMembers( out, n);
+        } else {
+            BitSet visited = new BitSet( members.size());
+            Deque<Integer> queue = new ArrayDeque<>();
+            queue.add( start);
+            visited.set( start);
+            while ( ! queue.isEmpty())
+                for ( int n : edges.get( queue.poll()))
+                    if ( ! visited.get( n)) {
+                        visited.set( n);
+                        addMembers( out, n);
+                        queue.add( n);
+                    }
+        }
+        out.remove( thing);
+        return out;
+    }
+    private void addMembers(Set<OWLClass> out, int node){
+        for ( int c : members.get( node))
+            out.add( classes.get( c));
+    }
+
+    @Override
+    public String toString() {
+        return "{classes=" + classes.size() +
+                ", nodes=" + members.size() +
+                ", changes=" + changes +
+                '}';
+    }
+}
@@ -53,7 +53,7 @@ abstract public class DataPropertyGround
     }
     @Override
     protected GroundInstance<OWLDataProperty> getNewGround(OWLReferences ontology, String instance) {
-        return new DataGroundInstance( ontology, ontology.getOWLDataProperty( instance));
+        return new DataGroundInstance( ontology, instance);
     }
 
     @Override
@@ -4,8 +4,14 @@ import com.clarkparsia.pellet.owlapi.PelletReasoner;
 import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.amor.owlInterface.OWLReferencesInterface;
 import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DescriptorEntitySet;
 import org.semanticweb.owlapi.model.OWLObject;
 
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 /**
  * This abstract class describes common constructors and initialisations for
  * a specific {@link GroundInstance}.
@@ -29,8 +35,17 @@ abstract public class DescriptorGround<J extends OWLObject>
 
     private static final boolean DEFAULT_BUFFERING_CHANGES = false;
     private static final boolean DEFAULT_AMOR_LOG = false;
+    // the grounds on the snapshots that the current thread is reading, by descriptor (see readAxioms(OntologySnapshot))
+    private static final ThreadLocal<Map<DescriptorGround<?>,GroundInstance<?>>> SNAPSHOT_GROUNDS =
+            ThreadLocal.withInitial( IdentityHashMap::new);
 
-    private GroundInstance<J> ground;
+    private volatile GroundInstance<J> ground; // might be read concurrently (e.g., while building descriptors)
+    private volatile ReadStamp lastRead = null; // null if the next reading should query the ontology
+    // the journals of the entity sets synchronised by this descriptor, and the changes of the ontology before writing
+    private List<DescriptorEntitySet.EntityJournal<?>> journals = null;
+    private long writingChanges = -1;
+    private volatile Boolean assertedReading = null; // null to use the setting of the ontology context
+    private final AtomicInteger snapshotReadings = new AtomicInteger(); // the threads reading this from a snapshot
 
     public DescriptorGround(J instance, OWLReferences onto) {
         setGround( getNewGround( onto, instance));
@@ -71,27 +86,30 @@ abstract public class DescriptorGround<J extends OWLObject>
     }
     private OWLReferences initialiseOntology( String ontoName, String filePath, String iriPath, Boolean bufferingChanges) {
         activateAMORlogging( DEFAULT_AMOR_LOG);
-        OWLReferences ontology;
-        if (OWLReferencesInterface.OWLReferencesContainer.getOWLReferencesKeys().contains(ontoName)) {
-            ontology = (OWLReferences) OWLReferencesInterface.OWLReferencesContainer.getOWLReferences(ontoName);
-            if ( ontology.getFilePath().equals(filePath) & ontology.getOntologyPath().equals(iriPath)) {
-                System.out.println("\tontological representation loaded from container with name: " + ontoName);
-                if (bufferingChanges != null)
-                    ontology.setOWLManipulatorBuffering(bufferingChanges);
-            } else{
-                System.out.println("!!!!\tontological representation cannot have a duplicated name: " + ontoName
-                        + ". Loaded from container with different file path or iri path!!");
-                System.out.println("!!!!\tgiven file path: " + filePath);
-                System.out.println("!!!!\tloaded file path: " + ontology.getFilePath());
-                System.out.println("!!!!\tgiven IRI path: " + iriPath);
-                System.out.println("!!!!\tloaded IRI path: " + ontology.getOntologyPath());
+        // descriptors might be concurrently created, load the ontology once
+        synchronized ( OWLReferencesInterface.OWLReferencesContainer.class) {
+            OWLReferences ontology;
+            if (OWLReferencesInterface.OWLReferencesContainer.getOWLReferencesKeys().contains(ontoName)) {
+                ontology = (OWLReferences) OWLReferencesInterface.OWLReferencesContainer.getOWLReferences(ontoName);
+                if ( ontology.getFilePath().equals(filePath) & ontology.getOntologyPath().equals(iriPath)) {
+                    System.out.println("\tontological representation loaded from container with name: " + ontoName);
+                    if (bufferingChanges != null)
+                        ontology.setOWLManipulatorBuffering(bufferingChanges);
+                } else{
+                    System.out.println("!!!!\tontological representation cannot have a duplicated name: " + ontoName
+                            + ". Loaded from container with different file path or iri path!!");
+                    System.out.println("!!!!\tgiven file path: " + filePath);
+                    System.out.println("!!!!\tloaded file path: " + ontology.getFilePath());
+                    System.out.println("!!!!\tgiven IRI path: " + iriPath);
+                    System.out.println("!!!!\tloaded IRI path: " + ontology.getOntologyPath());
+                }
+            } else {
+                ontology = OWLReferencesInterface.OWLReferencesContainer.
+                        newOWLReferenceFromFileWithPellet(ontoName, filePath, iriPath, bufferingChanges);
+                System.out.println("\tontological representation loaded from: " + filePath);
             }
-        } else {
-            ontology = OWLReferencesInterface.OWLReferencesContainer.
-                    newOWLReferenceFromFileWithPellet(ontoName, filePath, iriPath, bufferingChanges);
-            System.out.println("\tontological representation loaded from: " + filePath);
+            return ontology;
         }
-        return ontology;
     }
 
     /**
@@ -101,22 +119,60 @@ abstract public class DescriptorGround<J extends OWLObject>
      */
     public void setGround(GroundInstance<J> ground){ // call this in all constructor
         this.ground = ground;
+        this.lastRead = null;
+        if ( journals != null) { // the journals refer to the previous ground
+            for ( DescriptorEntitySet.EntityJournal<?> j : journals)
+                j.invalidate();
+            journals = null;
+        }
     }
 
     /**
      * It sets a new instance in the same {@link #getOntologyReference()}.
+     * Since grounds are immutable, a new ground is set, while the intents
+     * returned before keep the previous ground.
      * @param instance the new instance to be ground.
      */
     public void setGroundInstance(J instance){
-        this.ground.setInstance( instance);
+        setGround( getNewGround( getOntologyReference(), instance));
     }
 
     /**
      * It sets a new instance in the same {@link #getOntologyReference()}.
+     * Since grounds are immutable, a new ground is set, while the intents
+     * returned before keep the previous ground.
      * @param instanceName the new instance name to be ground.
      */
     public void setGroundInstance(String instanceName){
-        this.ground.setInstance( instanceName);
+        setGround( getNewGround( getOntologyReference(), instanceName));
+    }
+
+    /**
+     * Grounds {@code this} descriptor on another instance of the same {@link #getOntologyReference()},
+     * and it clears its internal state. Therefore, {@code this} descriptor can be reused as it would have been
+     * created with the given instance (see {@link DescriptorPool}).
+     * Descriptors that have an internal state should override this method, call it, and clear their entity
+     * sets (see {@link #resetEntitySets(EntitySet[])}). The intents returned by {@code this} descriptor
+     * before being reset should not be used anymore.
+     * @param instance the new instance to be ground.
+     */
+    public void reset(J instance){
+        setGroundInstance( instance);
+    }
+
+    /**
+     * Clears some entity sets and sets them to be not singleton, as they are when created.
+     * It is used to {@link #reset(OWLObject)} the internal state of a descriptor.
+     * @param sets the entity sets to reset.
+     */
+    protected static void resetEntitySets(EntitySet<?>... sets){
+        for ( EntitySet<?> s : sets) {
+            s.clear();
+            s.setSingleton( false);
+            DescriptorEntitySet.EntityJournal<?> journal = getJournal( s);
+            if ( journal != null)
+                journal.invalidate();
+        }
     }
 
     /**
@@ -142,13 +198,56 @@ abstract public class DescriptorGround<J extends OWLObject>
     }
 
     @Override // see super class for documentation
+    @SuppressWarnings("unchecked")
     public GroundInstance<J> getGround() {
+        if ( snapshotReadings.get() > 0) { // only the thread that reads the snapshot uses its ground
+            GroundInstance<?> snapshot = SNAPSHOT_GROUNDS.get().get( this);
+            if ( snapshot != null)
+                return (GroundInstance<J>) snapshot;
+        }
         return ground;
     }
 
+    // true if the current thread is reading this descriptor from a snapshot
+    private boolean isReadingSnapshot(){
+        return snapshotReadings.get() > 0 && SNAPSHOT_GROUNDS.get().containsKey( this);
+    }
+
+    @Override // see super class for documentation
+    public EntityCache getEntityCache() {
+        return getGround().getEntityCache();
+    }
+
+    @Override // see super class for documentation
+    public boolean isAssertedReading() {
+        Boolean asserted = assertedReading;
+        if ( asserted != null)
+            return asserted;
+        return OntologyContext.get( getOntologyReference()).isAssertedReading();
+    }
+
+    /**
+     * Sets whether {@code this} descriptor should read only the asserted axioms of its ontology,
+     * without the reasoner (see {@link AssertedQueries}), regardless of {@link OntologyContext#isAssertedReading()}.
+     * @param assertedReading {@code true} to read only the asserted axioms, {@code false} to read through aMOR,
+     *                        or {@code null} to use the setting of the ontology context (by default).
+     */
+    public void setAssertedReading(Boolean assertedReading) {
+        this.assertedReading = assertedReading;
+    }
+
     @Override // see super class for documentation
-    public void reason() {
-        getGround().reason();
+    public void reason() { // exclusive access to the ontology (see OntologyContext.write(..))
+        OntologyContext context = OntologyContext.get( getOntologyReference());
+        if ( context.getReasoningScheduler().isScheduling() && ! context.isIncrementalReasoning()) {
+            // coalesced with the synchronisations requested by other descriptors
+            context.getReasoningScheduler().synchronise( getOntologyReference(), Collections.emptyList());
+            return;
+        }
+        context.write( () -> {
+            getGround().reason();
+            return null;
+        });
     }
 
     @Override // see super class for documentation
@@ -156,6 +255,301 @@ abstract public class DescriptorGround<J extends OWLObject>
         return getGround().copyGround();
     }
 
+    /**
+     * Notifies the given intent to the {@link OntologyContext#getMetricsListener()} of the ontology, if any.
+     * @param intent the intent that has been generated.
+     */
+    @Override
+    public void onMappingIntent(MappingIntent intent) {
+        OntologyContext context = OntologyContext.get( getOntologyReference());
+        if ( writingChanges >= 0 && intent.getOntologyChanges() != null) { // it has written an entity set
+            long changes = context.getChanges();
+            if ( changes != writingChanges && journals != null) // the other journals are still valid
+                for ( DescriptorEntitySet.EntityJournal<?> j : journals)
+                    j.advance( writingChanges, changes);
+            writingChanges = -1;
+        }
+        OntologyContext.MetricsListener listener = context.getMetricsListener();
+        if ( listener != null)
+            listener.onMappingIntent( getOntologyReference(), intent);
+    }
+
+    /**
+     * Synchronises an entity set from the ontology (see {@link Descriptor#synchroniseFrom(EntitySet, Supplier)}).
+     * If the changes of the set are journaled (see {@link DescriptorEntitySet.JournaledEntitySet}), its journal
+     * is synchronised, and the changes done to the set for reading are not recorded.
+     * @param state the internal state of the descriptor to synchronise.
+     * @param query the query of the ontology (e.g.: {@code this::queryTypes}).
+     * @param <Y> the type of elements to synchronise.
+     * @return the changes to be done to synchronise the internal state with respect to the ontology.
+     */
+    @Override
+    public <Y> EntitySet.SynchronisationIntent<Y> synchroniseFrom(EntitySet<Y> state, Supplier<? extends EntitySet<Y>> query) {
+        DescriptorEntitySet.EntityJournal<Y> journal = getJournal( state);
+        if ( journal == null || isReadingSnapshot()) // the journal records the changes from the snapshot as edits
+            return Axiom.Descriptor.super.synchroniseFrom( state, query);
+        long changes = OntologyContext.get( getOntologyReference()).getChanges(); // before querying
+        EntitySet.SynchronisationIntent<Y> intent = Axiom.Descriptor.super.synchroniseFrom( state, query);
+        journal.synchronised( changes);
+        journal.expect( intent.getToAddView(), intent.getToRemoveView());
+        register( journal);
+        return intent;
+    }
+
+    /**
+     * Synchronises an entity set to the ontology (see {@link Descriptor#synchroniseTo(EntitySet, Supplier)}).
+     * <p>
+     *     If the changes of the set are journaled (see {@link DescriptorEntitySet.JournaledEntitySet}), and the
+     *     ontology did not change since the last synchronisation of the set (except for the changes made by
+     *     {@code this} descriptor), the ontology is not queried. Instead, the elements added and removed
+     *     to the set since its last synchronisation are written. Otherwise, the set is compared with the
+     *     result of the query, as usual. Note that, differently from the comparison, the journal adds
+     *     the elements that are only inferred by the reasoner as asserted axioms.
+     *     <br>
+     *     The journal is not used for singleton sets, and it becomes invalid when the ontology is
+     *     changed by other descriptors, or when the changes are buffered (e.g., by a {@link WriteSession}).
+     *     Also, the changes made by other threads while {@code this} descriptor is writing might not
+     *     invalidate the journal.
+     * </p>
+     * @param state the internal state of the descriptor to synchronise.
+     * @param query the query of the ontology (e.g.: {@code this::queryTypes}).
+     * @param <Y> the type of elements to synchronise.
+     * @return the changes to be done to synchronise the ontology with respect to the internal state.
+     */
+    @Override
+    public <Y> EntitySet.SynchronisationIntent<Y> synchroniseTo(EntitySet<Y> state, Supplier<? extends EntitySet<Y>> query) {
+        DescriptorEntitySet.EntityJournal<Y> journal = getJournal( state);
+        if ( journal == null)
+            return Axiom.Descriptor.super.synchroniseTo( state, query);
+        long changes = OntologyContext.get( getOntologyReference()).getChanges();
+        EntitySet.SynchronisationIntent<Y> intent;
+        if ( journal.isValid( changes) && ! state.isSingleton()) {
+            intent = EntitySet.SynchronisationIntent.changed( journal.getAdded(), journal.getRemoved(), journal.getUnchanged( state));
+        } else intent = Axiom.Descriptor.super.synchroniseTo( state, query);
+        journal.synchronised( changes); // the ontology will be equal to the set
+        register( journal);
+        writingChanges = changes;
+        return intent;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Y> DescriptorEntitySet.EntityJournal<Y> getJournal(EntitySet<Y> state){
+        if ( state instanceof DescriptorEntitySet.JournaledEntitySet)
+            return ( (DescriptorEntitySet.JournaledEntitySet<Y>) state).getJournal();
+        return null;
+    }
+
+    private void register(DescriptorEntitySet.EntityJournal<?> journal){
+        if ( journals == null)
+            journals = new ArrayList<>();
+        for ( DescriptorEntitySet.EntityJournal<?> j : journals)
+            if ( j == journal)
+                return;
+        journals.add( journal);
+    }
+
+    /**
+     * Writes the axioms of {@code this} descriptor, synchronises the reasoner and reads the axioms.
+     * The reasoner is synchronised through {@link OntologyContext#synchronizeReasoner(OWLReferences, Collection)}
+     * with the changes made during writing. Therefore, if the reasoning is incremental
+     * (see {@link OntologyContext#setIncrementalReasoning(boolean)}), the reasoner is not synchronised
+     * when there are no changes, and the following reading might not query the ontology
+     * (see {@link #readChangedAxioms(Supplier, Collection[])}). The time spent to synchronise the
+     * reasoner is given to the {@link MappingIntent#getMetrics()} of the last writing intent.
+     * All these operations are performed while holding the write lock of the ontology (see {@link #writeLockedAxioms(Supplier)}).
+     * <br>
+     * If the {@link ReasoningScheduler} of the ontology {@link ReasoningScheduler#isScheduling()}, the
+     * write lock is released after writing, and this method waits for the scheduler to synchronise the reasoner
+     * also with the changes written by other descriptors meanwhile.
+     * @param reason set to (false) to disable reasoning. This will add only asserted elements.
+     * @return the changes made by the {@link #writeAxioms()} and {@link #readAxioms()} operations.
+     */
+    @Override
+    public List<MappingIntent> writeAxiomsReasonReadAxioms(boolean reason) { // the readings of other threads wait
+        OntologyContext context = OntologyContext.get( getOntologyReference());
+        if ( ! reason || ! context.getReasoningScheduler().isScheduling() || context.getLock().isWriteLockedByCurrentThread())
+            return writeLockedAxioms( () -> writeReasonRead( reason));
+        // do not wait for the scheduler while holding the lock
+        List<MappingIntent> intent = writeAxioms();
+        reason( context, intent);
+        intent.addAll( readAxioms());
+        return intent;
+    }
+    private List<MappingIntent> writeReasonRead(boolean reason) {
+        List<MappingIntent> intent = writeAxioms();
+        if ( reason)
+            reason( OntologyContext.get( getOntologyReference()), intent);
+        intent.addAll( readAxioms());
+        return intent;
+    }
+    private void reason(OntologyContext context, List<MappingIntent> intent){
+        long start = System.nanoTime();
+        context.getReasoningScheduler().synchronise( getOntologyReference(), WriteSession.getOntologyChanges( intent));
+        if ( ! intent.isEmpty())
+            intent.get( intent.size() - 1).getMetrics().addReasonTime( System.nanoTime() - start);
+    }
+
+    /**
+     * Writes the axioms of {@code this} descriptor and requests the {@link ReasoningScheduler} of the
+     * ontology to synchronise the reasoner with the written changes (see {@link ReasoningScheduler#request(OWLReferences, Collection)}),
+     * without waiting for it. The descriptor should be read after that the returned future is completed,
+     * in order to get the inferred axioms. A thread that holds the lock of the ontology should not wait for
+     * the returned future, since the reasoner is synchronised while holding the write lock.
+     * @return a future completed with the changes made by {@link #writeAxioms()},
+     * when the reasoner has been synchronised with them.
+     */
+    public CompletableFuture<List<MappingIntent>> writeAxiomsScheduleReasoning(){
+        List<MappingIntent> intent = writeAxioms();
+        return OntologyContext.get( getOntologyReference()).getReasoningScheduler()
+                .request( getOntologyReference(), WriteSession.getOntologyChanges( intent))
+                .thenApply( synchronised -> intent);
+    }
+
+    /**
+     * Reads {@code this} descriptor from a snapshot of its ontology, without waiting for the writers of the ontology
+     * (see {@link OntologySnapshot}). While reading, {@link #getGround()} gives the ground on the copy of the
+     * ontology given by {@link OntologySnapshot#getOntology()} only to the current thread, while the ground of
+     * {@code this} descriptor is not changed. Therefore, the returned intents refer to the ground of the snapshot.
+     * <br>
+     * The reading from a snapshot is never skipped (see {@link #readChangedAxioms(Supplier, Collection[])}),
+     * and the changes that it makes to the journaled entity sets are recorded as they were done by the
+     * user (see {@link #synchroniseTo(EntitySet, Supplier)}), since they might not concern the actual ontology.
+     * @param snapshot the snapshot of the ontology of {@code this} descriptor.
+     * @return the changes made by {@link #readAxioms()} on the snapshot.
+     */
+    public List<MappingIntent> readAxioms(OntologySnapshot snapshot){
+        Map<DescriptorGround<?>,GroundInstance<?>> grounds = SNAPSHOT_GROUNDS.get();
+        GroundInstance<?> previous = grounds.put( this, getNewGround( snapshot.getOntology(), getInstance()));
+        snapshotReadings.incrementAndGet();
+        try {
+            return readAxioms();
+        } finally {
+            snapshotReadings.decrementAndGet();
+            if ( previous != null)
+                grounds.put( this, previous);
+            else grounds.remove( this);
+        }
+    }
+
+    /**
+     * Calls the given reading procedure only if the ontology or the internal state of
+     * {@code this} descriptor changed since the previous reading.
+     * <p>
+     *     It is used by the {@link #readAxioms()} methods in order to do not query an ontology
+     *     that has the same {@link OntologyContext.Version} of the previous reading. In this case,
+     *     {@link #getUnchangedIntent()} is returned. The reading is still performed if the given
+     *     entity sets (i.e., the internal state that is synchronised by the reading) are changed
+     *     after the previous reading, which is known by counting their modifications (see
+     *     {@link DescriptorEntitySet.CountedEntitySet}). The reading is always performed if
+     *     {@link OntologyContext#isReadCaching()} is {@code false}, which is the default.
+     *     <br>
+     *     Note that the version of the ontology changes for any change in the ontology, even if it does not
+     *     concern the instance described by {@code this} descriptor.
+     *     <br>
+     *     The reading is performed while holding the read lock of the ontology (see {@link OntologyContext#read(Supplier)}),
+     *     so that it is not interleaved with the writings of other threads. Also, the measurements of a failed
+     *     reading are discarded (see {@link MappingIntent.Metrics#discard()}).
+     * </p>
+     * @param reading the reading procedure, which synchronises the given entity sets.
+     * @param states the entity sets of {@code this} descriptor that are synchronised by the reading procedure.
+     * @return the changes made by the reading procedure, or {@link #getUnchangedIntent()}.
+     */
+    protected List<MappingIntent> readChangedAxioms(Supplier<List<MappingIntent>> reading, Collection<?>... states){
+        OntologyContext context = OntologyContext.get( getOntologyReference());
+        try {
+            return context.read( () -> readChangedAxioms( context, reading, states));
+        } finally {
+            MappingIntent.Metrics.discard(); // if the reading failed
+        }
+    }
+    private List<MappingIntent> readChangedAxioms(OntologyContext context, Supplier<List<MappingIntent>> reading, Collection<?>... states){
+        if ( ! context.isReadCaching() || isReadingSnapshot()) // the stamp refers to the ontology of the descriptor
+            return reading.get();
+
+        // get the version before to read, since the ontology might change meanwhile
+        OntologyContext.Version version = isAssertedReading() ? context.getAssertedVersion() : context.getVersion( getOntologyReference());
+        ReadStamp previous = lastRead;
+        if ( previous != null && previous.isUpToDate( version, getInstance(), states))
+            return getUnchangedIntent();
+
+        List<MappingIntent> intents = reading.get();
+        for ( MappingIntent i : intents)
+            if ( i.errorOccur()) {
+                lastRead = null;
+                return intents;
+            }
+        lastRead = new ReadStamp( version, getInstance(), states);
+        return intents;
+    }
+
+    /**
+     * Calls the given writing procedure while holding the write lock of the ontology
+     * (see {@link OntologyContext#write(Supplier)}). It is used by the {@link #writeAxioms()} methods,
+     * so that the writings of a descriptor are not interleaved with the readings and writings of other threads.
+     * Also, it discards the measurements of a failed writing (see {@link MappingIntent.Metrics#discard()}).
+     * @param writing the writing procedure.
+     * @return the changes made by the writing procedure.
+     */
+    protected List<MappingIntent> writeLockedAxioms(Supplier<List<MappingIntent>> writing){
+        try {
+            return OntologyContext.get( getOntologyReference()).write( writing);
+        } finally {
+            MappingIntent.Metrics.discard(); // if the writing failed
+        }
+    }
+
+    /*
+     * the ontology version, the instance and the internal state of a descriptor at its last reading.
+     * The state is given by the entity sets (compared by identity) and their modifications, followed
+     * by the modifications of the values of their expressions (in the order of iteration, which does
+     * not change if the modifications of the set are the same). Sets that do not count their
+     * modifications (see DescriptorEntitySet.CountedEntitySet) are hashed.
+     */
+    private static class ReadStamp {
+
+        private final OntologyContext.Version version;
+        private final Object instance;
+        private final Collection<?>[] states;
+        private final int[] modifications;
+
+        private ReadStamp(OntologyContext.Version version, Object instance, Collection<?>... states) {
+            this.version = version;
+            this.instance = instance;
+            this.states = states.clone();
+            this.modifications = getModifications( states);
+        }
+
+        private boolean isUpToDate(OntologyContext.Version version, Object instance, Collection<?>... states){
+            if ( ! this.version.equals( version) || ! this.instance.equals( instance) || this.states.length != states.length)
+                return false;
+            for ( int i = 0; i < states.length; i++)
+                if ( this.states[ i] != states[ i])
+                    return false;
+            return Arrays.equals( modifications, getModifications( states));
+        }
+
+        private static int[] getModifications(Collection<?>... states){
+            int size = states.length;
+            for ( Collection<?> s : states)
+                if ( s instanceof Axiom.ExpressionEntitySet)
+                    size += s.size();
+            int[] out = new int[ size];
+            int i = 0;
+            for ( Collection<?> s : states)
+                out[ i++] = getModifications( s);
+            for ( Collection<?> s : states)
+                if ( s instanceof Axiom.ExpressionEntitySet)
+                    for ( Object e : s) // the values of primitive data links are converted here
+                        out[ i++] = getModifications( ((Axiom.ExpressionEntity<?,?>) e).getValues());
+            return out;
+        }
+        private static int getModifications(Collection<?> set){
+            if ( set instanceof DescriptorEntitySet.CountedEntitySet)
+                return ((DescriptorEntitySet.CountedEntitySet<?>) set).getModifications();
+            return set.hashCode();
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
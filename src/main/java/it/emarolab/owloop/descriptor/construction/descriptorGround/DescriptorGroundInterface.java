@@ -48,13 +48,19 @@ public interface DescriptorGroundInterface<J extends OWLObject>
      * Is used for implementing: {@link IndividualGroundInstance}, {@link ConceptGroundInstance}, {@link DataGroundInstance} and
      * {@link ObjectGroundInstance}. It makes the instance to be an {@link OWLObject} and the ontology to be an {@link OWLReferences}.
      *
+     * A {@link GroundInstance} is immutable. Therefore, it is shared by all the {@link Axiom.MappingIntent}s of a descriptor,
+     * and a descriptor is grounded on another instance by setting a new ground (see {@link DescriptorGround#setGroundInstance(OWLObject)}).
+     * For this reason, the {@code setInstance} methods, which changed the instance of a ground, are not available anymore.
+     *
      * @param <J> the type of ontological entity to be manipulated in the ontology by a descriptor.
      */
     abstract class GroundInstance<J extends OWLObject>
             implements DescriptorGroundInterface<J> {
 
-        private OWLReferences ontology;
-        protected J instance;
+        // a ground never changes, it is shared by the intents and it can be safely read by concurrent descriptors
+        private final OWLReferences ontology;
+        private final J instance;
+        private volatile EntityCache entityCache = null; // given by the context of the ontology when first used
 
         /**
          * Fully instanciate this class
@@ -72,6 +78,7 @@ public interface DescriptorGroundInterface<J extends OWLObject>
         protected GroundInstance(GroundInstance<J> copy){
             this.ontology = copy.ontology;
             this.instance = copy.instance;
+            this.entityCache = copy.entityCache;
         }
 
         @Override // see super class for documentation
@@ -84,6 +91,14 @@ public interface DescriptorGroundInterface<J extends OWLObject>
             return instance;
         }
 
+        @Override // see super class for documentation
+        public EntityCache getEntityCache() {
+            EntityCache cache = entityCache;
+            if ( cache == null)
+                entityCache = cache = OntologyContext.get( ontology).getEntityCache();
+            return cache;
+        }
+
         @Override // see super class for documentation
         abstract public GroundInstance<J> copyGround();
 
@@ -114,19 +129,6 @@ public interface DescriptorGroundInterface<J extends OWLObject>
         public String toString() {
             return ontology.getReferenceName() + "@" + getOWLName( instance);
         }
-
-        /**
-         * It change the instance to be grounded in the same {@link #getOWLOntology()},
-         * @param instance the new grounding instance.
-         */
-        public void setInstance(J instance) {
-            this.instance = instance;
-        }
-        /**
-         * It change the instance to be grounded in the same {@link #getOWLOntology()},
-         * @param instanceName the new grounding instance name.
-         */
-        abstract public void setInstance(String instanceName);
     }
 
     /**
@@ -158,12 +160,7 @@ public interface DescriptorGroundInterface<J extends OWLObject>
          * @param instanceName the name of the ontological individualDescriptor to be described.
          */
         public IndividualGroundInstance(OWLReferences ontology, String instanceName) {
-            super(ontology, ontology.getOWLIndividual(instanceName));
-        }
-
-        @Override
-        public void setInstance(String instanceName) {
-            this.instance = getOWLIndividual( instanceName);
+            super(ontology, OntologyContext.get( ontology).getEntityCache().getOWLIndividual( ontology, instanceName));
         }
 
         @Override
@@ -202,12 +199,7 @@ public interface DescriptorGroundInterface<J extends OWLObject>
          * @param instanceName the name of the ontological class to be described.
          */
         public ConceptGroundInstance(OWLReferences ontology, String instanceName) {
-            super(ontology, ontology.getOWLClass( instanceName));
-        }
-
-        @Override
-        public void setInstance(String instanceName) {
-            this.instance = getOWLClass( instanceName);
+            super(ontology, OntologyContext.get( ontology).getEntityCache().getOWLClass( ontology, instanceName));
         }
 
         @Override
@@ -246,12 +238,7 @@ public interface DescriptorGroundInterface<J extends OWLObject>
          * @param instanceName the name of the ontological data property to be described.
          */
         public DataGroundInstance(OWLReferences ontology, String instanceName) {
-            super(ontology, ontology.getOWLDataProperty( instanceName));
-        }
-
-        @Override
-        public void setInstance(String instanceName) {
-            this.instance = getOWLDataProperty( instanceName);
+            super(ontology, OntologyContext.get( ontology).getEntityCache().getOWLDataProperty( ontology, instanceName));
         }
 
         @Override
@@ -290,12 +277,7 @@ public interface DescriptorGroundInterface<J extends OWLObject>
          * @param instanceName the name of the ontological object property to be described.
          */
         public ObjectGroundInstance(OWLReferences ontology, String instanceName) {
-            super(ontology, ontology.getOWLObjectProperty( instanceName));
-        }
-
-        @Override
-        public void setInstance(String instanceName) {
-            this.instance = getOWLObjectProperty( instanceName);
+            super(ontology, OntologyContext.get( ontology).getEntityCache().getOWLObjectProperty( ontology, instanceName));
         }
 
         @Override
@@ -304,44 +286,53 @@ public interface DescriptorGroundInterface<J extends OWLObject>
         }
     }
 
+    /**
+     * Returns the cache used to resolve the names of the entities in the grounded ontology,
+     * which is shared by all the grounds on the same ontology (see {@link OntologyContext#getEntityCache()}).
+     * @return the names cache of the grounded ontology.
+     */
+    default EntityCache getEntityCache(){
+        return OntologyContext.get( getGroundOntology()).getEntityCache();
+    }
+
     /**
      * Given an ontological class with a specified name
-     * in the in the {@link #getOWLOntology()} IRI.
+     * in the in the {@link #getOWLOntology()} IRI, resolved through {@link #getEntityCache()}.
      * @param className the name of the {@link OWLClass}.
      * @return a new OWL class with the specified name in the grounded ontology.
      */
     default OWLClass getOWLClass(String className){
-        return getGroundOntology().getOWLClass( className);
+        return getEntityCache().getOWLClass( getGroundOntology(), className);
     }
 
     /**
      * Given an ontological individualDescriptor with a specified name
-     * in the in the {@link #getOWLOntology()} IRI.
+     * in the in the {@link #getOWLOntology()} IRI, resolved through {@link #getEntityCache()}.
      * @param individualName the name of the {@link OWLNamedIndividual}.
      * @return a new OWL individualDescriptor with the specified name in the grounded ontology.
      */
     default OWLNamedIndividual getOWLIndividual(String individualName){
-        return getGroundOntology().getOWLIndividual( individualName);
+        return getEntityCache().getOWLIndividual( getGroundOntology(), individualName);
     }
 
     /**
      * Given an ontological data property with a specified name
-     * in the in the {@link #getOWLOntology()} IRI.
+     * in the in the {@link #getOWLOntology()} IRI, resolved through {@link #getEntityCache()}.
      * @param propertyName the name of the {@link OWLDataProperty}.
      * @return a new OWL data property with the specified name in the grounded ontology.
      */
     default OWLDataProperty getOWLDataProperty(String propertyName){
-        return getGroundOntology().getOWLDataProperty( propertyName);
+        return getEntityCache().getOWLDataProperty( getGroundOntology(), propertyName);
     }
 
     /**
      * Given an ontological object property with a specified name
-     * in the in the {@link #getOWLOntology()} IRI.
+     * in the in the {@link #getOWLOntology()} IRI, resolved through {@link #getEntityCache()}.
      * @param propertyName the name of the {@link OWLDataProperty}.
      * @return a new OWL data property with the specified name in the grounded ontology.
      */
     default OWLObjectProperty getOWLObjectProperty(String propertyName){
-        return getGroundOntology().getOWLObjectProperty( propertyName);
+        return getEntityCache().getOWLObjectProperty( getGroundOntology(), propertyName);
     }
 
     /**
@@ -453,6 +444,27 @@ public interface DescriptorGroundInterface<J extends OWLObject>
         return getGroundOntology().getOWLEnquirerReasoningFlag();
     }
 
+    /**
+     * It returns if the querying reads only the asserted axioms directly from the {@link OWLOntology}
+     * (see {@link AssertedQueries}), instead of using aMOR and, possibly, the reasoner.
+     * By default, it is given by the {@link OntologyContext#isAssertedReading()} of the ground ontology.
+     * @return {@code true} if the querying reads only the asserted axioms, without the reasoner.
+     */
+    default boolean isAssertedReading(){
+        return OntologyContext.get( getGroundOntology()).isAssertedReading();
+    }
+
+    /**
+     * It returns the index used to query the class hierarchy instead of aMOR, if it is enabled and up to date
+     * (see {@link OntologyContext#getClassTaxonomy(OWLReferences)}). It is never used if {@link #isAssertedReading()}.
+     * @return the index of the class hierarchy of the ground ontology, or {@code null} if aMOR should be queried.
+     */
+    default ClassTaxonomy getClassTaxonomy(){
+        if ( isAssertedReading())
+            return null;
+        return OntologyContext.get( getGroundOntology()).getClassTaxonomy( getGroundOntology());
+    }
+
     /**
      * It enable/disable exhaustive description of the reasoner during aMOR querying.
      * @param complete {@code true} if the query returns all the results (except for {@code OWLThing}).
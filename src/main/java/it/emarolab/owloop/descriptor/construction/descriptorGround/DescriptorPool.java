@@ -0,0 +1,196 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import java.lang.ref.SoftReference;
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * An optional pool of descriptors, which can be reused instead of creating new descriptors.
+ * <p>
+ *     Workloads that build many short-lived descriptors (e.g., through
+ *     {@link it.emarolab.owloop.core.Axiom.Descriptor#buildTypes()}) create a descriptor, and its
+ *     entity sets, for each entity that they describe. When this pool is enabled (see {@link #setEnabled(boolean)}),
+ *     the descriptors that have been given back through {@link #release(DescriptorGround)} are
+ *     {@link DescriptorGround#reset(OWLObject)} and returned by {@link #acquire(Class, OWLObject, OWLReferences, BiFunction)},
+ *     which is used by the {@code getNew...()} methods of the utility descriptors
+ *     (e.g., {@link it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc#getNewType(org.semanticweb.owlapi.model.OWLClass, OWLReferences)}).
+ *     <br>
+ *     The pool is shared among all the threads and it is synchronised, since the descriptors are
+ *     built by the caller thread but they might be read, and released, by other threads
+ *     (see {@link it.emarolab.owloop.core.Axiom.Descriptor.Builder}). A descriptor given back to the pool
+ *     should not be used anymore, since it might be reset by the next building. Also, the
+ *     {@link it.emarolab.owloop.core.Axiom.MappingIntent}s returned by a descriptor before it has been released
+ *     might refer to its internal state, which is cleared when it is acquired again.
+ *     For each ontology and class of descriptors, at most {@link #getCapacity()} descriptors are kept.
+ *     <br>
+ *     The ontologies are weakly referenced by the pool, and the released descriptors are softly referenced.
+ *     Therefore, the pool does not prevent an ontology that is not used anymore from being garbage collected,
+ *     and its descriptors are discarded when the memory is required.
+ *     The pool is disabled by default, and in this case {@link #acquire(Class, OWLObject, OWLReferences, BiFunction)}
+ *     always creates a new descriptor.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorPool <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class DescriptorPool {
+
+    /**
+     * The default number of descriptors kept for each ontology and class of descriptors.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static volatile boolean enabled = false;
+    private static volatile int capacity = DEFAULT_CAPACITY;
+    // the released descriptors by ontology and class, the descriptors refer to their ontology, so they are not strongly kept
+    private static final Map<OWLReferences,Map<Class<?>,ArrayDeque<SoftReference<DescriptorGround<?>>>>> POOLS =
+            new WeakHashMap<>();
+
+    private DescriptorPool() {
+    }
+
+    /**
+     * @return {@code true} if the released descriptors are reused.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the reuse of the released descriptors.
+     * When the pool is disabled, the descriptors that it keeps are not removed, but they are not used.
+     * @param enabled set to {@code true} to reuse the released descriptors.
+     */
+    public static void setEnabled(boolean enabled) {
+        DescriptorPool.enabled = enabled;
+    }
+
+    /**
+     * @return the maximum number of descriptors kept for each ontology and class of descriptors.
+     */
+    public static int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the maximum number of descriptors kept for each ontology and class of descriptors.
+     * It does not remove the descriptors that have already been released.
+     * @param capacity the capacity of the pool.
+     */
+    public static void setCapacity(int capacity) {
+        DescriptorPool.capacity = Math.max( capacity, 0);
+    }
+
+    /**
+     * Returns a descriptor grounded on the given instance and ontology with an empty internal state.
+     * If this pool is enabled and it has a descriptor of the given class, which has been released
+     * for the same ontology, this descriptor is {@link DescriptorGround#reset(OWLObject)}
+     * and returned. Otherwise, a new descriptor is created.
+     * @param type the class of the descriptor.
+     * @param instance the instance to ground.
+     * @param ontology the ontology to ground.
+     * @param constructor the constructor of a new descriptor.
+     * @param <J> the type of instance.
+     * @param <D> the type of descriptor.
+     * @return a descriptor of the given class grounded on the given instance.
+     */
+    public static <J extends OWLObject, D extends DescriptorGround<J>> D acquire(Class<D> type, J instance, OWLReferences ontology,
+                                                                               BiFunction<J,OWLReferences,D> constructor){
+        if ( enabled) {
+            DescriptorGround<?> released = poll( type, ontology);
+            if ( released != null) {
+                D descriptor = type.cast( released);
+                descriptor.reset( instance); // outside the lock, the descriptor is not in the pool anymore
+                return descriptor;
+            }
+        }
+        return constructor.apply( instance, ontology);
+    }
+
+    // the last released descriptor that has not been garbage collected, or null
+    private static DescriptorGround<?> poll(Class<?> type, OWLReferences ontology){
+        synchronized ( POOLS) {
+            Map<Class<?>,ArrayDeque<SoftReference<DescriptorGround<?>>>> pools = POOLS.get( ontology);
+            if ( pools == null)
+                return null;
+            ArrayDeque<SoftReference<DescriptorGround<?>>> pool = pools.get( type);
+            while ( pool != null && ! pool.isEmpty()) {
+                DescriptorGround<?> descriptor = pool.pop().get();
+                if ( descriptor != null)
+                    return descriptor;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Gives back a descriptor that is not used anymore. It is kept by the pool
+     * only if this pool is enabled and it is not full.
+     * @param descriptor the descriptor to release.
+     * @return {@code true} if the descriptor has been kept by the pool.
+     */
+    public static boolean release(DescriptorGround<?> descriptor){
+        if ( ! enabled || descriptor == null || descriptor.getOntologyReference() == null)
+            return false;
+        synchronized ( POOLS) {
+            ArrayDeque<SoftReference<DescriptorGround<?>>> pool = POOLS
+                    .computeIfAbsent( descriptor.getOntologyReference(), o -> new HashMap<>())
+                    .computeIfAbsent( descriptor.getClass(), c -> new ArrayDeque<>());
+            pool.removeIf( d -> d.get() == null); // garbage collected
+            if ( pool.size() >= capacity)
+                return false;
+            for ( SoftReference<DescriptorGround<?>> d : pool)
+                if ( d.get() == descriptor) // already released
+                    return false;
+            pool.push( new SoftReference<>( descriptor));
+            return true;
+        }
+    }
+
+    /**
+     * Gives back some descriptors that are not used anymore (see {@link #release(DescriptorGround)}),
+     * e.g., the descriptors given by a {@code build...()} method.
+     * @param descriptors the descriptors to release.
+     * @return the number of descriptors kept by the pool.
+     */
+    public static int releaseAll(Collection<?> descriptors){
+        int released = 0;
+        for ( Object d : descriptors)
+            if ( d instanceof DescriptorGround && release( (DescriptorGround<?>) d))
+                released++;
+        return released;
+    }
+
+    /**
+     * @return the number of descriptors kept by the pool, which have not been garbage collected.
+     */
+    public static int size(){
+        int size = 0;
+        synchronized ( POOLS) {
+            for ( Map<Class<?>,ArrayDeque<SoftReference<DescriptorGround<?>>>> pools : POOLS.values())
+                for ( ArrayDeque<SoftReference<DescriptorGround<?>>> pool : pools.values())
+                    for ( SoftReference<DescriptorGround<?>> d : pool)
+                        if ( d.get() != null)
+                            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Removes all the descriptors kept by the pool.
+     */
+    public static void clear(){
+        synchronized ( POOLS) {
+            POOLS.clear();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded cache that maps names to the OWL entities of an ontology.
+ * <p>
+ *     The methods of the descriptors that take the name of an entity (e.g.,
+ *     {@link it.emarolab.owloop.descriptor.construction.descriptorExpression.IndividualExpression.Type#addTypeIndividual(String)})
+ *     and the {@link DescriptorGroundInterface.GroundInstance} built from a name do not resolve the name through
+ *     {@link OWLReferences} (which creates a new IRI and logs every call), but they use this cache.
+ *     It is shared by all the descriptors grounded on the same ontology (see {@link OntologyContext#getEntityCache()}),
+ *     and it keeps, for each type of entity, the {@link #getCapacity()} names that have been used most recently.
+ *     <br>
+ *     The cache counts the hits and the misses of the resolved names, and it can be disabled by setting its capacity to {@code 0}.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.EntityCache <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class EntityCache {
+
+    /**
+     * The default number of names cached for each type of entity.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private volatile int capacity = DEFAULT_CAPACITY;
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+    // the cache does not refer to the ontology, since it is weakly referenced by its context
+    private final Names<OWLClass> classes = new Names<>();
+    private final Names<OWLNamedIndividual> individuals = new Names<>();
+    private final Names<OWLDataProperty> dataProperties = new Names<>();
+    private final Names<OWLObjectProperty> objectProperties = new Names<>();
+
+    EntityCache() {
+    }
+
+    /**
+     * Returns the class with the given name (see {@link OWLReferences#getOWLClass(String)}).
+     * @param ontology the ontology of this cache.
+     * @param name the name of the class.
+     * @return the OWL class with the given name in the ontology.
+     */
+    public OWLClass getOWLClass(OWLReferences ontology, String name){
+        return get( classes, name, ontology::getOWLClass);
+    }
+
+    /**
+     * Returns the individual with the given name (see {@link OWLReferences#getOWLIndividual(String)}).
+     * @param ontology the ontology of this cache.
+     * @param name the name of the individual.
+     * @return the OWL individual with the given name in the ontology.
+     */
+    public OWLNamedIndividual getOWLIndividual(OWLReferences ontology, String name){
+        return get( individuals, name, ontology::getOWLIndividual);
+    }
+
+    /**
+     * Returns the data property with the given name (see {@link OWLReferences#getOWLDataProperty(String)}).
+     * @param ontology the ontology of this cache.
+     * @param name the name of the data property.
+     * @return the OWL data property with the given name in the ontology.
+     */
+    public OWLDataProperty getOWLDataProperty(OWLReferences ontology, String name){
+        return get( dataProperties, name, ontology::getOWLDataProperty);
+    }
+
+    /**
+     * Returns the object property with the given name (see {@link OWLReferences#getOWLObjectProperty(String)}).
+     * @param ontology the ontology of this cache.
+     * @param name the name of the object property.
+     * @return the OWL object property with the given name in the ontology.
+     */
+    public OWLObjectProperty getOWLObjectProperty(OWLReferences ontology, String name){
+        return get( objectProperties, name, ontology::getOWLObjectProperty);
+    }
+
+    private <E> E get(Names<E> names, String name, Function<String,E> resolver){
+        if ( capacity > 0) {
+            E entity;
+            synchronized ( names) {
+                entity = names.get( name);
+            }
+            if ( entity != null) {
+                hits.increment();
+                return entity;
+            }
+        }
+        misses.increment();
+        E entity = resolver.apply( name); // not synchronised, since aMOR synchronises on the ontology
+        if ( entity != null && capacity > 0)
+            synchronized ( names) {
+                names.put( name, entity);
+            }
+        return entity;
+    }
+
+    /**
+     * @return the number of names that have been resolved by this cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of names that have been resolved through the ontology.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the maximum number of names cached for each type of entity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the maximum number of names cached for each type of entity.
+     * If it is reduced, the names that have not been used recently are removed.
+     * @param capacity the capacity of the cache, {@code 0} to disable it.
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = Math.max( capacity, 0);
+        for ( Names<?> n : new Names<?>[]{ classes, individuals, dataProperties, objectProperties})
+            synchronized ( n) {
+                n.trim();
+            }
+    }
+
+    /**
+     * @return the number of names in this cache.
+     */
+    public int size(){
+        int size = 0;
+        for ( Names<?> n : new Names<?>[]{ classes, individuals, dataProperties, objectProperties})
+            synchronized ( n) {
+                size += n.size();
+            }
+        return size;
+    }
+
+    /**
+     * Removes all the names from this cache and resets its counters.
+     */
+    public void clear(){
+        for ( Names<?> n : new Names<?>[]{ classes, individuals, dataProperties, objectProperties})
+            synchronized ( n) {
+                n.clear();
+            }
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "{capacity=" + capacity +
+                ", size=" + size() +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                '}';
+    }
+
+    // the names of an entity type in access order, the least recently used are removed above the capacity
+    private class Names<E>
+            extends LinkedHashMap<String,E> {
+
+        private Names() {
+            super( 16, .75f, true);
+        }
+
+        private void trim(){
+            while ( size() > capacity)
+                remove( keySet().iterator().next());
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String,E> eldest) {
+            return size() > capacity;
+        }
+    }
+}
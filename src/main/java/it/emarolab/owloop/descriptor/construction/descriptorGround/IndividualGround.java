@@ -60,7 +60,7 @@ abstract public class IndividualGround
 
     @Override
     protected GroundInstance<OWLNamedIndividual> getNewGround(OWLReferences ontology, String instance) {
-            return new IndividualGroundInstance( ontology, ontology.getOWLIndividual( instance));
+            return new IndividualGroundInstance( ontology, instance);
     }
 
     @Override
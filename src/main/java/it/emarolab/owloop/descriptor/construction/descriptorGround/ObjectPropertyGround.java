@@ -52,7 +52,7 @@ abstract public class ObjectPropertyGround
     }
     @Override
     protected GroundInstance<OWLObjectProperty> getNewGround(OWLReferences ontology, String instance) {
-        return new ObjectGroundInstance( ontology, ontology.getOWLObjectProperty( instance));
+        return new ObjectGroundInstance( ontology, instance);
     }
 
     @Override
@@ -0,0 +1,585 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import org.mindswap.pellet.PelletOptions;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * The state that OWLOOP shares among all the descriptors grounded on the same {@link OWLReferences}.
+ * <p>
+ *     There is only one context for each ontology reference, and it is given by {@link #get(OWLReferences)}.
+ *     It is created the first time it is required and it is discarded when the ontology reference is
+ *     no longer used.
+ *     <br>
+ *     The context tracks the {@link Version} of the ontology, which changes every time
+ *     some axioms are added or removed from the ontology (either by a descriptor or by other
+ *     components that use the same {@link org.semanticweb.owlapi.model.OWLOntologyManager}),
+ *     and every time the reasoner is synchronised with buffered changes.
+ *     If {@link #isReadCaching()}, the descriptors use it to avoid querying an ontology that has not
+ *     been changed since their last {@link it.emarolab.owloop.core.Axiom.Descriptor#readAxioms()}.
+ *     <br>
+ *     The context also specifies whether the reasoner should be synchronised incrementally
+ *     (see {@link #synchronizeReasoner(OWLReferences, Collection)}), and the {@link MetricsListener}
+ *     that is notified with the measurements of the descriptors and of the reasoner.
+ *     It provides the {@link EntityCache} used to resolve the names of the entities.
+ *     <br>
+ *     Finally, the context has a read/write lock (see {@link #read(Supplier)} and {@link #write(Supplier)}),
+ *     which allows many descriptors to read the ontology concurrently, while the descriptors that
+ *     write the ontology and the synchronisations of the reasoner have exclusive access.
+ *     The synchronisations of the reasoner requested by the descriptors can be coalesced
+ *     through the {@link ReasoningScheduler} of the context, and the descriptors can subscribe to the
+ *     changes of the ontology through its {@link ChangeSubscriptions}. It also keeps the latest
+ *     {@link OntologySnapshot}, which is shared by the readings of the same version of the ontology,
+ *     and the latest {@link ClassTaxonomy}, which indexes the class hierarchy inferred by the reasoner.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyContext {
+
+    // the contexts are weakly referenced by their ontology, they must not refer to it
+    private static final Map<OWLReferences,OntologyContext> CONTEXTS = new WeakHashMap<>();
+
+    /**
+     * Returns the context of the given ontology. It is created if it does not exist yet.
+     * @param ontology the ontology reference.
+     * @return the context shared by all the descriptors grounded on the given ontology.
+     */
+    public static OntologyContext get(OWLReferences ontology){
+        synchronized ( CONTEXTS) {
+            return CONTEXTS.computeIfAbsent( ontology, OntologyContext::new);
+        }
+    }
+
+    // to give a unique identifier to the contexts
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private final long id = IDS.incrementAndGet();
+    private final OWLOntology ontology;
+    private final AtomicLong changes = new AtomicLong();
+    private volatile boolean readCaching = false;
+    private volatile boolean incrementalReasoning = false;
+    private volatile boolean assertedReading = false;
+    private volatile boolean classTaxonomyIndexing = false;
+    private volatile MetricsListener metricsListener = null;
+    private final EntityCache entityCache = new EntityCache();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean locking = true;
+    private final ReasoningScheduler reasoningScheduler = new ReasoningScheduler( this);
+    private final ChangeSubscriptions subscriptions;
+    private final Object snapshotLock = new Object();
+    private OntologySnapshot snapshot = null; // the latest snapshot, guarded by snapshotLock
+    private ClassTaxonomy classTaxonomy = null; // the latest index of the classes, guarded by this
+
+    private OntologyContext(OWLReferences reference){
+        this.ontology = reference.getOWLOntology();
+        // count the changes applied to this ontology
+        reference.getOWLManager().addOntologyChangeListener( new ChangeCounter( ontology, changes));
+        // route the changes to the subscribed descriptors
+        subscriptions = new ChangeSubscriptions( ontology);
+        reference.getOWLManager().addOntologyChangeListener( subscriptions::route);
+    }
+
+    /**
+     * @return the unique identifier of this context. The locks of many contexts should be taken
+     * in the order of their identifiers (see {@link ReasoningGroup#synchronizeReasoners()}).
+     */
+    public long getId(){
+        return id;
+    }
+
+    /**
+     * @return the number of changes applied to the ontology since this context has been created.
+     */
+    public long getChanges(){
+        return changes.get();
+    }
+
+    /**
+     * Returns the actual version of the ontology, which is based on the
+     * number of changes applied to the ontology, the number of changes that
+     * are buffered in the reasoner, on whether the reasoner is used by
+     * the queries, and on whether the queries are complete (see
+     * {@link OWLReferences#getOWLEnquirerCompletenessFlag()}).
+     * Two versions are equal only if the results of the queries did not change.
+     * @param reference the ontology reference of this context.
+     * @return the actual version of the ontology.
+     */
+    public Version getVersion(OWLReferences reference){
+        long applied = changes.get();
+        boolean reasoning = reference.getOWLEnquirerReasoningFlag();
+        OWLReasoner reasoner = reference.getOWLReasoner();
+        int pending = reasoner != null ? reasoner.getPendingChanges().size() : 0;
+        return new Version( applied, pending, reasoning, reference.getOWLEnquirerCompletenessFlag());
+    }
+
+    /**
+     * Returns the actual version of the ontology for the readings of the asserted axioms (see {@link #isAssertedReading()}),
+     * which are not affected by the state of the reasoner. It is equal to {@link #getVersion(OWLReferences)} only
+     * if the reasoner is not used by the queries, it has no buffered changes and the queries are not complete,
+     * since the queries give the same results.
+     * @return the actual version of the ontology, without the reasoner.
+     */
+    public Version getAssertedVersion(){
+        return new Version( changes.get(), 0, false, false);
+    }
+
+    /**
+     * @return {@code true} if the descriptors do not query the ontology when its
+     * version has not changed since their last reading. {@code false} by default.
+     */
+    public boolean isReadCaching() {
+        return readCaching;
+    }
+
+    /**
+     * Enables or disables the reading cache for all the descriptors grounded on this ontology.
+     * When it is enabled, a reading that would not change a descriptor returns a single
+     * {@link it.emarolab.owloop.core.Axiom.Descriptor#getUnchangedIntent()}, instead of the intents of each expression.
+     * @param readCaching {@code true} to skip readings that would not change the descriptors,
+     *                    {@code false} to always query the ontology.
+     */
+    public void setReadCaching(boolean readCaching) {
+        this.readCaching = readCaching;
+    }
+
+    /**
+     * @return {@code true} if the reasoner is synchronised only with the changes made by the
+     * descriptors (see {@link #synchronizeReasoner(OWLReferences, Collection)}). {@code false} by default.
+     */
+    public boolean isIncrementalReasoning() {
+        return incrementalReasoning;
+    }
+
+    /**
+     * Sets whether the reasoner should be synchronised only with the changes made by the descriptors,
+     * when they are written and, then, read (e.g., through
+     * {@link it.emarolab.owloop.core.Axiom.Descriptor#writeAxiomsReasonReadAxioms()}).
+     * To use the incremental reasoning capabilities of Pellet,
+     * {@link #enableIncrementalReasoner()} should be also called.
+     * @param incrementalReasoning {@code true} to synchronise the reasoner incrementally,
+     *                             {@code false} to synchronise it with all the changes of the ontology.
+     */
+    public void setIncrementalReasoning(boolean incrementalReasoning) {
+        this.incrementalReasoning = incrementalReasoning;
+    }
+
+    /**
+     * @return {@code true} if the descriptors grounded on this ontology read only the asserted axioms
+     * through {@link AssertedQueries}, without the reasoner. {@code false} by default.
+     */
+    public boolean isAssertedReading() {
+        return assertedReading;
+    }
+
+    /**
+     * Sets whether the descriptors grounded on this ontology should read only its asserted axioms, directly
+     * from the indexes of the {@link OWLOntology} (see {@link AssertedQueries}). In this case, the readings neither
+     * involve nor wait for the reasoner, and they see the changes of the ontology even if the reasoner has not been
+     * synchronised with them. Each descriptor can override this setting (see {@link DescriptorGround#setAssertedReading(Boolean)}).
+     * @param assertedReading {@code true} to read only the asserted axioms, {@code false} to read through aMOR.
+     */
+    public void setAssertedReading(boolean assertedReading) {
+        this.assertedReading = assertedReading;
+    }
+
+    /**
+     * @return {@code true} if the descriptors grounded on this ontology query the class hierarchy through
+     * a {@link ClassTaxonomy} (see {@link #getClassTaxonomy(OWLReferences)}). {@code false} by default.
+     */
+    public boolean isClassTaxonomyIndexing() {
+        return classTaxonomyIndexing;
+    }
+
+    /**
+     * Sets whether the descriptors grounded on this ontology should query their sub, super, equivalent and disjoint
+     * classes through a {@link ClassTaxonomy}, which is built once for each synchronisation of the reasoner,
+     * instead of calling the reasoner for each descriptor.
+     * @param classTaxonomyIndexing {@code true} to index the class hierarchy, {@code false} to query the reasoner.
+     */
+    public void setClassTaxonomyIndexing(boolean classTaxonomyIndexing) {
+        this.classTaxonomyIndexing = classTaxonomyIndexing;
+        if ( ! classTaxonomyIndexing)
+            synchronized ( this) {
+                classTaxonomy = null;
+            }
+    }
+
+    /**
+     * Returns the index of the class hierarchy inferred by the reasoner of the given ontology, which is built the first
+     * time it is required after each synchronisation of the reasoner. It is available only if {@link #isClassTaxonomyIndexing()},
+     * the queries involve the reasoner (see {@link OWLReferences#getOWLEnquirerReasoningFlag()}), and the reasoner
+     * is synchronised with all the changes of the ontology. Otherwise, the index would not give the same results of
+     * the queries, and the descriptors query the reasoner.
+     * @param reference the ontology reference of this context.
+     * @return the index of the class hierarchy of the actual version of the ontology, or {@code null} if it is not available.
+     */
+    public ClassTaxonomy getClassTaxonomy(OWLReferences reference){
+        if ( ! classTaxonomyIndexing || ! reference.getOWLEnquirerReasoningFlag())
+            return null;
+        OWLReasoner reasoner = reference.getOWLReasoner();
+        if ( reasoner == null || ! reasoner.getPendingChanges().isEmpty())
+            return null;
+        synchronized ( this) {
+            long applied = changes.get();
+            if ( classTaxonomy != null && classTaxonomy.getChanges() == applied && classTaxonomy.getReasoner() == reasoner)
+                return classTaxonomy;
+            try {
+                classTaxonomy = new ClassTaxonomy( reasoner, applied);
+            } catch ( RuntimeException e) { // e.g., the ontology is inconsistent
+                e.printStackTrace();
+                classTaxonomy = null;
+            }
+            return classTaxonomy;
+        }
+    }
+
+    /**
+     * @return the cache used by the descriptors to resolve the names of the entities of this ontology.
+     */
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * @return the listener of the measurements made on this ontology, or {@code null} if it is not set.
+     */
+    public MetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Sets the listener that is notified with the measurements made by all the descriptors
+     * grounded on this ontology, e.g., to export them to a monitoring system.
+     * The listener is called by the thread that performs the measured operation, thus it should be fast.
+     * @param metricsListener the listener to notify, or {@code null} to do not notify any listener.
+     */
+    public void setMetricsListener(MetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * @return the scheduler that coalesces the synchronisations of the reasoner requested by the descriptors.
+     */
+    public ReasoningScheduler getReasoningScheduler() {
+        return reasoningScheduler;
+    }
+
+    /**
+     * @return the subscriptions of the descriptors to the changes of the ontology.
+     */
+    public ChangeSubscriptions getSubscriptions() {
+        return subscriptions;
+    }
+
+    /**
+     * @return the lock used to read and write the ontology (see {@link #read(Supplier)} and {@link #write(Supplier)}).
+     */
+    public ReentrantReadWriteLock getLock() {
+        return lock;
+    }
+
+    /**
+     * @return {@code true} if the descriptors lock the ontology while reading and writing. {@code true} by default.
+     */
+    public boolean isLocking() {
+        return locking;
+    }
+
+    /**
+     * Enables or disables the locking of the ontology by the descriptors (see {@link #read(Supplier)}).
+     * It can be disabled when the ontology is used by a single thread, or when the accesses
+     * are already coordinated by the application.
+     * @param locking {@code true} to lock the ontology while reading and writing.
+     */
+    public void setLocking(boolean locking) {
+        this.locking = locking;
+    }
+
+    /**
+     * Performs a reading while holding the read lock of this context (see {@link #getLock()}).
+     * <p>
+     *     Many threads can read concurrently, but they wait for the threads that
+     *     are writing (see {@link #write(Supplier)}). It is used by
+     *     {@link DescriptorGround#readChangedAxioms(Supplier, Collection[])}, and it can be used for
+     *     making a sequence of readings consistent (e.g., to read many descriptors that should not be
+     *     changed by other threads meanwhile). Note that aMOR still serialises the queries that
+     *     involve the reasoner.
+     *     <br>
+     *     The read lock cannot be upgraded: a thread that holds it should not write (otherwise it waits forever).
+     *     If {@link #isLocking()} is {@code false}, the reading is performed without locking.
+     * </p>
+     * @param reading the reading procedure.
+     * @param <T> the type of the result of the reading.
+     * @return the result of the reading procedure.
+     */
+    public <T> T read(Supplier<T> reading){
+        if ( ! locking)
+            return reading.get();
+        lock.readLock().lock();
+        try {
+            return reading.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Performs a writing while holding the write lock of this context (see {@link #getLock()}).
+     * <p>
+     *     Only one thread can write at a time, and it waits for the threads that are reading or writing.
+     *     It is used by {@link DescriptorGround#writeLockedAxioms(Supplier)}, by {@link WriteSession#commit()}
+     *     and by {@link #synchronizeReasoner(OWLReferences, Collection)}. The thread that holds the write
+     *     lock can also read. The lock is taken before the lock of the {@link OWLReferences} that
+     *     aMOR uses, and it should always be taken in this order to avoid deadlocks.
+     *     When the lock is released, the changes are {@link ChangeSubscriptions#dispatch()}ed to the subscribed descriptors.
+     *     If {@link #isLocking()} is {@code false}, the writing is performed without locking.
+     * </p>
+     * @param writing the writing procedure.
+     * @param <T> the type of the result of the writing.
+     * @return the result of the writing procedure.
+     */
+    public <T> T write(Supplier<T> writing){
+        if ( ! locking) {
+            try {
+                return writing.get();
+            } finally {
+                subscriptions.dispatch();
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            return writing.get();
+        } finally {
+            lock.writeLock().unlock();
+            if ( ! lock.isWriteLockedByCurrentThread()) // notify the subscribed descriptors after the outermost writing
+                subscriptions.dispatch();
+        }
+    }
+
+    /**
+     * Synchronises the reasoner of the given ontology after that some changes have been applied.
+     * <p>
+     *     If the reasoning is not {@link #isIncrementalReasoning()}, it calls
+     *     {@link OWLReferences#synchronizeReasoner()}, which applies all the buffered changes of
+     *     the ontology reference and, then, flushes all the changes buffered in the reasoner.
+     *     <br>
+     *     Otherwise, the reasoner is not synchronised if the given changes are empty and the reasoner has no
+     *     pending changes. If it has to be synchronised, {@link OWLReferences#synchronizeReasoner()} is called as well,
+     *     which only applies the changes still buffered by aMOR and flushes the reasoner. The given changes are
+     *     never given back to aMOR, since they have already been applied (or buffered) by the writer, and
+     *     applying them again might revert the changes made by other writers in the meanwhile (e.g., when
+     *     the changes are coalesced by the {@link ReasoningScheduler}). The reasoner processes
+     *     its pending changes incrementally if it is configured to do so (see {@link #enableIncrementalReasoner()}).
+     * </p>
+     * @param reference the ontology reference of this context.
+     * @param changes the changes applied (or buffered) in the ontology, they are only used to decide
+     *                whether the reasoner should be synchronised.
+     * <p>
+     *     The time spent to synchronise the reasoner is notified to the {@link #getMetricsListener()}.
+     *     The reasoner is synchronised while holding the write lock of this context (see {@link #write(Supplier)}).
+     * </p>
+     * @return {@code true} if the reasoner has been synchronised, {@code false} if there was nothing to synchronise.
+     */
+    public boolean synchronizeReasoner(OWLReferences reference, Collection<? extends OWLOntologyChange> changes){
+        return write( () -> synchronizeReasonerLocked( reference, changes));
+    }
+    private boolean synchronizeReasonerLocked(OWLReferences reference, Collection<? extends OWLOntologyChange> changes){
+        long start = System.nanoTime();
+        if ( ! incrementalReasoning)
+            reference.synchronizeReasoner();
+        else synchronized ( reference) { // aMOR synchronises on the ontology reference
+            OWLReasoner reasoner = reference.getOWLReasoner();
+            boolean pending = reasoner != null && ! reasoner.getPendingChanges().isEmpty();
+            if ( changes.isEmpty() && ! pending)
+                return false;
+            reference.synchronizeReasoner(); // flushes the reasoner, the changes are not applied again
+        }
+        MetricsListener listener = metricsListener;
+        if ( listener != null)
+            listener.onReasoning( reference, changes.size(), System.nanoTime() - start);
+        return true;
+    }
+
+    // called by OntologySnapshot.take(..), the threads taking a snapshot of the same version of the ontology wait for each other to share it
+    OntologySnapshot takeSnapshot(OWLReferences reference){
+        synchronized ( snapshotLock) {
+            if ( snapshot != null && snapshot.getChanges() == changes.get() && snapshot.isQueriedAs( reference) && snapshot.retain())
+                return snapshot;
+            OntologySnapshot taken = new OntologySnapshot( reference, this); // copied and classified without holding the read lock
+            if ( snapshot != null)
+                snapshot.release(); // it is not the latest snapshot anymore
+            snapshot = taken;
+            snapshot.retain();
+            return snapshot;
+        }
+    }
+
+    /**
+     * Configures the Pellet reasoner to check the consistency of the ontology incrementally, and
+     * to incrementally process the addition and removal of the assertions about individuals.
+     * Since these options are global, they affect all the reasoners created after calling this method.
+     * Note that the changes involving classes and properties always require Pellet to re-classify the ontology.
+     */
+    public static void enableIncrementalReasoner(){
+        PelletOptions.USE_COMPLETION_QUEUE = true;
+        PelletOptions.USE_INCREMENTAL_CONSISTENCY = true;
+        PelletOptions.USE_INCREMENTAL_DELETION = true;
+    }
+
+    /**
+     * The listener of the measurements made on an ontology (see {@link #setMetricsListener(MetricsListener)}).
+     * All the times are given in nanoseconds.
+     */
+    public interface MetricsListener {
+
+        /**
+         * It is called every time that a descriptor reads or writes an expression.
+         * The apply and reason times of its {@link Axiom.MappingIntent#getMetrics()} are not given yet,
+         * since they are notified through {@link #onApply(OWLReferences, int, long)} and
+         * {@link #onReasoning(OWLReferences, int, long)}.
+         * @param ontology the ontology used by the descriptor.
+         * @param intent the result of the reading or writing, with its measurements.
+         */
+        void onMappingIntent(OWLReferences ontology, Axiom.MappingIntent intent);
+
+        /**
+         * It is called every time that the buffered changes of the ontology are applied
+         * at once (e.g., by {@link WriteSession#commit()}). By default, it does nothing.
+         * @param ontology the changed ontology.
+         * @param changes the number of changes generated by the descriptors.
+         * @param time the nanoseconds spent to apply the changes.
+         */
+        default void onApply(OWLReferences ontology, int changes, long time){
+        }
+
+        /**
+         * It is called every time that the reasoner is synchronised
+         * (see {@link #synchronizeReasoner(OWLReferences, Collection)}). By default, it does nothing.
+         * @param ontology the ontology of the reasoner.
+         * @param changes the number of changes generated by the descriptors before the synchronisation.
+         * @param time the nanoseconds spent to synchronise the reasoner.
+         */
+        default void onReasoning(OWLReferences ontology, int changes, long time){
+        }
+    }
+
+    /**
+     * The version of an ontology (see {@link #getVersion(OWLReferences)}).
+     */
+    public static class Version {
+
+        private final long changes;
+        private final int pendingChanges;
+        private final boolean reasoning;
+        private final boolean complete;
+
+        private Version(long changes, int pendingChanges, boolean reasoning, boolean complete) {
+            this.changes = changes;
+            this.pendingChanges = pendingChanges;
+            this.reasoning = reasoning;
+            this.complete = complete;
+        }
+
+        /**
+         * @return the number of changes applied to the ontology.
+         */
+        public long getChanges() {
+            return changes;
+        }
+
+        /**
+         * @return the number of changes that have not been synchronised in the reasoner yet.
+         */
+        public int getPendingChanges() {
+            return pendingChanges;
+        }
+
+        /**
+         * @return {@code true} if the reasoner was involved in the queries.
+         */
+        public boolean isReasoning() {
+            return reasoning;
+        }
+
+        /**
+         * @return {@code true} if the queries were complete, i.e., not only the direct entities were queried.
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Version)) return false;
+
+            Version version = (Version) o;
+
+            if (changes != version.changes) return false;
+            if (pendingChanges != version.pendingChanges) return false;
+            if (reasoning != version.reasoning) return false;
+            return complete == version.complete;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = (int) (changes ^ (changes >>> 32));
+            result = 31 * result + pendingChanges;
+            result = 31 * result + (reasoning ? 1 : 0);
+            result = 31 * result + (complete ? 1 : 0);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "{changes=" + changes +
+                    ", pendingChanges=" + pendingChanges +
+                    ", reasoning=" + reasoning +
+                    ", complete=" + complete +
+                    '}';
+        }
+    }
+
+    // it counts the changes of an ontology (possibly notified by a manager shared among many ontologies)
+    private static class ChangeCounter
+            implements OWLOntologyChangeListener {
+
+        private final OWLOntology ontology;
+        private final AtomicLong changes;
+
+        private ChangeCounter(OWLOntology ontology, AtomicLong changes) {
+            this.ontology = ontology;
+            this.changes = changes;
+        }
+
+        @Override
+        public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
+            long count = 0;
+            for ( OWLOntologyChange c : changes)
+                if ( c.getOntology() == ontology)
+                    count++;
+            if ( count > 0)
+                this.changes.addAndGet( count);
+        }
+    }
+}
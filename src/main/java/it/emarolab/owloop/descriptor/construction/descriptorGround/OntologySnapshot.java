@@ -0,0 +1,171 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.Axiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A read-only copy of an ontology, which can be read while the ontology is written.
+ * <p>
+ *     A descriptor holds the read lock of its ontology while reading (see {@link OntologyContext#read(java.util.function.Supplier)}),
+ *     so its expressions are read from the same state of the ontology, but the writers wait for it. Also, many descriptors
+ *     read one after the other might see different states of the ontology. Instead, the descriptors read through
+ *     a snapshot (see {@link #read(DescriptorGround)}) are read from a copy of the axioms of the ontology,
+ *     which is made by {@link #take(OWLReferences)}. It holds the read lock only to collect the axioms of the ontology,
+ *     including the axioms of the imported ontologies, while the copy is created and classified by its own reasoner without
+ *     holding the lock. The annotation axioms are not copied, since they are not used by the descriptors nor by the reasoner.
+ *     The copy is never changed, therefore, the descriptors read through a snapshot never wait for the writers, and they
+ *     are consistent with each other.
+ *     <br>
+ *     The snapshot is shared among all the threads that take a snapshot of the same version of the ontology (i.e., with the
+ *     same {@link OntologyContext#getChanges()}), and it is copied again only after that the ontology, or its flags, changed. A snapshot should
+ *     be {@link #close()}d when its readings are done, and the copy of the ontology is discarded when no thread uses it
+ *     and a newer snapshot has been taken. The copy is not registered in the {@link OWLReferencesInterface.OWLReferencesContainer},
+ *     so it is not visible to the other users of aMOR. The copy is queried with the same reasoning and completeness flags
+ *     of the ontology (see {@link OWLReferences#getOWLEnquirerCompletenessFlag()}). Note that the reasoner of the copy is synchronised with all the axioms
+ *     of the ontology, even if the reasoner of the ontology has not been synchronised with some of them yet.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologySnapshot <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologySnapshot
+        implements AutoCloseable {
+
+    // to give a unique name to the copies of the ontologies
+    private static final AtomicLong COPIES = new AtomicLong();
+
+    private final OWLReferences ontology;
+    private final long changes;
+    // the threads that use this snapshot, plus one while it is the latest snapshot of its ontology
+    private final AtomicInteger users = new AtomicInteger( 1);
+
+    // called by the OntologyContext, the read lock of the ontology is held only to collect its axioms
+    OntologySnapshot(OWLReferences source, OntologyContext context) {
+        List<OWLAxiom> axioms = new ArrayList<>();
+        changes = context.read( () -> {
+            // the imported ontologies are not loaded by the copy, so their axioms are copied as well
+            source.getOWLOntology().axioms( Imports.INCLUDED).filter( a -> ! a.isAnnotationAxiom()).forEach( axioms::add);
+            return context.getChanges();
+        });
+        String name = source.getReferenceName() + "-snapshot-" + COPIES.incrementAndGet();
+        ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                name, name + ".owl", source.getIriOntologyPath().toString(), true);
+        // aMOR registers all the references, but the copy is private to this snapshot
+        OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontology);
+        try {
+            ontology.setOWLEnquirerIncludesInferences( source.getOWLEnquirerReasoningFlag());
+            ontology.setOWLEnquirerCompletenessFlag( source.getOWLEnquirerCompletenessFlag());
+            ontology.getOWLManager().addAxioms( ontology.getOWLOntology(), axioms.stream());
+            ontology.synchronizeReasoner();
+        } catch ( RuntimeException e){
+            discard();
+            throw e;
+        }
+    }
+
+    /**
+     * Takes a snapshot of the actual state of the given ontology, or returns the last snapshot
+     * if the ontology did not change afterwards. The returned snapshot should be {@link #close()}d.
+     * @param ontology the ontology to copy.
+     * @return a snapshot of the ontology, whose reasoner is synchronised.
+     */
+    public static OntologySnapshot take(OWLReferences ontology){
+        return OntologyContext.get( ontology).takeSnapshot( ontology);
+    }
+
+    // increases the users if this snapshot is not discarded yet
+    boolean retain(){
+        int u;
+        do {
+            u = users.get();
+            if ( u <= 0)
+                return false;
+        } while ( ! users.compareAndSet( u, u + 1));
+        return true;
+    }
+
+    // decreases the users and discards the copy of the ontology if it is not used anymore
+    void release(){
+        if ( users.decrementAndGet() == 0)
+            discard();
+    }
+
+    // disposes the reasoner of the copy and removes it from its manager
+    private void discard(){
+        ontology.getOWLReasoner().dispose();
+        ontology.getOWLManager().removeOntology( ontology.getOWLOntology());
+    }
+
+    // true if the copy is queried with the same flags of the given ontology
+    boolean isQueriedAs(OWLReferences source){
+        return Objects.equals( ontology.getOWLEnquirerReasoningFlag(), source.getOWLEnquirerReasoningFlag()) &&
+                Objects.equals( ontology.getOWLEnquirerCompletenessFlag(), source.getOWLEnquirerCompletenessFlag());
+    }
+
+    /**
+     * @return the copy of the ontology. It should not be written.
+     */
+    public OWLReferences getOntology() {
+        return ontology;
+    }
+
+    /**
+     * @return the number of changes applied to the ontology (see {@link OntologyContext#getChanges()}) when
+     * this snapshot has been taken.
+     */
+    public long getChanges() {
+        return changes;
+    }
+
+    /**
+     * Reads a descriptor from this snapshot (see {@link DescriptorGround#readAxioms(OntologySnapshot)}).
+     * @param descriptor the descriptor to read, which should be grounded on the ontology of this snapshot.
+     * @return the changes made in the internal state of the descriptor.
+     */
+    public List<Axiom.MappingIntent> read(DescriptorGround<?> descriptor){
+        return descriptor.readAxioms( this);
+    }
+
+    /**
+     * Reads many descriptors from this snapshot (see {@link #read(DescriptorGround)}).
+     * @param descriptors the descriptors to read, which should be grounded on the ontology of this snapshot.
+     * @return the changes made in the internal state of all the descriptors.
+     */
+    public List<Axiom.MappingIntent> readAll(Collection<? extends DescriptorGround<?>> descriptors){
+        List<Axiom.MappingIntent> intents = new ArrayList<>();
+        for ( DescriptorGround<?> d : descriptors)
+            intents.addAll( read( d));
+        return intents;
+    }
+
+    /**
+     * Releases this snapshot. It should be called once, when the readings are done.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
+    @Override
+    public String toString() {
+        return "{ontology=" + ontology.getReferenceName() +
+                ", changes=" + changes +
+                '}';
+    }
+}
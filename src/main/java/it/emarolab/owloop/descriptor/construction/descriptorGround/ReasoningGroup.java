@@ -0,0 +1,292 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A group of ontologies whose reasoners are synchronised in parallel.
+ * <p>
+ *     An application can use many ontologies (e.g., all the ontologies registered in the
+ *     {@link OWLReferencesInterface.OWLReferencesContainer} by the descriptors), and synchronise their
+ *     reasoners one after the other. Instead, {@link #synchronizeReasoners()} synchronises the reasoners of the
+ *     ontologies of a group concurrently, on a pool of at most {@link #getParallelism()} threads, and it
+ *     waits for all of them. It gives a {@link Report} with the time spent to synchronise each reasoner.
+ *     <br>
+ *     During the synchronisation, the group holds the write locks of all its ontologies (see {@link OntologyContext#write(java.util.function.Supplier)}),
+ *     which are taken in the order of the identifiers of their contexts (see {@link OntologyContext#getId()}), to avoid deadlocks
+ *     among groups that share some ontologies, and with the other threads that lock many contexts in the same order.
+ *     Also, a barrier action can be given to {@link #synchronizeReasoners(Runnable)}. It is performed after that all the
+ *     reasoners have been synchronised and before that any other thread can write the ontologies (i.e., while holding their
+ *     read locks), so that the descriptors read by the barrier action see a consistent state of all the ontologies.
+ *     Therefore, the thread that synchronises a group should not hold the read lock of its ontologies,
+ *     otherwise an {@link IllegalStateException} is thrown, instead of waiting forever for the write lock.
+ *     <br>
+ *     The time spent to synchronise each reasoner is also notified to the {@link OntologyContext#getMetricsListener()}.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.ReasoningGroup <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ReasoningGroup {
+
+    /**
+     * The default number of reasoners synchronised concurrently, i.e., the number of available processors.
+     */
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    // the ontologies sorted by name
+    private final List<OWLReferences> ontologies;
+    private volatile int parallelism = DEFAULT_PARALLELISM;
+    private volatile ExecutorService executor = null;
+
+    /**
+     * Initialises a group with the given ontologies.
+     * @param ontologies the ontologies whose reasoners are synchronised together.
+     */
+    public ReasoningGroup(Collection<OWLReferences> ontologies) {
+        Set<OWLReferences> distinct = Collections.newSetFromMap( new IdentityHashMap<>());
+        distinct.addAll( ontologies);
+        this.ontologies = new ArrayList<>( distinct);
+        this.ontologies.sort( Comparator.comparing( OWLReferences::getReferenceName));
+    }
+
+    /**
+     * Initialises a group with the ontologies registered in the {@link OWLReferencesInterface.OWLReferencesContainer}
+     * with the given names. The names that are not registered are ignored.
+     * @param ontoNames the names of the ontologies whose reasoners are synchronised together.
+     * @return a new group of ontologies.
+     */
+    public static ReasoningGroup of(String... ontoNames){
+        List<OWLReferences> ontologies = new ArrayList<>();
+        for ( String name : ontoNames) {
+            if ( OWLReferencesInterface.OWLReferencesContainer.isInstance( name))
+                ontologies.add( (OWLReferences) OWLReferencesInterface.OWLReferencesContainer.getOWLReferences( name));
+            else System.err.println( "\tOntology " + name + " not found!");
+        }
+        return new ReasoningGroup( ontologies);
+    }
+
+    /**
+     * @return a new group with all the ontologies registered in the {@link OWLReferencesInterface.OWLReferencesContainer}.
+     */
+    public static ReasoningGroup ofAll(){
+        List<OWLReferences> ontologies = new ArrayList<>();
+        for ( OWLReferencesInterface o : OWLReferencesInterface.OWLReferencesContainer.getOWLReferencesValues())
+            if ( o instanceof OWLReferences)
+                ontologies.add( (OWLReferences) o);
+        return new ReasoningGroup( ontologies);
+    }
+
+    /**
+     * @return the ontologies of this group, sorted by name.
+     */
+    public List<OWLReferences> getOntologies() {
+        return Collections.unmodifiableList( ontologies);
+    }
+
+    /**
+     * @return the maximum number of reasoners synchronised concurrently.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of reasoners synchronised concurrently.
+     * It is not used if an executor is given (see {@link #setExecutor(ExecutorService)}).
+     * @param parallelism the number of threads used to synchronise the reasoners.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max( parallelism, 1);
+    }
+
+    /**
+     * @return the executor that synchronises the reasoners, or {@code null} (by default)
+     * if a new pool of {@link #getParallelism()} threads is used for each synchronisation.
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor that synchronises the reasoners. It should not be used by tasks that
+     * access the ontologies of this group, since they would wait for their locks.
+     * @param executor the executor to use, or {@code null} to use a new pool for each synchronisation.
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Synchronises the reasoners of all the ontologies of this group in parallel,
+     * and waits for them (see {@link OWLReferences#synchronizeReasoner()}).
+     * @return the time spent to synchronise each reasoner.
+     */
+    public Report synchronizeReasoners(){
+        return synchronizeReasoners( null);
+    }
+
+    /**
+     * Synchronises the reasoners of all the ontologies of this group in parallel, waits for them,
+     * and performs the given barrier action before that the ontologies can be written by other threads.
+     * @param barrierAction the action to perform after the synchronisation (e.g., the reading of some descriptors),
+     *                      or {@code null}. It should not write the ontologies of this group.
+     * @return the time spent to synchronise each reasoner.
+     * @throws IllegalStateException if the calling thread holds the read lock of an ontology of this group.
+     */
+    public Report synchronizeReasoners(Runnable barrierAction){
+        long start = System.nanoTime();
+        Report report = new Report();
+        List<OntologyContext> locked = new ArrayList<>();
+        boolean downgraded = false;
+        ExecutorService pool = executor;
+        boolean ownPool = pool == null && ontologies.size() > 1;
+        // the locks are taken in a global order
+        List<OntologyContext> contexts = new ArrayList<>();
+        for ( OWLReferences o : ontologies) {
+            OntologyContext context = OntologyContext.get( o);
+            if ( context.isLocking()) {
+                if ( context.getLock().getReadHoldCount() > 0) // the read lock cannot be upgraded
+                    throw new IllegalStateException( "The read lock of " + o.getReferenceName() + " is held by the thread that synchronises the group.");
+                contexts.add( context);
+            }
+        }
+        contexts.sort( Comparator.comparingLong( OntologyContext::getId));
+        try {
+            for ( OntologyContext context : contexts) {
+                context.getLock().writeLock().lock();
+                locked.add( context);
+            }
+
+            // fork
+            if ( ownPool)
+                pool = Executors.newFixedThreadPool( Math.min( parallelism, ontologies.size()), r -> {
+                    Thread t = new Thread( r, "owloop-reasoning-group");
+                    t.setDaemon( true);
+                    return t;
+                });
+            Map<OWLReferences,CompletableFuture<Long>> tasks = new LinkedHashMap<>();
+            for ( OWLReferences o : ontologies) // in the calling thread if there is no pool
+                tasks.put( o, CompletableFuture.supplyAsync( () -> synchronizeReasoner( o), pool != null ? pool : Runnable::run));
+            // join
+            for ( Map.Entry<OWLReferences,CompletableFuture<Long>> t : tasks.entrySet()) {
+                try {
+                    report.durations.put( t.getKey(), t.getValue().join());
+                } catch ( CompletionException e) {
+                    e.getCause().printStackTrace();
+                    report.failures.put( t.getKey(), e.getCause());
+                }
+            }
+            report.time = System.nanoTime() - start;
+
+            if ( barrierAction != null) {
+                // downgrade the locks, so that other threads can read but not write
+                for ( OntologyContext context : locked) {
+                    context.getLock().readLock().lock();
+                    context.getLock().writeLock().unlock();
+                }
+                downgraded = true;
+                barrierAction.run();
+            }
+        } finally {
+            for ( OntologyContext context : locked) {
+                if ( downgraded)
+                    context.getLock().readLock().unlock();
+                else context.getLock().writeLock().unlock();
+            }
+            if ( ownPool && pool != null)
+                pool.shutdown();
+            for ( OWLReferences o : ontologies) {
+                OntologyContext context = OntologyContext.get( o);
+                if ( ! context.getLock().isWriteLockedByCurrentThread())
+                    context.getSubscriptions().dispatch();
+            }
+        }
+        return report;
+    }
+
+    // the locks of the ontology are held by the thread that synchronises the group
+    private static long synchronizeReasoner(OWLReferences ontology){
+        long start = System.nanoTime();
+        ontology.synchronizeReasoner();
+        long time = System.nanoTime() - start;
+        OntologyContext.MetricsListener listener = OntologyContext.get( ontology).getMetricsListener();
+        if ( listener != null)
+            listener.onReasoning( ontology, 0, time);
+        return time;
+    }
+
+    /**
+     * The result of the synchronisation of the reasoners of a group (see {@link #synchronizeReasoners()}).
+     * All the times are given in nanoseconds.
+     */
+    public static class Report {
+
+        private final Map<OWLReferences,Long> durations = new LinkedHashMap<>();
+        private final Map<OWLReferences,Throwable> failures = new LinkedHashMap<>();
+        private long time;
+
+        private Report() {
+        }
+
+        /**
+         * @return the time spent to synchronise the reasoner of each ontology, in the order of the group.
+         * It does not contain the ontologies whose synchronisation failed.
+         */
+        public Map<OWLReferences,Long> getDurations() {
+            return Collections.unmodifiableMap( durations);
+        }
+
+        /**
+         * @return the errors that occurred while synchronising the reasoners, by ontology.
+         */
+        public Map<OWLReferences,Throwable> getFailures() {
+            return Collections.unmodifiableMap( failures);
+        }
+
+        /**
+         * @return {@code true} if all the reasoners have been synchronised.
+         */
+        public boolean isSucceeded() {
+            return failures.isEmpty();
+        }
+
+        /**
+         * @return the time spent to synchronise all the reasoners (without the barrier action).
+         */
+        public long getTime() {
+            return time;
+        }
+
+        /**
+         * @return the sum of the times spent to synchronise each reasoner, which is greater than
+         * {@link #getTime()} if the reasoners have been synchronised concurrently.
+         */
+        public long getReasoningTime() {
+            long sum = 0;
+            for ( long d : durations.values())
+                sum += d;
+            return sum;
+        }
+
+        @Override
+        public String toString() {
+            return "{time=" + time +
+                    ", durations=" + durations.size() +
+                    ", failures=" + failures.size() +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * A scheduler that coalesces the requests of synchronising the reasoner of an ontology.
+ * <p>
+ *     When many descriptors call {@link it.emarolab.owloop.core.Axiom.Descriptor#writeAxiomsReasonReadAxioms()}
+ *     (or {@link it.emarolab.owloop.core.Axiom.Descriptor#reason()}) in a short time, each of them synchronises the reasoner.
+ *     If a {@link #getWindow()} is set, this scheduler collects the requests of synchronising the reasoner (see
+ *     {@link #request(OWLReferences, Collection)}) and it synchronises the reasoner only once for all the requests
+ *     made during the window, which starts with the first request that is not synchronised yet. The reasoner is also
+ *     synchronised as soon as the collected changes reach the {@link #getThreshold()}, if it is set, or when
+ *     {@link #flush(OWLReferences)} is called.
+ *     <br>
+ *     Each request gives a future, which is completed when the reasoner has been synchronised with the
+ *     requested changes. The callers that need consistent readings should wait for it
+ *     (or for {@link #nextSynchronisation()}) before to read. The reasoner is synchronised through
+ *     {@link OntologyContext#synchronizeReasoner(OWLReferences, Collection)}, i.e., while holding the
+ *     write lock of the ontology. At the end of a window, the reasoner is synchronised by a daemon thread of this scheduler,
+ *     which terminates when idle, while the thread that times the windows of all the schedulers only hands the
+ *     synchronisations over. Thus, a slow reasoner does not delay the synchronisations of the other ontologies. Also, a thread
+ *     that holds the lock of the ontology should not wait for the future (see {@link #synchronise(OWLReferences, Collection)}).
+ *     <br>
+ *     There is a scheduler for each ontology (see {@link OntologyContext#getReasoningScheduler()}), and it
+ *     is disabled by default, i.e., each request synchronises the reasoner immediately.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.ReasoningScheduler <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ReasoningScheduler {
+
+    // the thread that times the windows of all the schedulers
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor( r -> getDaemon( r, "owloop-reasoning-scheduler"));
+
+    // the scheduler does not refer to the ontology, since it is weakly referenced by its context
+    private final OntologyContext context;
+    private volatile long window = 0;
+    private volatile int threshold = 0;
+    // the state of the requests that are not synchronised yet, guarded by this
+    private List<OWLOntologyChange> pending = new ArrayList<>();
+    private CompletableFuture<Boolean> next = null;
+    private ScheduledFuture<?> timer = null;
+    // the thread that synchronises the reasoner at the end of the windows, created when required and terminated when idle
+    private final ThreadPoolExecutor synchroniser = new ThreadPoolExecutor( 1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            r -> getDaemon( r, "owloop-reasoning-synchroniser"));
+
+    ReasoningScheduler(OntologyContext context) {
+        this.context = context;
+        synchroniser.allowCoreThreadTimeOut( true);
+    }
+
+    /**
+     * @return the milliseconds during which the requests are coalesced. If it is {@code 0}
+     * (by default), the scheduler is disabled.
+     */
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * Sets the time during which the requests of synchronising the reasoner are coalesced.
+     * @param window the milliseconds after the first request that is not synchronised yet,
+     *               or {@code 0} to synchronise the reasoner for each request.
+     */
+    public void setWindow(long window) {
+        this.window = Math.max( window, 0);
+    }
+
+    /**
+     * @return the number of changes that triggers the synchronisation of the reasoner before the end
+     * of the window. If it is {@code 0} (by default), the reasoner is synchronised only at the end of the window.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets the number of collected changes that triggers the synchronisation of the reasoner before the end of the window.
+     * @param threshold the number of changes, or {@code 0} to do not synchronise the reasoner before the end of the window.
+     */
+    public void setThreshold(int threshold) {
+        this.threshold = Math.max( threshold, 0);
+    }
+
+    /**
+     * @return {@code true} if the requests are coalesced, i.e., if {@link #getWindow()} is not {@code 0}.
+     */
+    public boolean isScheduling() {
+        return window > 0;
+    }
+
+    /**
+     * @return the number of changes collected since the last synchronisation of the reasoner.
+     */
+    public synchronized int getPendingChanges() {
+        return pending.size();
+    }
+
+    /**
+     * Requests to synchronise the reasoner with some changes of the ontology.
+     * If {@link #isScheduling()}, the changes are collected and the reasoner is synchronised at the end of the window,
+     * or by the calling thread if the collected changes reach the {@link #getThreshold()}.
+     * Otherwise, the reasoner is synchronised immediately by the calling thread.
+     * @param reference the ontology reference of this scheduler.
+     * @param changes the changes applied (or buffered) in the ontology, which can be empty.
+     * @return a future completed when the reasoner has been synchronised with the given changes. Its value is
+     * the result of {@link OntologyContext#synchronizeReasoner(OWLReferences, Collection)}.
+     */
+    public CompletableFuture<Boolean> request(OWLReferences reference, Collection<? extends OWLOntologyChange> changes){
+        if ( ! isScheduling())
+            return synchronise( reference, new ArrayList<>( changes), new CompletableFuture<>());
+        CompletableFuture<Boolean> future;
+        boolean trigger;
+        synchronized ( this) {
+            pending.addAll( changes);
+            if ( next == null)
+                next = new CompletableFuture<>();
+            future = next;
+            trigger = threshold > 0 && pending.size() >= threshold;
+            if ( ! trigger && timer == null)
+                timer = TIMER.schedule( () -> synchroniser.execute( () -> flush( reference)), window, TimeUnit.MILLISECONDS);
+        }
+        if ( trigger)
+            flush( reference);
+        return future;
+    }
+
+    /**
+     * Requests to synchronise the reasoner (see {@link #request(OWLReferences, Collection)}) and waits for it.
+     * If the calling thread holds the write lock of the ontology (see {@link OntologyContext#write(java.util.function.Supplier)}),
+     * it synchronises the reasoner instead of waiting, since the thread of the scheduler would wait for the lock.
+     * @param reference the ontology reference of this scheduler.
+     * @param changes the changes applied (or buffered) in the ontology, which can be empty.
+     * @return the result of {@link OntologyContext#synchronizeReasoner(OWLReferences, Collection)}.
+     */
+    public boolean synchronise(OWLReferences reference, Collection<? extends OWLOntologyChange> changes){
+        CompletableFuture<Boolean> future = request( reference, changes);
+        if ( ! future.isDone() && context.getLock().isWriteLockedByCurrentThread())
+            flush( reference);
+        return future.join();
+    }
+
+    /**
+     * @return a future completed by the next synchronisation of the reasoner, or a completed future (with value {@code false})
+     * if there are no requests to be synchronised.
+     */
+    public synchronized CompletableFuture<Boolean> nextSynchronisation(){
+        if ( next == null)
+            return CompletableFuture.completedFuture( false);
+        return next;
+    }
+
+    /**
+     * Synchronises the reasoner with all the collected changes by the calling thread,
+     * and completes the futures given to the requests.
+     * @param reference the ontology reference of this scheduler.
+     * @return the result of {@link OntologyContext#synchronizeReasoner(OWLReferences, Collection)},
+     * or {@code false} if there are no requests to be synchronised.
+     */
+    public boolean flush(OWLReferences reference){
+        List<OWLOntologyChange> changes;
+        CompletableFuture<Boolean> future;
+        synchronized ( this) {
+            if ( next == null)
+                return false;
+            changes = pending;
+            future = next;
+            pending = new ArrayList<>();
+            next = null;
+            if ( timer != null)
+                timer.cancel( false);
+            timer = null;
+        }
+        return synchronise( reference, Collections.unmodifiableList( changes), future).join();
+    }
+
+    private static Thread getDaemon(Runnable r, String name){
+        Thread t = new Thread( r, name);
+        t.setDaemon( true);
+        return t;
+    }
+
+    private CompletableFuture<Boolean> synchronise(OWLReferences reference, Collection<? extends OWLOntologyChange> changes,
+                                                  CompletableFuture<Boolean> future){
+        try {
+            future.complete( context.synchronizeReasoner( reference, changes));
+        } catch ( RuntimeException e) {
+            e.printStackTrace();
+            future.completeExceptionally( e);
+        }
+        return future;
+    }
+}
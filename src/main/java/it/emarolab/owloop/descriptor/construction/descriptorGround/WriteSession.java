@@ -0,0 +1,264 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.*;
+
+/**
+ * A unit of work that writes many descriptors into an ontology with a single batch of changes.
+ * <p>
+ *     Calling {@link Axiom.Descriptor#writeAxioms()} on many descriptors applies the changes of
+ *     each descriptor (and of each of its expressions) to the ontology as soon as they are generated.
+ *     Instead, the descriptors given to {@link #write(Axiom.Descriptor)} are written only when
+ *     {@link #commit()} is called. At that time, the changes of all the descriptors are collected by the session
+ *     (through an {@link ImpendingOWLOntologyChangeListener} that vetoes them), and then they are applied to the
+ *     ontology at once with {@link OWLOntologyManager#applyChanges(List)}, possibly followed by a single synchronisation of the reasoner
+ *     (see {@link OntologyContext#synchronizeReasoner(OWLReferences, Collection)}).
+ *     <br>
+ *     Since all the descriptors are written against the same state of the ontology, their
+ *     changes do not depend on the order in which they are given to the session, and an axiom
+ *     cannot be both added and removed by the same commit (e.g., if a descriptor has an axiom
+ *     that another descriptor does not have, the axiom is added only if it is not in the ontology,
+ *     and it is removed only if it is in the ontology). Also, a descriptor given more than once
+ *     is written only once. Nevertheless, descriptors that do not query the ontology while writing
+ *     (e.g., through their {@link it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DescriptorEntitySet.EntityJournal})
+ *     might add and remove the same axiom. Such contradictory changes cancel each other out, and they are not applied.
+ *     Also, the changes are applied only if all the descriptors have been written, i.e., if a descriptor throws
+ *     an exception while writing, none of the changes of the session is applied and the exception is thrown.
+ *     <br>
+ *     While committing, the session holds the write lock of the {@link OntologyContext} and the lock of
+ *     the {@link OWLReferences}, so that other threads cannot read nor manipulate the ontology between the
+ *     writing of the descriptors and the application of their changes. After the commit, the buffering of the changes
+ *     (see {@link OWLReferences#setOWLManipulatorBuffering(Boolean)}) is set to the value given on construction.
+ *     Also, the changes buffered in the ontology reference before the commit are applied (before the ones of the session),
+ *     unless the commit failed.
+ *     <br>
+ *     The time spent to apply the changes and to synchronise the reasoner is given to the
+ *     {@link Axiom.MappingIntent#getMetrics()} of the last intent of the commit, and the
+ *     application of the changes is notified to the {@link OntologyContext#getMetricsListener()}.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.WriteSession <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class WriteSession {
+
+    private final OWLReferences ontology;
+    private final boolean bufferingChanges;
+    // the descriptors to write, in the given order and without duplicates (equal descriptors might have different states)
+    private final Map<Axiom.Descriptor<OWLReferences,?>,Boolean> descriptors = new IdentityHashMap<>();
+    private final List<Axiom.Descriptor<OWLReferences,?>> order = new ArrayList<>();
+
+    /**
+     * Initialise a session for the descriptors grounded on the given ontology.
+     * After committing, the changes of the ontology will not be buffered.
+     * @param ontology the ontology to write.
+     */
+    public WriteSession(OWLReferences ontology) {
+        this( ontology, false);
+    }
+    /**
+     * Initialise a session for the descriptors grounded on the given ontology.
+     * @param ontology the ontology to write.
+     * @param bufferingChanges the buffering of the changes of the ontology to set after committing
+     *                         (see {@link OWLReferences#setOWLManipulatorBuffering(Boolean)}).
+     */
+    public WriteSession(OWLReferences ontology, boolean bufferingChanges) {
+        this.ontology = ontology;
+        this.bufferingChanges = bufferingChanges;
+    }
+
+    /**
+     * @return the ontology written by this session.
+     */
+    public OWLReferences getOntology() {
+        return ontology;
+    }
+
+    /**
+     * Adds a descriptor to be written on the next {@link #commit()}. The descriptor should not be
+     * changed after the commit, otherwise, the changes will be written.
+     * @param descriptor the descriptor to write.
+     * @return {@code false} if the descriptor was already in this session.
+     */
+    public synchronized boolean write(Axiom.Descriptor<OWLReferences,?> descriptor){
+        if ( descriptor.getOntologyReference() != ontology)
+            throw new IllegalArgumentException( "The descriptor " + descriptor.getGround() + " is not grounded on "
+                    + ontology.getReferenceName());
+        if ( descriptors.put( descriptor, true) != null)
+            return false;
+        order.add( descriptor);
+        return true;
+    }
+
+    /**
+     * Adds some descriptors to be written on the next {@link #commit()} (see {@link #write(Axiom.Descriptor)}).
+     * @param descriptors the descriptors to write.
+     */
+    public synchronized void writeAll(Collection<? extends Axiom.Descriptor<OWLReferences,?>> descriptors){
+        for ( Axiom.Descriptor<OWLReferences,?> d : descriptors)
+            write( d);
+    }
+
+    /**
+     * @return the number of descriptors that will be written on the next {@link #commit()}.
+     */
+    public synchronized int size(){
+        return order.size();
+    }
+
+    /**
+     * Discards all the descriptors that have been given to this session since the last commit.
+     * Their internal state is not changed.
+     */
+    public synchronized void rollback(){
+        descriptors.clear();
+        order.clear();
+    }
+
+    /**
+     * Writes all the given descriptors and applies their changes at once. Then, it synchronises the reasoner.
+     * @return the changes made by {@link Axiom.Descriptor#writeAxioms()} of each descriptor.
+     */
+    public List<Axiom.MappingIntent> commit(){
+        return commit( true);
+    }
+
+    /**
+     * Writes all the given descriptors and applies their changes at once.
+     * @param reason set to {@code true} to synchronise the reasoner after having applied the changes.
+     * @return the changes made by {@link Axiom.Descriptor#writeAxioms()} of each descriptor.
+     */
+    public synchronized List<Axiom.MappingIntent> commit(boolean reason){
+        return OntologyContext.get( ontology).write( () -> commitLocked( reason));
+    }
+    private List<Axiom.MappingIntent> commitLocked(boolean reason){
+        List<Axiom.MappingIntent> intents = new ArrayList<>();
+        synchronized ( ontology) { // aMOR synchronises on the ontology reference
+            // the changes of the session are generated by aMOR without buffering, and they are collected (instead of applied)
+            List<OWLOntologyChange> buffer = new ArrayList<>();
+            Thread writer = Thread.currentThread();
+            ImpendingOWLOntologyChangeListener collector = impending -> {
+                if ( Thread.currentThread() != writer || impending.isEmpty())
+                    return;
+                buffer.addAll( impending);
+                // the manager does not apply vetoed changes
+                throw new OWLOntologyChangeVetoException( impending.get( 0).getChangeData(), "buffered by a write session");
+            };
+            ontology.setOWLManipulatorBuffering( false);
+            ontology.getOWLManager().addImpendingOntologyChangeListener( collector);
+            try {
+                for ( Axiom.Descriptor<OWLReferences,?> d : order)
+                    intents.addAll( d.writeAxioms());
+            } catch ( RuntimeException e){
+                // the changes of the session are discarded
+                ontology.setOWLManipulatorBuffering( bufferingChanges);
+                rollback();
+                throw e;
+            } finally {
+                ontology.getOWLManager().removeImpendingOntologyChangeListener( collector);
+            }
+
+            // cancel the contradictory changes of the session, and apply them at once
+            OntologyContext context = OntologyContext.get( ontology);
+            List<OWLOntologyChange> changes = cancelContradictions( buffer);
+            long start = System.nanoTime();
+            ontology.setOWLManipulatorBuffering( bufferingChanges);
+            ontology.applyOWLManipulatorChanges(); // the changes buffered before this session
+            if ( ! changes.isEmpty())
+                ontology.getOWLManager().applyChanges( changes);
+            long applied = System.nanoTime();
+            OntologyContext.MetricsListener listener = context.getMetricsListener();
+            if ( listener != null)
+                listener.onApply( ontology, changes.size(), applied - start);
+            if ( reason)
+                context.synchronizeReasoner( ontology, changes);
+            if ( ! intents.isEmpty()) {
+                Axiom.MappingIntent.Metrics metrics = intents.get( intents.size() - 1).getMetrics();
+                metrics.addApplyTime( applied - start);
+                if ( reason)
+                    metrics.addReasonTime( System.nanoTime() - applied);
+            }
+            rollback();
+        }
+        return intents;
+    }
+
+    /*
+     * returns the given changes without the axioms that are both added and removed, and without duplicated changes.
+     * The other changes keep their order.
+     */
+    private static List<OWLOntologyChange> cancelContradictions(List<OWLOntologyChange> changes){
+        Map<OWLAxiom,Integer> balance = new HashMap<>(); // the number of additions minus the number of removals
+        for ( OWLOntologyChange c : changes)
+            if ( c.isAddAxiom() || c.isRemoveAxiom())
+                balance.merge( c.getAxiom(), c.isAddAxiom() ? 1 : -1, Integer::sum);
+        List<OWLOntologyChange> out = new ArrayList<>( changes.size());
+        Set<OWLAxiom> kept = new HashSet<>();
+        for ( OWLOntologyChange c : changes) {
+            if ( c.isAddAxiom() || c.isRemoveAxiom()) {
+                int b = balance.get( c.getAxiom());
+                if ( ( c.isAddAxiom() ? b <= 0 : b >= 0) || ! kept.add( c.getAxiom()))
+                    continue;
+            }
+            out.add( c);
+        }
+        return out;
+    }
+
+    /**
+     * Writes all the given descriptors and applies their changes at once. Then, it synchronises
+     * the reasoner and reads the descriptors, as {@link Axiom.Descriptor#writeAxiomsReasonReadAxioms()} does.
+     * <p>
+     *     If the reasoning is incremental (see {@link OntologyContext#setIncrementalReasoning(boolean)}),
+     *     only the descriptors that are affected by the changes are read, i.e., the descriptors grounded on
+     *     an entity that is involved in a changed axiom. Note that other descriptors might be affected
+     *     by the inferences of the reasoner (e.g., a class whose instances are given by a property
+     *     restriction), and they should be read explicitly.
+     * </p>
+     * @return the changes made by {@link Axiom.Descriptor#writeAxioms()} and
+     * {@link Axiom.Descriptor#readAxioms()} of each descriptor.
+     */
+    public synchronized List<Axiom.MappingIntent> commitReasonReadAxioms(){
+        return OntologyContext.get( ontology).write( this::commitReasonReadLocked);
+    }
+    private List<Axiom.MappingIntent> commitReasonReadLocked(){
+        List<Axiom.Descriptor<OWLReferences,?>> written = new ArrayList<>( order);
+        List<Axiom.MappingIntent> intents = commit( true);
+
+        boolean incremental = OntologyContext.get( ontology).isIncrementalReasoning();
+        Set<OWLEntity> affected = new HashSet<>();
+        if ( incremental)
+            for ( OWLOntologyChange c : getOntologyChanges( intents))
+                if ( c.isAxiomChange())
+                    c.getAxiom().signature().forEach( affected::add);
+        for ( Axiom.Descriptor<OWLReferences,?> d : written)
+            if ( ! incremental || affected.contains( d.getInstance()))
+                intents.addAll( d.readAxioms());
+        return intents;
+    }
+
+    /**
+     * Returns all the changes applied to an ontology by some {@link Axiom.MappingIntent}s,
+     * e.g., the ones returned by {@link #commit()}.
+     * @param intents the changes made by some descriptors.
+     * @return the ontology changes of the given intents.
+     */
+    public static List<OWLOntologyChange> getOntologyChanges(Collection<? extends Axiom.MappingIntent> intents){
+        List<OWLOntologyChange> changes = new ArrayList<>();
+        for ( Axiom.MappingIntent i : intents)
+            if ( i.getOntologyChanges() instanceof Collection)
+                for ( Object c : (Collection<?>) i.getOntologyChanges())
+                    if ( c instanceof OWLOntologyChange) // null if aMOR fails
+                        changes.add( (OWLOntologyChange) c);
+        return changes;
+    }
+}
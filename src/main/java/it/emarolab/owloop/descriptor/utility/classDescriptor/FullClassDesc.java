@@ -5,6 +5,7 @@ import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Individuals;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpression;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorPool;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.ClassGround;
 import it.emarolab.owloop.descriptor.utility.individualDescriptor.LinkIndividualDesc;
 import org.semanticweb.owlapi.model.OWLClass;
@@ -81,6 +82,12 @@ public class FullClassDesc
     /* Overriding methods in class: ClassGround */
 
 
+    // To reuse this descriptor for another instance (e.g., through the DescriptorPool)
+    @Override
+    public void reset(OWLClass instance) {
+        super.reset( instance);
+        resetEntitySets( restrictions, disjointClasses, equivalentClasses, subClasses, superClasses, individuals);
+    }
     public void clearAll() { // clear all internal state
         restrictions.clear();
         disjointClasses.clear();
@@ -93,24 +100,28 @@ public class FullClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = EquivalentRestriction.super.readAxioms(); // call this before all
-        r.addAll( ClassExpression.Equivalent.super.readAxioms());
-        r.addAll( ClassExpression.Disjoint.super.readAxioms());
-        r.addAll( ClassExpression.Sub.super.readAxioms());
-        r.addAll( ClassExpression.Super.super.readAxioms());
-        r.addAll( Instance.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = EquivalentRestriction.super.readAxioms(); // call this before all
+            r.addAll( ClassExpression.Equivalent.super.readAxioms());
+            r.addAll( ClassExpression.Disjoint.super.readAxioms());
+            r.addAll( ClassExpression.Sub.super.readAxioms());
+            r.addAll( ClassExpression.Super.super.readAxioms());
+            r.addAll( Instance.super.readAxioms());
+            return r;
+        }, getEquivalentRestrictions(), getEquivalentClasses(), getDisjointClasses(), getSubClasses(), getSuperClasses(), getIndividuals());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ClassExpression.Super.super.writeAxioms();
-        r.addAll( EquivalentRestriction.super.writeAxioms());// call this before all and after super
-        r.addAll( ClassExpression.Equivalent.super.writeAxioms());
-        r.addAll( ClassExpression.Disjoint.super.writeAxioms());
-        r.addAll( ClassExpression.Sub.super.writeAxioms());
-        r.addAll( Instance.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = ClassExpression.Super.super.writeAxioms();
+            r.addAll( EquivalentRestriction.super.writeAxioms());// call this before all and after super
+            r.addAll( ClassExpression.Equivalent.super.writeAxioms());
+            r.addAll( ClassExpression.Disjoint.super.writeAxioms());
+            r.addAll( ClassExpression.Sub.super.writeAxioms());
+            r.addAll( Instance.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: Class and ClassExpression */
@@ -125,7 +136,7 @@ public class FullClassDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullClassDesc getDisjointClassDescriptor(OWLClass instance, OWLReferences ontology) {
-        return new FullClassDesc( instance, ontology);
+        return DescriptorPool.acquire( FullClassDesc.class, instance, ontology, FullClassDesc::new);
     }
     // It returns disjointClasses from the EntitySet (after being read from the ontology)
     @Override
@@ -136,7 +147,7 @@ public class FullClassDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullClassDesc getEquivalentClassDescriptor(OWLClass instance, OWLReferences ontology) {
-        return new FullClassDesc( instance, ontology);
+        return DescriptorPool.acquire( FullClassDesc.class, instance, ontology, FullClassDesc::new);
     }
     // It returns equivalentClasses from the EntitySet (after being read from the ontology)
     @Override
@@ -147,7 +158,7 @@ public class FullClassDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullClassDesc getSubClassDescriptor(OWLClass instance, OWLReferences ontology) {
-        return new FullClassDesc( instance, ontology);
+        return DescriptorPool.acquire( FullClassDesc.class, instance, ontology, FullClassDesc::new);
     }
     // It returns subClasses from the EntitySet (after being read from the ontology)
     @Override
@@ -158,7 +169,7 @@ public class FullClassDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullClassDesc getSuperClassDescriptor(OWLClass instance, OWLReferences ontology) {
-        return new FullClassDesc( instance, ontology);
+        return DescriptorPool.acquire( FullClassDesc.class, instance, ontology, FullClassDesc::new);
     }
     // It returns superClasses from the EntitySet (after being read from the ontology)
     @Override
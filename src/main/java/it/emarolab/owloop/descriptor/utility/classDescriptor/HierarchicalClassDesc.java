@@ -69,16 +69,20 @@ public class HierarchicalClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ClassExpression.Sub.super.readAxioms();
-        r.addAll( ClassExpression.Super.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = ClassExpression.Sub.super.readAxioms();
+            r.addAll( ClassExpression.Super.super.readAxioms());
+            return r;
+        }, getSubClasses(), getSuperClasses());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ClassExpression.Sub.super.writeAxioms();
-        r.addAll( ClassExpression.Super.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = ClassExpression.Sub.super.writeAxioms();
+            r.addAll( ClassExpression.Super.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: Class and ClassExpression */
@@ -66,12 +66,12 @@ public class InstanceClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        return Instance.super.readAxioms();
+        return readChangedAxioms( () -> Instance.super.readAxioms(), getIndividuals());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        return Instance.super.writeAxioms();
+        return writeLockedAxioms( () -> Instance.super.writeAxioms());
     }
 
     /* Overriding methods in classes: Class and ClassExpression */
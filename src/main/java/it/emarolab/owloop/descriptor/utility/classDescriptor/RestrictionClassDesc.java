@@ -78,20 +78,24 @@ public class RestrictionClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ClassExpression.Disjoint.super.readAxioms();
-        r.addAll( ClassExpression.Equivalent.super.readAxioms());
-        r.addAll( EquivalentRestriction.super.readAxioms());
-        r.addAll( Instance.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = ClassExpression.Disjoint.super.readAxioms();
+            r.addAll( ClassExpression.Equivalent.super.readAxioms());
+            r.addAll( EquivalentRestriction.super.readAxioms());
+            r.addAll( Instance.super.readAxioms());
+            return r;
+        }, getDisjointClasses(), getEquivalentClasses(), getEquivalentRestrictions(), getIndividuals());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ClassExpression.Disjoint.super.writeAxioms();
-        r.addAll( ClassExpression.Equivalent.super.writeAxioms());
-        r.addAll( EquivalentRestriction.super.writeAxioms());
-        r.addAll( Instance.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = ClassExpression.Disjoint.super.writeAxioms();
+            r.addAll( ClassExpression.Equivalent.super.writeAxioms());
+            r.addAll( EquivalentRestriction.super.writeAxioms());
+            r.addAll( Instance.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: Class and ClassExpression */
@@ -69,16 +69,20 @@ public class DomainRangeDataPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Domain.super.readAxioms();
-        r.addAll( DataPropertyExpression.Range.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = DataPropertyExpression.Domain.super.readAxioms();
+            r.addAll( DataPropertyExpression.Range.super.readAxioms());
+            return r;
+        }, getDomainRestrictions(), getRangeRestrictions());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Range.super.writeAxioms();
-        r.addAll( DataPropertyExpression.Domain.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = DataPropertyExpression.Range.super.writeAxioms();
+            r.addAll( DataPropertyExpression.Domain.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: DataProperty and DataPropertyExpression */
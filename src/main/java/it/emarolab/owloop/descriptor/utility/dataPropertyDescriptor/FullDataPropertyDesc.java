@@ -4,6 +4,7 @@ package it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor;
 import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorPool;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DataPropertyGround;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.DataPropertyExpression;
 import org.semanticweb.owlapi.model.OWLDataProperty;
@@ -79,27 +80,37 @@ public class FullDataPropertyDesc
     /* Overriding methods in class: DataPropertyGround */
 
 
+    // To reuse this descriptor for another instance (e.g., through the DescriptorPool)
+    @Override
+    public void reset(OWLDataProperty instance) {
+        super.reset( instance);
+        resetEntitySets( disjointDataProperties, equivalentDataProperties, subDataProperties, superDataProperties, domainRestrictions, rangeRestrictions);
+    }
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Disjoint.super.readAxioms();
-        r.addAll( DataPropertyExpression.Equivalent.super.readAxioms());
-        r.addAll( DataPropertyExpression.Range.super.readAxioms());
-        r.addAll( DataPropertyExpression.Domain.super.readAxioms());
-        r.addAll( DataPropertyExpression.Sub.super.readAxioms());
-        r.addAll( DataPropertyExpression.Super.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = DataPropertyExpression.Disjoint.super.readAxioms();
+            r.addAll( DataPropertyExpression.Equivalent.super.readAxioms());
+            r.addAll( DataPropertyExpression.Range.super.readAxioms());
+            r.addAll( DataPropertyExpression.Domain.super.readAxioms());
+            r.addAll( DataPropertyExpression.Sub.super.readAxioms());
+            r.addAll( DataPropertyExpression.Super.super.readAxioms());
+            return r;
+        }, getDisjointDataProperties(), getEquivalentDataProperties(), getRangeRestrictions(), getDomainRestrictions(), getSubDataProperties(), getSuperDataProperties());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Disjoint.super.writeAxioms();
-        r.addAll( DataPropertyExpression.Equivalent.super.writeAxioms());
-        r.addAll( DataPropertyExpression.Range.super.writeAxioms());
-        r.addAll( DataPropertyExpression.Domain.super.writeAxioms());
-        r.addAll( DataPropertyExpression.Sub.super.writeAxioms());
-        r.addAll( DataPropertyExpression.Super.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = DataPropertyExpression.Disjoint.super.writeAxioms();
+            r.addAll( DataPropertyExpression.Equivalent.super.writeAxioms());
+            r.addAll( DataPropertyExpression.Range.super.writeAxioms());
+            r.addAll( DataPropertyExpression.Domain.super.writeAxioms());
+            r.addAll( DataPropertyExpression.Sub.super.writeAxioms());
+            r.addAll( DataPropertyExpression.Super.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: DataProperty and DataPropertyExpression --*/
@@ -120,7 +131,7 @@ public class FullDataPropertyDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullDataPropertyDesc getNewDisjointDataProperty(OWLDataProperty instance, OWLReferences ontology) {
-        return new FullDataPropertyDesc( instance, ontology);
+        return DescriptorPool.acquire( FullDataPropertyDesc.class, instance, ontology, FullDataPropertyDesc::new);
     }
     // It returns disjointDataProperties from the EntitySet (after being read from the ontology)
     @Override
@@ -131,7 +142,7 @@ public class FullDataPropertyDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullDataPropertyDesc getNewEquivalentDataProperty(OWLDataProperty instance, OWLReferences ontology) {
-        return new FullDataPropertyDesc( instance, ontology);
+        return DescriptorPool.acquire( FullDataPropertyDesc.class, instance, ontology, FullDataPropertyDesc::new);
     }
     // It returns equivalentDataProperties from the EntitySet (after being read from the ontology)
     @Override
@@ -142,7 +153,7 @@ public class FullDataPropertyDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullDataPropertyDesc getNewSubDataProperty(OWLDataProperty instance, OWLReferences ontology) {
-        return new FullDataPropertyDesc( instance, ontology);
+        return DescriptorPool.acquire( FullDataPropertyDesc.class, instance, ontology, FullDataPropertyDesc::new);
     }
     // It returns subDataProperties from the EntitySet (after being read from the ontology)
     @Override
@@ -153,7 +164,7 @@ public class FullDataPropertyDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullDataPropertyDesc getNewSuperDataProperty(OWLDataProperty instance, OWLReferences ontology) {
-        return new FullDataPropertyDesc( instance, ontology);
+        return DescriptorPool.acquire( FullDataPropertyDesc.class, instance, ontology, FullDataPropertyDesc::new);
     }
     // It returns superDataProperties from the EntitySet (after being read from the ontology)
     @Override
@@ -68,16 +68,20 @@ public class HierarchicalDataPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Sub.super.readAxioms();
-        r.addAll( DataPropertyExpression.Super.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = DataPropertyExpression.Sub.super.readAxioms();
+            r.addAll( DataPropertyExpression.Super.super.readAxioms());
+            return r;
+        }, getSubDataProperties(), getSuperDataProperties());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Sub.super.writeAxioms();
-        r.addAll( DataPropertyExpression.Super.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = DataPropertyExpression.Sub.super.writeAxioms();
+            r.addAll( DataPropertyExpression.Super.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: DataProperty and DataPropertyExpression */
@@ -69,16 +69,20 @@ public class RestrictionDataPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Disjoint.super.readAxioms();
-        r.addAll( DataPropertyExpression.Equivalent.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = DataPropertyExpression.Disjoint.super.readAxioms();
+            r.addAll( DataPropertyExpression.Equivalent.super.readAxioms());
+            return r;
+        }, getDisjointDataProperties(), getEquivalentDataProperties());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Disjoint.super.writeAxioms();
-        r.addAll( DataPropertyExpression.Equivalent.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = DataPropertyExpression.Disjoint.super.writeAxioms();
+            r.addAll( DataPropertyExpression.Equivalent.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: DataProperty and DataPropertyExpression */
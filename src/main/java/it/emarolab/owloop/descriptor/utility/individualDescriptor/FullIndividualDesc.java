@@ -2,6 +2,7 @@ package it.emarolab.owloop.descriptor.utility.individualDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.*;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorPool;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.IndividualGround;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.IndividualExpression;
 import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
@@ -78,25 +79,35 @@ public class FullIndividualDesc
     /* Overriding methods in class: IndividualGround */
 
 
+    // To reuse this descriptor for another instance (e.g., through the DescriptorPool)
+    @Override
+    public void reset(OWLNamedIndividual instance) {
+        super.reset( instance);
+        resetEntitySets( disjointIndividuals, equivalentIndividuals, classes, objectLinks, dataLinks);
+    }
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = IndividualExpression.Equivalent.super.readAxioms();
-        r.addAll( IndividualExpression.Disjoint.super.readAxioms());
-        r.addAll( IndividualExpression.Type.super.readAxioms());
-        r.addAll( IndividualExpression.ObjectLink.super.readAxioms());
-        r.addAll( IndividualExpression.DataLink.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = IndividualExpression.Equivalent.super.readAxioms();
+            r.addAll( IndividualExpression.Disjoint.super.readAxioms());
+            r.addAll( IndividualExpression.Type.super.readAxioms());
+            r.addAll( IndividualExpression.ObjectLink.super.readAxioms());
+            r.addAll( IndividualExpression.DataLink.super.readAxioms());
+            return r;
+        }, getEquivalentIndividuals(), getDisjointIndividuals(), getTypes(), getObjectProperties(), getDataProperties());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = IndividualExpression.Equivalent.super.writeAxioms();
-        r.addAll( IndividualExpression.Disjoint.super.writeAxioms());
-        r.addAll( IndividualExpression.Type.super.writeAxioms());
-        r.addAll( IndividualExpression.ObjectLink.super.writeAxioms());
-        r.addAll( IndividualExpression.DataLink.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = IndividualExpression.Equivalent.super.writeAxioms();
+            r.addAll( IndividualExpression.Disjoint.super.writeAxioms());
+            r.addAll( IndividualExpression.Type.super.writeAxioms());
+            r.addAll( IndividualExpression.ObjectLink.super.writeAxioms());
+            r.addAll( IndividualExpression.DataLink.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: Individual and IndividualExpression */
@@ -105,7 +116,7 @@ public class FullIndividualDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullIndividualDesc getNewDisjointIndividual(OWLNamedIndividual instance, OWLReferences ontology) {
-        return new FullIndividualDesc( instance, ontology);
+        return DescriptorPool.acquire( FullIndividualDesc.class, instance, ontology, FullIndividualDesc::new);
     }
     // It returns disjointIndividuals from the EntitySet (after being read from the ontology)
     @Override
@@ -116,7 +127,7 @@ public class FullIndividualDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullIndividualDesc getNewEquivalentIndividual(OWLNamedIndividual instance, OWLReferences ontology) {
-        return new FullIndividualDesc( instance, ontology);
+        return DescriptorPool.acquire( FullIndividualDesc.class, instance, ontology, FullIndividualDesc::new);
     }
     // It returns equivalentIndividuals from the EntitySet (after being read from the ontology)
     @Override
@@ -127,7 +138,7 @@ public class FullIndividualDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullClassDesc getNewType(OWLClass instance, OWLReferences ontology) {
-        return new FullClassDesc( instance, ontology);
+        return DescriptorPool.acquire( FullClassDesc.class, instance, ontology, FullClassDesc::new);
     }
     // It returns classes from the EntitySet (after being read from the ontology)
     @Override
@@ -138,7 +149,7 @@ public class FullIndividualDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullObjectPropertyDesc getNewObjectProperty(ObjectLinks instance, OWLReferences ontology) {
-        return new FullObjectPropertyDesc( instance.getExpression(), ontology);
+        return DescriptorPool.acquire( FullObjectPropertyDesc.class, instance.getExpression(), ontology, FullObjectPropertyDesc::new);
     }
     // It returns objectLinks from the EntitySet (after being read from the ontology)
     @Override
@@ -149,7 +160,7 @@ public class FullIndividualDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullDataPropertyDesc getNewDataProperty(DataLinks instance, OWLReferences ontology) {
-        return new FullDataPropertyDesc( instance.getExpression(), ontology);
+        return DescriptorPool.acquire( FullDataPropertyDesc.class, instance.getExpression(), ontology, FullDataPropertyDesc::new);
     }
     // It returns dataLinks from the EntitySet (after being read from the ontology)
     @Override
@@ -0,0 +1,269 @@
+package it.emarolab.owloop.descriptor.utility.individualDescriptor;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.*;
+import it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpression;
+import it.emarolab.owloop.descriptor.construction.descriptorExpression.IndividualExpression;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+import java.util.*;
+
+/**
+ * A reader that synchronises many Individual descriptors at once.
+ * <p>
+ *     Calling {@link Axiom.Descriptor#readAxioms()} for each descriptor of a collection
+ *     of individuals (e.g., the ones built by {@link ClassExpression.Instance#buildIndividuals()})
+ *     queries the ontology for each of them, and for each of their expressions.
+ *     Instead, this reader queries the ontology once for all the individuals and, then,
+ *     synchronises each descriptor as its {@code readAxioms()} would do.
+ *     <br>
+ *     If the ontology does not include inferences in its queries
+ *     (see {@link OWLReferences#setOWLEnquirerIncludesInferences(Boolean)}), the asserted
+ *     axioms of all the individuals are collected with one pass over the ontology, without
+ *     involving the reasoner. Otherwise, the reasoner is still used for each individual.
+ *     In both cases, the hierarchies of the object and data properties (which AMOR uses to
+ *     find the properties of an individual) are queried once for all the individuals.
+ *     <br>
+ *     Only the expressions implemented by the given descriptors
+ *     (i.e.: {@link IndividualExpression.Type}, {@link IndividualExpression.Equivalent},
+ *     {@link IndividualExpression.Disjoint}, {@link IndividualExpression.ObjectLink} and
+ *     {@link IndividualExpression.DataLink}) are queried, and all the descriptors should
+ *     be grounded on the ontology given to this reader.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.utility.individualDescriptor.IndividualBatchReader <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class IndividualBatchReader {
+
+    private OWLReferences ontology;
+
+    // the results of the last query, for each individual
+    private Map<OWLNamedIndividual,Set<OWLClass>> types = new HashMap<>();
+    private Map<OWLNamedIndividual,Set<OWLNamedIndividual>> equivalents = new HashMap<>();
+    private Map<OWLNamedIndividual,Set<OWLNamedIndividual>> disjoints = new HashMap<>();
+    private Map<OWLNamedIndividual,Map<OWLObjectProperty,Set<OWLNamedIndividual>>> objectLinks = new HashMap<>();
+    private Map<OWLNamedIndividual,Map<OWLDataProperty,Set<OWLLiteral>>> dataLinks = new HashMap<>();
+
+    /**
+     * Initialise this reader for the descriptors grounded on the given ontology.
+     * @param ontology the ontology to be queried.
+     */
+    public IndividualBatchReader(OWLReferences ontology) {
+        this.ontology = ontology;
+    }
+
+    /**
+     * @return the ontology queried by this reader.
+     */
+    public OWLReferences getOntology() {
+        return ontology;
+    }
+
+    /**
+     * Synchronises all the given descriptors from the ontology with a single query.
+     * The result is the same of calling {@link Axiom.Descriptor#readAxioms()} on each descriptor,
+     * apart for descriptors that override {@code readAxioms()} or {@code query...()} methods.
+     * @param descriptors the descriptors to be read.
+     * @return the changes performed on all the descriptors.
+     */
+    public List<Axiom.MappingIntent> readAxioms(Collection<? extends IndividualExpression> descriptors){
+        if ( descriptors.isEmpty())
+            return new ArrayList<>();
+        return OntologyContext.get( ontology).read( () -> { // not interleaved with writings
+            List<Axiom.MappingIntent> intents = new ArrayList<>();
+            query( descriptors);
+            for ( IndividualExpression d : descriptors)
+                intents.addAll( synchronise( d));
+            clear();
+            return intents;
+        });
+    }
+
+    /**
+     * Builds and reads the descriptors of all the individuals that are members of the given class,
+     * similarly to {@link ClassExpression.Instance#buildIndividuals()}, but with a single query.
+     * @param classDescriptor the descriptor of the class whose individuals should be built.
+     * @param <D> the type of descriptors built for the individuals of the class.
+     * @return the read descriptors of all the individuals of the given class descriptor.
+     */
+    public <D extends IndividualExpression> Set<D> buildIndividuals(ClassExpression.Instance<D> classDescriptor){
+        Set<D> out = new HashSet<>();
+        for ( OWLNamedIndividual i : classDescriptor.getIndividuals())
+            out.add( classDescriptor.getIndividualDescriptor( i, classDescriptor.getOntologyReference()));
+        readAxioms( out);
+        return out;
+    }
+
+    private void query(Collection<? extends IndividualExpression> descriptors){
+        Set<OWLNamedIndividual> individuals = new HashSet<>();
+        boolean type = false, equivalent = false, disjoint = false, object = false, data = false;
+        for ( IndividualExpression d : descriptors){
+            individuals.add( d.getInstance());
+            type |= d instanceof IndividualExpression.Type;
+            equivalent |= d instanceof IndividualExpression.Equivalent;
+            disjoint |= d instanceof IndividualExpression.Disjoint;
+            object |= d instanceof IndividualExpression.ObjectLink;
+            data |= d instanceof IndividualExpression.DataLink;
+        }
+        // the properties are the ones that AMOR considers for each individual
+        Set<OWLObjectProperty> objectProperties = object ?
+                ontology.getSubObjectPropertyOf( ontology.getOWLFactory().getOWLTopObjectProperty()) : null;
+        Set<OWLDataProperty> dataProperties = data ?
+                ontology.getSubDataPropertyOf( ontology.getOWLFactory().getOWLTopDataProperty()) : null;
+        if ( ontology.getOWLEnquirerReasoningFlag())
+            queryReasoned( individuals, type, equivalent, disjoint, objectProperties, dataProperties);
+        else queryAsserted( individuals, type, equivalent, disjoint, objectProperties, dataProperties);
+    }
+
+    // one pass over the axioms of the ontology, without the reasoner
+    private void queryAsserted(Set<OWLNamedIndividual> individuals, boolean type, boolean equivalent, boolean disjoint,
+                               Set<OWLObjectProperty> objectProperties, Set<OWLDataProperty> dataProperties){
+        OWLOntology owl = ontology.getOWLOntology();
+        if ( type)
+            owl.axioms( AxiomType.CLASS_ASSERTION, Imports.INCLUDED).forEach( a -> {
+                if ( individuals.contains( a.getIndividual()) && ! a.getClassExpression().isAnonymous())
+                    add( types, a.getIndividual().asOWLNamedIndividual(), a.getClassExpression().asOWLClass());
+            });
+        if ( equivalent)
+            owl.axioms( AxiomType.SAME_INDIVIDUAL, Imports.INCLUDED).forEach( a ->
+                addNaryIndividuals( equivalents, individuals, a.getIndividualsAsList()));
+        if ( disjoint)
+            owl.axioms( AxiomType.DIFFERENT_INDIVIDUALS, Imports.INCLUDED).forEach( a ->
+                addNaryIndividuals( disjoints, individuals, a.getIndividualsAsList()));
+        if ( objectProperties != null && ! objectProperties.isEmpty())
+            owl.axioms( AxiomType.OBJECT_PROPERTY_ASSERTION, Imports.INCLUDED).forEach( a -> {
+                if ( individuals.contains( a.getSubject()) && a.getObject().isNamed() && objectProperties.contains( a.getProperty()))
+                    add( objectLinks.computeIfAbsent( a.getSubject().asOWLNamedIndividual(), k -> new HashMap<>()),
+                            a.getProperty().asOWLObjectProperty(), a.getObject().asOWLNamedIndividual());
+            });
+        if ( dataProperties != null && ! dataProperties.isEmpty())
+            owl.axioms( AxiomType.DATA_PROPERTY_ASSERTION, Imports.INCLUDED).forEach( a -> {
+                if ( individuals.contains( a.getSubject()) && dataProperties.contains( a.getProperty()))
+                    add( dataLinks.computeIfAbsent( a.getSubject().asOWLNamedIndividual(), k -> new HashMap<>()),
+                            a.getProperty().asOWLDataProperty(), a.getObject());
+            });
+    }
+
+    // queries the reasoner for each individual, the properties hierarchy is queried only once
+    private void queryReasoned(Set<OWLNamedIndividual> individuals, boolean type, boolean equivalent, boolean disjoint,
+                               Set<OWLObjectProperty> objectProperties, Set<OWLDataProperty> dataProperties){
+        for ( OWLNamedIndividual i : individuals){
+            if ( type)
+                types.put( i, ontology.getIndividualClasses( i));
+            if ( equivalent)
+                equivalents.put( i, ontology.getEquivalentIndividuals( i));
+            if ( disjoint)
+                disjoints.put( i, ontology.getDisjointIndividuals( i));
+            if ( objectProperties != null) {
+                Map<OWLObjectProperty,Set<OWLNamedIndividual>> links = new HashMap<>();
+                for ( OWLObjectProperty p : objectProperties) {
+                    Set<OWLNamedIndividual> values = ontology.getObjectPropertyB2Individual( i, p);
+                    if ( ! values.isEmpty())
+                        links.put( p, values);
+                }
+                objectLinks.put( i, links);
+            }
+            if ( dataProperties != null) {
+                Map<OWLDataProperty,Set<OWLLiteral>> links = new HashMap<>();
+                for ( OWLDataProperty p : dataProperties) {
+                    Set<OWLLiteral> values = ontology.getDataPropertyB2Individual( i, p);
+                    if ( ! values.isEmpty())
+                        links.put( p, values);
+                }
+                dataLinks.put( i, links);
+            }
+        }
+    }
+
+    // the same of readAxioms() in FullIndividualDesc, but with the queried values
+    private List<Axiom.MappingIntent> synchronise(IndividualExpression d){
+        List<Axiom.MappingIntent> intents = new ArrayList<>();
+        OWLNamedIndividual i = d.getInstance();
+        if ( d instanceof IndividualExpression.Equivalent) {
+            Axiom.EntitySet<OWLNamedIndividual> local = ((IndividualExpression.Equivalent<?>) d).getEquivalentIndividuals();
+            Individuals queried = new Individuals( equivalents.getOrDefault( i, Collections.emptySet()));
+            queried.remove( i); // as queryEquivalentIndividuals() does
+            intents.addAll( synchronise( d, local, queried));
+        }
+        if ( d instanceof IndividualExpression.Disjoint) {
+            Axiom.EntitySet<OWLNamedIndividual> local = ((IndividualExpression.Disjoint<?>) d).getDisjointIndividuals();
+            Individuals queried = new Individuals( disjoints.getOrDefault( i, Collections.emptySet()));
+            queried.remove( i); // as queryDisjointIndividuals() does
+            intents.addAll( synchronise( d, local, queried));
+        }
+        if ( d instanceof IndividualExpression.Type) {
+            Axiom.EntitySet<OWLClass> local = ((IndividualExpression.Type<?>) d).getTypes();
+            intents.addAll( synchronise( d, local, new Classes( types.getOrDefault( i, Collections.emptySet()))));
+        }
+        if ( d instanceof IndividualExpression.ObjectLink) {
+            ObjectLinkSet local = ((IndividualExpression.ObjectLink<?>) d).getObjectProperties();
+            ObjectLinkSet queried = new ObjectLinkSet();
+            for ( Map.Entry<OWLObjectProperty,Set<OWLNamedIndividual>> e : objectLinks.getOrDefault( i, Collections.emptyMap()).entrySet()){
+                ObjectLinks link = new ObjectLinks( e.getKey(), e.getValue());
+                ObjectLinks w = local.getEntity( e.getKey());
+                if ( link.equals( w))
+                    link.getValues().setSingleton( w.getValues().isSingleton());
+                queried.add( link);
+            }
+            intents.addAll( synchronise( d, local, queried));
+        }
+        if ( d instanceof IndividualExpression.DataLink) {
+            DataLinkSet local = ((IndividualExpression.DataLink<?>) d).getDataProperties();
+            DataLinkSet queried = new DataLinkSet();
+            for ( Map.Entry<OWLDataProperty,Set<OWLLiteral>> e : dataLinks.getOrDefault( i, Collections.emptyMap()).entrySet()){
+                DataLinks link = new DataLinks( e.getKey(), e.getValue());
+                DataLinks w = local.getEntity( e.getKey());
+                if ( link.equals( w))
+                    link.getValues().setSingleton( w.getValues().isSingleton());
+                queried.add( link);
+            }
+            intents.addAll( synchronise( d, local, queried));
+        }
+        return intents;
+    }
+
+    // the same of the readAxioms() methods in the it.emarolab.owloop.core.Individual interfaces
+    private <Y> List<Axiom.MappingIntent> synchronise(IndividualExpression d, Axiom.EntitySet<Y> local, Axiom.EntitySet<Y> queried){
+        try {
+            queried.setSingleton( local.isSingleton());
+            Axiom.EntitySet.SynchronisationIntent<Y> from = local.synchroniseFrom( queried);
+            local.addAll( from.getToAddView());
+            local.removeAll( from.getToRemoveView());
+            return d.getIntent( from);
+        } catch (Exception e){
+            e.printStackTrace();
+            return d.getIntent( null);
+        }
+    }
+
+    private void clear(){
+        types.clear();
+        equivalents.clear();
+        disjoints.clear();
+        objectLinks.clear();
+        dataLinks.clear();
+    }
+
+    private static <K,V> void add(Map<K,Set<V>> map, K key, V value){
+        map.computeIfAbsent( key, k -> new HashSet<>()).add( value);
+    }
+
+    private static void addNaryIndividuals(Map<OWLNamedIndividual,Set<OWLNamedIndividual>> map,
+                                           Set<OWLNamedIndividual> individuals, List<OWLIndividual> axiomIndividuals){
+        for ( OWLIndividual i : axiomIndividuals)
+            if ( individuals.contains( i))
+                for ( OWLIndividual j : axiomIndividuals)
+                    if ( ! i.equals( j) && j.isNamed())
+                        add( map, i.asOWLNamedIndividual(), j.asOWLNamedIndividual());
+    }
+}
@@ -69,16 +69,20 @@ public class LinkIndividualDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = IndividualExpression.ObjectLink.super.readAxioms();
-        r.addAll( IndividualExpression.DataLink.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = IndividualExpression.ObjectLink.super.readAxioms();
+            r.addAll( IndividualExpression.DataLink.super.readAxioms());
+            return r;
+        }, getObjectProperties(), getDataProperties());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ObjectLink.super.writeAxioms();
-        r.addAll( DataLink.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = ObjectLink.super.writeAxioms();
+            r.addAll( DataLink.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: Individual and IndividualExpression */
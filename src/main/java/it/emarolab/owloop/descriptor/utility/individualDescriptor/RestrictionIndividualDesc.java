@@ -69,16 +69,20 @@ public class RestrictionIndividualDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = IndividualExpression.Equivalent.super.readAxioms();
-        r.addAll( IndividualExpression.Disjoint.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = IndividualExpression.Equivalent.super.readAxioms();
+            r.addAll( IndividualExpression.Disjoint.super.readAxioms());
+            return r;
+        }, getEquivalentIndividuals(), getDisjointIndividuals());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = IndividualExpression.Equivalent.super.writeAxioms();
-        r.addAll( IndividualExpression.Disjoint.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = IndividualExpression.Equivalent.super.writeAxioms();
+            r.addAll( IndividualExpression.Disjoint.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: Individual and IndividualExpression */
@@ -68,12 +68,12 @@ public class TypeIndividualDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        return IndividualExpression.Type.super.readAxioms();
+        return readChangedAxioms( () -> IndividualExpression.Type.super.readAxioms(), getTypes());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        return IndividualExpression.Type.super.writeAxioms();
+        return writeLockedAxioms( () -> IndividualExpression.Type.super.writeAxioms());
     }
 
     /* Overriding methods in classes: Individual and IndividualExpression */
@@ -69,16 +69,20 @@ public class DomainRangeObjectPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Domain.super.readAxioms();
-        r.addAll( ObjectPropertyExpression.Range.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = ObjectPropertyExpression.Domain.super.readAxioms();
+            r.addAll( ObjectPropertyExpression.Range.super.readAxioms());
+            return r;
+        }, getDomainRestrictions(), getRangeRestrictions());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Domain.super.writeAxioms();
-        r.addAll( ObjectPropertyExpression.Range.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = ObjectPropertyExpression.Domain.super.writeAxioms();
+            r.addAll( ObjectPropertyExpression.Range.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: ObjectProperty and ObjectPropertyExpression */
@@ -4,6 +4,7 @@ package it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor;
 import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorPool;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.ObjectPropertyGround;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
@@ -82,29 +83,39 @@ public class FullObjectPropertyDesc
     /* Overriding methods in class: ObjectPropertyGround */
 
 
+    // To reuse this descriptor for another instance (e.g., through the DescriptorPool)
+    @Override
+    public void reset(OWLObjectProperty instance) {
+        super.reset( instance);
+        resetEntitySets( disjointObjectProperties, equivalentObjectProperties, inverseObjectProperties, subObjectProperties, superObjectProperties, domainRestrictions, rangeRestrictions);
+    }
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.readAxioms();
-        r.addAll( ObjectPropertyExpression.Equivalent.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Range.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Domain.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Sub.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Super.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Inverse.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.readAxioms();
+            r.addAll( ObjectPropertyExpression.Equivalent.super.readAxioms());
+            r.addAll( ObjectPropertyExpression.Range.super.readAxioms());
+            r.addAll( ObjectPropertyExpression.Domain.super.readAxioms());
+            r.addAll( ObjectPropertyExpression.Sub.super.readAxioms());
+            r.addAll( ObjectPropertyExpression.Super.super.readAxioms());
+            r.addAll( ObjectPropertyExpression.Inverse.super.readAxioms());
+            return r;
+        }, getDisjointObjectProperties(), getEquivalentObjectProperties(), getRangeRestrictions(), getDomainRestrictions(), getSubObjectProperties(), getSuperObjectProperties(), getInverseObjectProperties());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.writeAxioms();
-        r.addAll( ObjectPropertyExpression.Equivalent.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Range.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Domain.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Sub.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Super.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Inverse.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.writeAxioms();
+            r.addAll( ObjectPropertyExpression.Equivalent.super.writeAxioms());
+            r.addAll( ObjectPropertyExpression.Range.super.writeAxioms());
+            r.addAll( ObjectPropertyExpression.Domain.super.writeAxioms());
+            r.addAll( ObjectPropertyExpression.Sub.super.writeAxioms());
+            r.addAll( ObjectPropertyExpression.Super.super.writeAxioms());
+            r.addAll( ObjectPropertyExpression.Inverse.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: ObjectProperty and ObjectPropertyExpression */
@@ -125,7 +136,7 @@ public class FullObjectPropertyDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullObjectPropertyDesc getNewDisjointObjectProperty(OWLObjectProperty instance, OWLReferences ontology) {
-        return new FullObjectPropertyDesc( instance, ontology);
+        return DescriptorPool.acquire( FullObjectPropertyDesc.class, instance, ontology, FullObjectPropertyDesc::new);
     }
     // It returns disjointObjectProperties from the EntitySet (after being read from the ontology)
     @Override
@@ -136,7 +147,7 @@ public class FullObjectPropertyDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullObjectPropertyDesc getNewEquivalentObjectProperty(OWLObjectProperty instance, OWLReferences ontology) {
-        return new FullObjectPropertyDesc( instance, ontology);
+        return DescriptorPool.acquire( FullObjectPropertyDesc.class, instance, ontology, FullObjectPropertyDesc::new);
     }
     // It returns equivalentObjectProperties from the EntitySet (after being read from the ontology)
     @Override
@@ -147,7 +158,7 @@ public class FullObjectPropertyDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullObjectPropertyDesc getNewSubObjectProperty(OWLObjectProperty instance, OWLReferences ontology) {
-        return new FullObjectPropertyDesc( instance, ontology);
+        return DescriptorPool.acquire( FullObjectPropertyDesc.class, instance, ontology, FullObjectPropertyDesc::new);
     }
     // It returns subObjectProperties from the EntitySet (after being read from the ontology)
     @Override
@@ -158,7 +169,7 @@ public class FullObjectPropertyDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullObjectPropertyDesc getNewSuperObjectProperty(OWLObjectProperty instance, OWLReferences ontology) {
-        return new FullObjectPropertyDesc( instance, ontology);
+        return DescriptorPool.acquire( FullObjectPropertyDesc.class, instance, ontology, FullObjectPropertyDesc::new);
     }
     // It returns superObjectProperties from the EntitySet (after being read from the ontology)
     @Override
@@ -169,7 +180,7 @@ public class FullObjectPropertyDesc
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullObjectPropertyDesc getNewInverseObjectProperty(OWLObjectProperty instance, OWLReferences ontology) {
-        return new FullObjectPropertyDesc( instance, ontology);
+        return DescriptorPool.acquire( FullObjectPropertyDesc.class, instance, ontology, FullObjectPropertyDesc::new);
     }
     // It returns inverseObjectProperties from the EntitySet (after being read from the ontology)
     @Override
@@ -68,16 +68,20 @@ public class HierarchicalObjectPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Sub.super.readAxioms();
-        r.addAll( ObjectPropertyExpression.Super.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = ObjectPropertyExpression.Sub.super.readAxioms();
+            r.addAll( ObjectPropertyExpression.Super.super.readAxioms());
+            return r;
+        }, getSubObjectProperties(), getSuperObjectProperties());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Sub.super.writeAxioms();
-        r.addAll( ObjectPropertyExpression.Super.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = ObjectPropertyExpression.Sub.super.writeAxioms();
+            r.addAll( ObjectPropertyExpression.Super.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: ObjectProperty and ObjectPropertyExpression */
@@ -72,18 +72,22 @@ public class RestrictionObjectPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.readAxioms();
-        r.addAll( ObjectPropertyExpression.Equivalent.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Inverse.super.readAxioms());
-        return r;
+        return readChangedAxioms( () -> {
+            List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.readAxioms();
+            r.addAll( ObjectPropertyExpression.Equivalent.super.readAxioms());
+            r.addAll( ObjectPropertyExpression.Inverse.super.readAxioms());
+            return r;
+        }, getDisjointObjectProperties(), getEquivalentObjectProperties(), getInverseObjectProperties());
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.writeAxioms();
-        r.addAll( ObjectPropertyExpression.Equivalent.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Inverse.super.writeAxioms());
-        return r;
+        return writeLockedAxioms( () -> {
+            List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.writeAxioms();
+            r.addAll( ObjectPropertyExpression.Equivalent.super.writeAxioms());
+            r.addAll( ObjectPropertyExpression.Inverse.super.writeAxioms());
+            return r;
+        });
     }
 
     /* Overriding methods in classes: ObjectProperty and ObjectPropertyExpression */
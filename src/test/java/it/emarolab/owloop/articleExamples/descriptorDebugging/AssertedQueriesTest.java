@@ -0,0 +1,81 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.descriptor.construction.descriptorGround.AssertedQueries;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the readings of the asserted axioms only (see {@link it.emarolab.owloop.descriptor.construction.descriptorGround.AssertedQueries}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class AssertedQueriesTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void readAssertedOrder() {
+        ontoRef.synchronizeReasoner();
+        FullIndividualDesc reasoned_indivDesc = new FullIndividualDesc("order", ontoRef);
+        reasoned_indivDesc.readAxioms();
+        FullIndividualDesc asserted_indivDesc = new FullIndividualDesc("order", ontoRef);
+        asserted_indivDesc.setAssertedReading( true);
+        asserted_indivDesc.readAxioms();
+        assertTrue( reasoned_indivDesc.getTypes().containsAll( asserted_indivDesc.getTypes()));
+        assertFalse( asserted_indivDesc.getTypes().contains( ontoRef.getOWLClass("PaidOrder")));
+
+        // the reasoner is not synchronised with the new type, which is read anyway
+        FullIndividualDesc writer_indivDesc = new FullIndividualDesc("order", ontoRef);
+        writer_indivDesc.readAxioms();
+        writer_indivDesc.addTypeIndividual("PaidOrder");
+        writer_indivDesc.writeAxioms();
+
+        asserted_indivDesc.readAxioms();
+        assertTrue( asserted_indivDesc.getTypes().contains( ontoRef.getOWLClass("PaidOrder")));
+        assertTrue( ontoRef.getOWLReasoner().getPendingChanges().size() > 0);
+
+        // all the descriptors of the ontology, unless they override it
+        OntologyContext context = OntologyContext.get( ontoRef);
+        context.setAssertedReading( true);
+        try {
+            assertTrue( reasoned_indivDesc.isAssertedReading());
+            reasoned_indivDesc.readAxioms();
+            assertEquals( asserted_indivDesc.getTypes(), reasoned_indivDesc.getTypes());
+            asserted_indivDesc.setAssertedReading( false);
+            assertFalse( asserted_indivDesc.isAssertedReading());
+        } finally {
+            context.setAssertedReading( false);
+        }
+    }
+
+    @Test
+    public void readImportedAxioms() throws OWLOntologyCreationException {
+        // a type of a new individual is asserted only in an ontology imported by the drug ontology
+        OWLOntologyManager manager = ontoRef.getOWLManager();
+        IRI importedIRI = IRI.create( DRUG_IRI_PATH + "/imported");
+        OWLOntology imported = manager.createOntology( importedIRI);
+        manager.addAxiom( imported, ontoRef.getOWLFactory().getOWLClassAssertionAxiom(
+                ontoRef.getOWLClass("Drug"), ontoRef.getOWLIndividual("d99")));
+        manager.applyChange( new AddImport( ontoRef.getOWLOntology(), ontoRef.getOWLFactory().getOWLImportsDeclaration( importedIRI)));
+
+        assertTrue( AssertedQueries.getIndividualClasses( ontoRef.getOWLOntology(), ontoRef.getOWLIndividual("d99"))
+                .contains( ontoRef.getOWLClass("Drug")));
+        assertTrue( AssertedQueries.getIndividualB2Class( ontoRef.getOWLOntology(), ontoRef.getOWLClass("Drug"))
+                .contains( ontoRef.getOWLIndividual("d99")));
+        FullIndividualDesc asserted_indivDesc = new FullIndividualDesc("d99", ontoRef);
+        asserted_indivDesc.setAssertedReading( true);
+        asserted_indivDesc.readAxioms();
+        assertTrue( asserted_indivDesc.getTypes().contains( ontoRef.getOWLClass("Drug")));
+    }
+}
@@ -0,0 +1,82 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.Axiom.MappingIntent;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.WriteSession;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.LinkIndividualDesc;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the asynchronous operations of the descriptors (see {@link Axiom.Descriptor.Async}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class AsyncDescriptorTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void orderDrugsAsynchronously() {
+        ontoRef.synchronizeReasoner();
+        FullClassDesc drug_classDesc = new FullClassDesc("Drug", ontoRef);
+        drug_classDesc.readAxiomsAsync().join();
+        Set<LinkIndividualDesc> expected = drug_classDesc.buildIndividuals();
+        assertFalse( expected.isEmpty());
+        assertEquals( dataProperties( expected), dataProperties( drug_classDesc.buildIndividualsAsync().join()));
+
+        // fan out the readings without blocking the caller
+        List<CompletableFuture<List<MappingIntent>>> readings = new ArrayList<>();
+        Set<LinkIndividualDesc> drugs_indivDesc = new HashSet<>();
+        for ( LinkIndividualDesc d : expected) {
+            LinkIndividualDesc drug_indivDesc = new LinkIndividualDesc( d.getInstance(), ontoRef);
+            drugs_indivDesc.add( drug_indivDesc);
+            readings.add( drug_indivDesc.readAxiomsAsync());
+        }
+        CompletableFuture.allOf( readings.toArray( new CompletableFuture[ 0])).join();
+        assertEquals( dataProperties( expected), dataProperties( drugs_indivDesc));
+
+        // on a given executor
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Axiom.Descriptor.Async.setExecutor( executor);
+        try {
+            FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+            order_indivDesc.addTypeIndividual("Order");
+            List<MappingIntent> intents = order_indivDesc.writeAxiomsReasonReadAxiomsAsync().join();
+            assertFalse( WriteSession.getOntologyChanges( intents).isEmpty());
+            assertTrue( order_indivDesc.getTypes().contains( ontoRef.getOWLClass("Order")));
+        } finally {
+            Axiom.Descriptor.Async.setExecutor( null);
+            executor.shutdown();
+        }
+        assertEquals( Axiom.Descriptor.Async.getDefaultExecutor(), Axiom.Descriptor.Async.getExecutor());
+    }
+
+    private Map<OWLNamedIndividual,Object> dataProperties( Set<LinkIndividualDesc> descriptors){
+        Map<OWLNamedIndividual,Object> out = new HashMap<>();
+        for ( LinkIndividualDesc d : descriptors)
+            out.put( d.getInstance(), d.getDataProperties());
+        return out;
+    }
+}
@@ -0,0 +1,66 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.core.Axiom.MappingIntent;
+import it.emarolab.owloop.core.Individual;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.ChangeSubscriptions;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the notification of the ontology changes to the subscribed descriptors (see {@link ChangeSubscriptions}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class ChangeSubscriptionsTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void subscribeToOrder() {
+        ChangeSubscriptions subscriptions = OntologyContext.get( ontoRef).getSubscriptions();
+        List<MappingIntent> notified = new ArrayList<>();
+        FullIndividualDesc subscribed_indivDesc = new FullIndividualDesc("order", ontoRef);
+        subscribed_indivDesc.readAxioms();
+        ChangeSubscriptions.Subscription subscription = subscriptions.subscribe( subscribed_indivDesc,
+                ( descriptor, intents) -> notified.addAll( intents), Individual.Type.class);
+        assertEquals( 1, subscriptions.size());
+
+        // another descriptor changes the types of the order
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+        order_indivDesc.readAxioms();
+        order_indivDesc.addTypeIndividual("PaidOrder");
+        order_indivDesc.writeAxiomsReasonReadAxioms();
+        assertEquals( 0, subscriptions.getPending());
+        assertFalse( notified.isEmpty());
+        boolean added = false;
+        for ( MappingIntent i : notified)
+            added |= i.getIntent().getToAdd().contains( ontoRef.getOWLClass("PaidOrder"));
+        assertTrue( added);
+        assertEquals( order_indivDesc.getTypes(), subscribed_indivDesc.getTypes());
+
+        // the changes of other expressions are not notified
+        notified.clear();
+        order_indivDesc.addData("hasVersion", 1);
+        order_indivDesc.writeAxiomsReasonReadAxioms();
+        assertTrue( notified.isEmpty());
+
+        subscription.cancel();
+        assertEquals( 0, subscriptions.size());
+        order_indivDesc.removeTypeIndividual("Order");
+        order_indivDesc.writeAxiomsReasonReadAxioms();
+        assertTrue( notified.isEmpty());
+    }
+}
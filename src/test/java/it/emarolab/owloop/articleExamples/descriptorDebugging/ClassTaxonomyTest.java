@@ -0,0 +1,66 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.descriptor.construction.descriptorGround.ClassTaxonomy;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the class hierarchy queried through the ClassTaxonomy.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class ClassTaxonomyTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void readClassesFromTaxonomy() {
+        ontoRef.synchronizeReasoner();
+        OntologyContext context = OntologyContext.get( ontoRef);
+        String[] classNames = {"Drug", "Order", "PaidOrder", "Thing"};
+        boolean completeness = ontoRef.getOWLEnquirerCompletenessFlag();
+        try {
+            for ( boolean complete : new boolean[]{false, true}) {
+                ontoRef.setOWLEnquirerCompletenessFlag( complete);
+                for ( String name : classNames) {
+                    context.setClassTaxonomyIndexing( false);
+                    FullClassDesc expected = new FullClassDesc( name, ontoRef);
+                    expected.readAxioms();
+                    context.setClassTaxonomyIndexing( true);
+                    FullClassDesc indexed = new FullClassDesc( name, ontoRef);
+                    indexed.readAxioms();
+                    assertEquals( expected.getSubClasses(), indexed.getSubClasses());
+                    assertEquals( expected.getSuperClasses(), indexed.getSuperClasses());
+                    assertEquals( expected.getEquivalentClasses(), indexed.getEquivalentClasses());
+                    assertEquals( expected.getDisjointClasses(), indexed.getDisjointClasses());
+                }
+            }
+            ClassTaxonomy taxonomy = context.getClassTaxonomy( ontoRef);
+            assertTrue( taxonomy == context.getClassTaxonomy( ontoRef));
+
+            // the index is not used until the reasoner is synchronised with the new class
+            FullClassDesc urgent_classDesc = new FullClassDesc("UrgentOrder", ontoRef);
+            urgent_classDesc.addSuperClass("Order");
+            urgent_classDesc.writeAxioms();
+            assertTrue( context.getClassTaxonomy( ontoRef) == null);
+            ontoRef.synchronizeReasoner();
+            assertFalse( taxonomy == context.getClassTaxonomy( ontoRef));
+            FullClassDesc order_classDesc = new FullClassDesc("Order", ontoRef);
+            order_classDesc.readAxioms();
+            assertTrue( order_classDesc.getSubClasses().contains( ontoRef.getOWLClass("UrgentOrder")));
+        } finally {
+            context.setClassTaxonomyIndexing( false);
+            ontoRef.setOWLEnquirerCompletenessFlag( completeness);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.core.Axiom.Descriptor.Builder;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorPool;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor.FullObjectPropertyDesc;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the reuse of the descriptors through the DescriptorPool.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class DescriptorPoolTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void orderDrugsWithPool() {
+        DescriptorPool.setEnabled( true);
+        try {
+            FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+            order_indivDesc.readAxioms();
+            Set<FullObjectPropertyDesc> properties = order_indivDesc.buildObjectProperties();
+            for ( FullObjectPropertyDesc p : properties) {
+                p.readAxioms();
+                p.addSuperObjectProperty("unusedProperty"); // not written, it should be cleared by the pool
+            }
+            assertEquals( properties.size(), DescriptorPool.releaseAll( properties));
+            assertEquals( properties.size(), DescriptorPool.size());
+
+            // the released descriptors are reset, and they are read as new descriptors by the building
+            Set<FullObjectPropertyDesc> rebuilt = order_indivDesc.buildObjectProperties();
+            assertEquals( 0, DescriptorPool.size());
+            assertEquals( properties, rebuilt);
+            for ( FullObjectPropertyDesc p : rebuilt) {
+                assertTrue( properties.stream().anyMatch( released -> released == p));
+                assertFalse( p.getSuperObjectProperties().contains( ontoRef.getOWLObjectProperty("unusedProperty")));
+                FullObjectPropertyDesc expected = new FullObjectPropertyDesc( p.getInstance(), ontoRef);
+                expected.readAxioms();
+                assertEquals( expected.getSuperObjectProperties(), p.getSuperObjectProperties());
+                assertEquals( expected.getDomainRestrictions(), p.getDomainRestrictions());
+            }
+            DescriptorPool.releaseAll( rebuilt);
+        } finally {
+            DescriptorPool.clear();
+            DescriptorPool.setEnabled( false);
+        }
+    }
+
+    @Test
+    public void orderDrugsWithParallelPool() {
+        DescriptorPool.setEnabled( true);
+        Builder.setParallel( true);
+        try {
+            FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+            order_indivDesc.addTypeIndividual("Order");
+            order_indivDesc.addTypeIndividual("Drug");
+            order_indivDesc.writeAxioms();
+            order_indivDesc.readAxioms();
+            // the descriptors are read by other threads, but they are acquired by the caller thread
+            Set<FullClassDesc> types = order_indivDesc.buildTypes();
+            assertEquals( 2, types.size());
+            // released by another thread
+            assertEquals( 2, (int) CompletableFuture.supplyAsync( () -> DescriptorPool.releaseAll( types)).join());
+
+            Set<FullClassDesc> rebuilt = order_indivDesc.buildTypes();
+            assertEquals( 0, DescriptorPool.size());
+            assertEquals( 2, rebuilt.size()); // the released descriptors might describe another class now
+            for ( FullClassDesc c : rebuilt)
+                assertTrue( types.stream().anyMatch( released -> released == c));
+        } finally {
+            Builder.setParallel( false);
+            DescriptorPool.clear();
+            DescriptorPool.setEnabled( false);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom.Descriptor.OntologyReference;
+import org.junit.After;
+import org.junit.Before;
+
+/**
+ * The common fixture of the Unit Test scripts that use the drug ontology of the {@code drugOrderExample}.
+ * Before every @Test, a new copy of the ontology is loaded with the Pellet reasoner and the buffering of changes,
+ * and it is named after the test class (e.g., {@code writeSessionTest}). After every @Test, it is removed.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public abstract class DrugOntologyFixture {
+
+    public static final String DRUG_FILE_PATH = "src/test/resources/drug.owl";
+    public static final String DRUG_IRI_PATH = "http://www.semanticweb.org/yusha/ontologies/2019/drug";
+
+    protected OWLReferences ontoRef;
+
+    /**
+     * Loads a new copy of the drug ontology.
+     * @param ontologyName the name of the new ontology reference.
+     * @return the loaded ontology, which should be removed by the caller.
+     */
+    protected static OWLReferences loadDrugOntology(String ontologyName){
+        return OntologyReference.newOWLReferenceFromFileWithPellet( ontologyName, DRUG_FILE_PATH, DRUG_IRI_PATH, true);
+    }
+
+    /**
+     * @return the name of the ontology of each @Test, i.e., the name of the test class starting in lower case.
+     */
+    protected String getOntologyName(){
+        String name = getClass().getSimpleName();
+        return Character.toLowerCase( name.charAt( 0)) + name.substring( 1);
+    }
+
+    @Before // called before every @Test, and before the @Before methods of the test class
+    public void loadOntology() {
+        OntologyReference.activateAMORlogging( false);
+        ontoRef = loadDrugOntology( getOntologyName());
+    }
+
+    @After // called after every @Test, and after the @After methods of the test class
+    public void removeOntology() {
+        OntologyReference.removeInstance( ontoRef);
+    }
+}
@@ -0,0 +1,44 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.descriptor.construction.descriptorGround.EntityCache;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the resolution of the entity names through the EntityCache.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class EntityCacheTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void resolveNamesInCache() {
+        EntityCache cache = OntologyContext.get( ontoRef).getEntityCache();
+        cache.clear();
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef); // a miss
+        for ( int i = 0; i < 10; i++) {
+            order_indivDesc.addTypeIndividual("Order"); // a miss, and then hits
+            order_indivDesc.addObject("hasDrug", "d1"); // two misses, and then hits
+        }
+        assertEquals( 4, cache.getMisses());
+        assertEquals( 27, cache.getHits());
+        assertTrue( order_indivDesc.getTypes().contains( ontoRef.getOWLClass("Order")));
+        assertEquals( ontoRef.getOWLIndividual("order"), new FullIndividualDesc("order", ontoRef).getInstance());
+        assertEquals( 28, cache.getHits());
+
+        cache.setCapacity( 1); // the least recently used names are removed (i.e., "d1")
+        assertEquals( 3, cache.size()); // a name for each type of entity
+        cache.setCapacity( EntityCache.DEFAULT_CAPACITY);
+    }
+}
@@ -0,0 +1,111 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataLinkSet;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectLinkSet;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the writings based on the journal of the entity sets.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class EntityJournalTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void writeJournaledOrder() {
+        final int[] queries = {0};
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef) {
+            @Override
+            public Classes queryTypes() {
+                queries[0]++;
+                return super.queryTypes();
+            }
+        };
+        order_indivDesc.getTypes().setJournaling( true);
+        order_indivDesc.readAxioms();
+        assertEquals( 1, queries[0]);
+
+        // the changes made since the reading are written without querying the ontology
+        order_indivDesc.addTypeIndividual("PaidOrder");
+        order_indivDesc.writeAxioms();
+        order_indivDesc.addTypeIndividual("UrgentOrder"); // the ontology has been changed by this descriptor only
+        order_indivDesc.writeAxioms();
+        assertEquals( 1, queries[0]);
+        assertTrue( order_indivDesc.getTypes().getJournal().isEmpty());
+        FullIndividualDesc written = new FullIndividualDesc("order", ontoRef);
+        written.readAxioms();
+        assertEquals( order_indivDesc.getTypes(), written.getTypes());
+
+        // the ontology is queried if it has been changed by another descriptor
+        written.addTypeIndividual("OtherOrder");
+        written.writeAxioms();
+        order_indivDesc.removeTypeIndividual("PaidOrder");
+        order_indivDesc.writeAxioms();
+        assertEquals( 2, queries[0]);
+        written.readAxioms();
+        assertEquals( order_indivDesc.getTypes(), written.getTypes());
+        assertFalse( written.getTypes().contains( ontoRef.getOWLClass("OtherOrder")));
+    }
+
+    @Test
+    public void writeJournaledLinks() {
+        final int[] queries = {0, 0};
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef) {
+            @Override
+            public ObjectLinkSet queryObjectProperties() {
+                queries[0]++;
+                return super.queryObjectProperties();
+            }
+        };
+        FullIndividualDesc drug_indivDesc = new FullIndividualDesc("d1", ontoRef) {
+            @Override
+            public DataLinkSet queryDataProperties() {
+                queries[1]++;
+                return super.queryDataProperties();
+            }
+        };
+        order_indivDesc.getObjectProperties().setJournaling( true);
+        drug_indivDesc.getDataProperties().setJournaling( true);
+
+        // the values changed for each property are written without querying the ontology
+        order_indivDesc.readAxioms();
+        order_indivDesc.removeObject("hasDrug", "d3");
+        order_indivDesc.addObject("hasDrug", "d4");
+        assertEquals( 1, order_indivDesc.getObjectProperties().getJournal().getAdded().size());
+        order_indivDesc.writeAxioms();
+        assertEquals( 1, queries[0]);
+        drug_indivDesc.readAxioms(); // after that the ontology has been changed by another descriptor
+        drug_indivDesc.addData("hasPrice", 7, true); // it replaces the previous price
+        drug_indivDesc.writeAxioms();
+        assertEquals( 1, queries[1]);
+        ontoRef.synchronizeReasoner(); // the removed values are not inferred anymore
+        FullIndividualDesc order = new FullIndividualDesc("order", ontoRef);
+        order.readAxioms();
+        assertEquals( order_indivDesc.getObjectProperties(), order.getObjectProperties());
+        FullIndividualDesc drug = new FullIndividualDesc("d1", ontoRef);
+        drug.readAxioms();
+        assertEquals( 7, drug.getDataProperties().getEntity( ontoRef.getOWLDataProperty("hasPrice")).getInt());
+
+        // the values changed directly in the elements of the set are journaled as well
+        drug_indivDesc.getDataProperties().getEntity( ontoRef.getOWLDataProperty("hasPrice")).setInt( 9);
+        drug_indivDesc.writeAxioms();
+        assertEquals( 1, queries[1]);
+        ontoRef.synchronizeReasoner();
+        drug = new FullIndividualDesc("d1", ontoRef);
+        drug.readAxioms();
+        assertEquals( 9, drug.getDataProperties().getEntity( ontoRef.getOWLDataProperty("hasPrice")).getInt());
+    }
+}
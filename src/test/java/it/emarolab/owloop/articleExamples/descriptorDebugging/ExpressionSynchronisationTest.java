@@ -0,0 +1,231 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataLinkSet;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataLinks;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DescriptorEntitySet;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLLiteral;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * A Unit Test script for the synchronisation of {@link Axiom.ExpressionEntitySet}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class ExpressionSynchronisationTest {
+
+    private static final String IRI_PATH = "http://www.semanticweb.org/emaroLab/owloop/synchronisation#";
+    private static final OWLDataFactory FACTORY = OWLManager.getOWLDataFactory();
+
+    // a set of data links that does not merge on adding, to only measure the synchronisation
+    private static class LinkSet
+            extends DescriptorEntitySet.EntitySetBase<DataLinks>
+            implements Axiom.ExpressionEntitySet<DataLinks,OWLLiteral> {
+    }
+
+    private static OWLDataProperty property( int i){
+        return FACTORY.getOWLDataProperty( IRI.create( IRI_PATH + "p" + i));
+    }
+
+    private static DataLinks link( int i, int... values){
+        DataLinks link = new DataLinks( property( i));
+        for ( int v : values)
+            link.getValues().add( FACTORY.getOWLLiteral( v));
+        return link;
+    }
+
+    @Test
+    public void synchronisationTest() {
+        LinkSet internal = new LinkSet();
+        internal.add( link( 0, 1));    // unchanged
+        internal.add( link( 1, 1, 2)); // 1 unchanged, 2 to add
+        internal.add( link( 2, 3));    // to add
+        LinkSet queried = new LinkSet();
+        queried.add( link( 0, 1));
+        queried.add( link( 1, 1, 4));  // 4 to remove
+        queried.add( link( 3, 5));     // to remove
+
+        Axiom.EntitySet.SynchronisationIntent<DataLinks> to = internal.synchroniseTo( queried);
+        assertEquals( 2, to.getToAdd().size());
+        assertTrue( to.getToAdd().contains( link( 1, 2)));
+        assertTrue( to.getToAdd().contains( link( 2, 3)));
+        assertEquals( 2, to.getToRemove().size());
+        assertTrue( to.getToRemove().contains( link( 1, 4)));
+        assertTrue( to.getToRemove().contains( link( 3, 5)));
+        assertEquals( 2, to.getUnchanged().size());
+        assertTrue( to.getUnchanged().contains( link( 0, 1)));
+        assertTrue( to.getUnchanged().contains( link( 1, 1)));
+
+        // reading is the same synchronisation with swapped sets
+        Axiom.EntitySet.SynchronisationIntent<DataLinks> from = queried.synchroniseFrom( internal);
+        assertEquals( to, from);
+    }
+
+    @Test
+    public void singletonTest() {
+        LinkSet internal = new LinkSet();
+        internal.add( link( 0, 1));
+        internal.setSingleton( true);
+        LinkSet queried = new LinkSet();
+        queried.add( link( 0, 2));
+        queried.add( link( 1, 3));
+
+        // only one element of the internal singleton is synchronised, all the queried elements are considered
+        Axiom.EntitySet.SynchronisationIntent<DataLinks> to = internal.synchroniseTo( queried);
+        assertEquals( 1, to.getToAdd().size());
+        assertTrue( to.getToAdd().contains( link( 0, 1)));
+        assertEquals( 2, to.getToRemove().size());
+        assertTrue( to.getToRemove().contains( link( 0, 2)));
+        assertTrue( to.getToRemove().contains( link( 1, 3)));
+        assertTrue( to.getUnchanged().isEmpty());
+    }
+
+    @Test
+    public void lazyIntentTest() {
+        DescriptorEntitySet.EntitySetBase<Integer> internal = new DescriptorEntitySet.EntitySetBase<>( Arrays.asList( 1, 2, 3));
+        DescriptorEntitySet.EntitySetBase<Integer> queried = new DescriptorEntitySet.EntitySetBase<>( Arrays.asList( 2, 3, 4));
+        Axiom.EntitySet.SynchronisationIntent<Integer> from = internal.synchroniseFrom( queried);
+
+        // as during reading, the internal state changes after the synchronisation
+        internal.removeAll( from.getToRemove());
+        internal.addAll( from.getToAdd());
+        assertEquals( Collections.singleton( 4), from.getToAdd());
+        assertEquals( Collections.singleton( 1), from.getToRemove());
+        assertEquals( new HashSet<>( Arrays.asList( 2, 3)), from.getUnchanged());
+
+        assertSame( from, from.copy( false));
+        Axiom.EntitySet.SynchronisationIntent<Integer> copy = from.copy();
+        assertNotSame( from, copy);
+        assertEquals( from, copy);
+        copy.getToAdd().clear();
+        assertEquals( 1, from.getToAdd().size());
+
+        // the sets are copied from the views when required, and they can be changed
+        Axiom.EntitySet.SynchronisationIntent<Integer> to = new DescriptorEntitySet.EntitySetBase<>( Collections.singleton( 1)).synchroniseTo( queried);
+        assertEquals( new HashSet<>( Arrays.asList( 2, 3, 4)), to.getToRemoveView());
+        to.getToRemove().add( 5);
+        assertEquals( new HashSet<>( Arrays.asList( 2, 3, 4, 5)), to.getToRemoveView());
+        try {
+            to.getToAddView().clear();
+            fail( "the views should be read-only");
+        } catch ( UnsupportedOperationException ignored){}
+    }
+
+    @Test
+    public void indexedSetTest() {
+        DataLinkSet set = new DataLinkSet();
+        assertTrue( set.add( link( 0, 1)));
+        assertTrue( set.add( link( 0, 2))); // merged with the previous expression
+        assertEquals( 1, set.size());
+        assertEquals( link( 0, 1, 2), set.getEntity( property( 0)));
+        assertTrue( set.contains( link( 0, 1, 2)));
+        assertFalse( set.contains( link( 0, 1)));
+
+        DataLinks singleton = link( 0, 3);
+        singleton.getValues().setSingleton( true);
+        set.add( singleton); // previous values are replaced
+        assertEquals( FACTORY.getOWLLiteral( 3), set.getLink( property( 0)));
+        assertTrue( set.getLinks( property( 1)).isEmpty());
+
+        set.add( link( 1, 4));
+        assertFalse( set.remove( link( 1, 5)));
+        assertTrue( set.remove( property( 0)));
+        assertTrue( set.removeAll( Collections.singleton( link( 1, 4))));
+        assertTrue( set.isEmpty());
+    }
+
+    @Test
+    public void compactSetTest() {
+        int threshold = DescriptorEntitySet.CompactEntitySetBase.HASHING_THRESHOLD;
+        DescriptorEntitySet.CompactEntitySetBase<Integer> set = new DescriptorEntitySet.CompactEntitySetBase<>();
+        HashSet<Integer> expected = new HashSet<>();
+        for ( int i = 0; i < 2 * threshold; i++) { // it switches to hashing after the threshold
+            assertTrue( set.add( i));
+            assertFalse( set.add( i));
+            expected.add( i);
+            assertEquals( expected, set);
+            assertEquals( expected.hashCode(), set.hashCode());
+        }
+        set.removeIf( i -> i % 2 == 0);
+        expected.removeIf( i -> i % 2 == 0);
+        assertEquals( expected, set);
+        set.clear();
+
+        set.setSingleton( true);
+        set.addAll( Arrays.asList( 1, 2, 3));
+        assertTrue( set.isSingleton());
+        assertTrue( set.remove( 2));
+        assertFalse( set.contains( 2));
+        assertEquals( new HashSet<>( Arrays.asList( 1, 3)), set);
+
+        // the index of expressions is compact as well
+        DataLinkSet links = linkSet( 2 * threshold, 0).stream().collect( DataLinkSet::new, DataLinkSet::add, DataLinkSet::addAll);
+        for ( int i = 0; i < 2 * threshold; i++)
+            assertEquals( link( i, i), links.getEntity( property( i)));
+        assertTrue( links.remove( property( 0)));
+        assertEquals( 2 * threshold - 1, links.size());
+    }
+
+    @Test
+    public void scalingTest() {
+        for ( int size = 10; size <= 10000; size *= 10) {
+            // a quarter is shifted (to add and to remove), the rest is shared
+            LinkSet internal = linkSet( size, 0);
+            LinkSet queried = linkSet( size, size / 4);
+            CountedLink.expressions = 0;
+            Axiom.EntitySet.SynchronisationIntent<DataLinks> to = internal.synchroniseTo( queried);
+            assertEquals( 2 * ( size / 4), to.getToAdd().size() + to.getToRemove().size());
+            assertEquals( size - size / 4, to.getUnchanged().size());
+            // the expressions are indexed, not scanned for each element (i.e., at most twice each)
+            assertTrue( CountedLink.expressions <= 4 * size);
+        }
+    }
+
+    // a data link that counts how many times the expressions are required (e.g., to be compared)
+    private static class CountedLink
+            extends DataLinks {
+
+        private static int expressions = 0;
+
+        private CountedLink( OWLDataProperty property){
+            super( property);
+        }
+
+        @Override
+        public OWLDataProperty getExpression() {
+            expressions++;
+            return super.getExpression();
+        }
+    }
+
+    private LinkSet linkSet( int size, int shift){
+        LinkSet set = new LinkSet();
+        for ( int i = shift; i < size + shift; i++) {
+            CountedLink link = new CountedLink( property( i));
+            link.getValues().add( FACTORY.getOWLLiteral( i));
+            set.add( link);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,72 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.Axiom.Descriptor.GraphBuilder;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.LinkIndividualDesc;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the graphs of descriptors built by the Axiom.Descriptor.GraphBuilder.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class GraphBuilderTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void buildDrugGraph() {
+        FullClassDesc medicine_classDesc = new FullClassDesc("Medicine", ontoRef);
+        medicine_classDesc.addEquivalentClass("Drug");
+        medicine_classDesc.writeAxiomsReasonReadAxioms();
+        GraphBuilder.Relation<?>[] relations = {
+                GraphBuilder.relation( FullClassDesc.class, FullClassDesc::buildEquivalentClasses),
+                GraphBuilder.relation( FullClassDesc.class, FullClassDesc::buildIndividuals)
+        };
+
+        // the equivalent classes do not expand each other again
+        FullClassDesc drug_classDesc = new FullClassDesc("Drug", ontoRef);
+        GraphBuilder.Graph graph = drug_classDesc.buildGraph( 3, relations);
+        assertTrue( graph.getRoot() == drug_classDesc);
+        List<FullClassDesc> classes = graph.getDescriptors( FullClassDesc.class);
+        assertEquals( 2, classes.size());
+        FullClassDesc medicine = classes.get( 1);
+        assertEquals( ontoRef.getOWLClass("Medicine"), medicine.getInstance());
+        assertEquals( 1, graph.getDepth( medicine));
+        assertTrue( graph.getBuilt( medicine).contains( drug_classDesc));
+
+        // each drug is read once, and it is shared by both the classes
+        List<LinkIndividualDesc> drugs = graph.getDescriptors( LinkIndividualDesc.class);
+        assertEquals( drug_classDesc.getIndividuals().size(), drugs.size());
+        for ( LinkIndividualDesc d : drugs) {
+            assertTrue( graph.getBuilt( drug_classDesc).contains( d));
+            assertTrue( graph.getBuilt( medicine).contains( d));
+            assertEquals( 1, graph.getDepth( d));
+        }
+
+        // the levels are expanded concurrently
+        ForkJoinPool pool = new ForkJoinPool( 4);
+        try {
+            GraphBuilder builder = new GraphBuilder( 3, relations);
+            builder.setExecutor( pool);
+            GraphBuilder.Graph parallel = builder.build( new FullClassDesc("Drug", ontoRef));
+            assertEquals( graph.size(), parallel.size());
+            for ( Axiom.Descriptor<?,?> d : graph.getDescriptors())
+                assertTrue( parallel.contains( d));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.core.Axiom.MappingIntent;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the grounds shared by the descriptors and their intents.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class ImmutableGroundTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void shareImmutableGround() {
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+        List<MappingIntent> intents = order_indivDesc.readAxioms();
+        for ( MappingIntent i : intents)
+            assertTrue( i.getGround() == order_indivDesc.getGround()); // not copied
+
+        // the previous intents keep the previous ground
+        order_indivDesc.setGroundInstance("d1");
+        assertEquals( ontoRef.getOWLIndividual("d1"), order_indivDesc.getInstance());
+        for ( MappingIntent i : intents)
+            assertEquals( ontoRef.getOWLIndividual("order"), i.getGround().getGroundInstance());
+    }
+}
@@ -0,0 +1,95 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.Axiom.MappingIntent;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.WriteSession;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the incremental synchronisation of the reasoner (see {@link OntologyContext#setIncrementalReasoning(boolean)}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class IncrementalReasoningTest
+        extends DrugOntologyFixture {
+
+    @Before // called before every @Test, after loading the ontology
+    public void setUp() {
+        OntologyContext.get( ontoRef).setReadCaching( true);
+    }
+
+    @Test
+    public void orderDrugsIncrementally() {
+        OntologyContext context = OntologyContext.get( ontoRef);
+        context.setIncrementalReasoning( true);
+        ontoRef.synchronizeReasoner();
+
+        // without changes, the reasoner is not synchronised and the ontology is not queried
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+        order_indivDesc.readAxioms();
+        assertFalse( context.synchronizeReasoner( ontoRef, new ArrayList<>()));
+        List<MappingIntent> intents = order_indivDesc.writeAxiomsReasonReadAxioms();
+        assertTrue( skipped( intents.subList( 5, intents.size()))); // after the five writing intents
+
+        // only the drugs affected by the changes are read
+        WriteSession session = new WriteSession( ontoRef);
+        FullIndividualDesc d1 = new FullIndividualDesc("d1", ontoRef);
+        FullIndividualDesc d2 = new FullIndividualDesc("d2", ontoRef);
+        d1.readAxioms();
+        d2.readAxioms();
+        d1.addTypeIndividual("Order");
+        session.write( d1);
+        session.write( d2);
+        intents = session.commitReasonReadAxioms();
+        assertEquals( 1, WriteSession.getOntologyChanges( intents).size());
+        int read = 0;
+        for ( MappingIntent i : intents)
+            if ( i.wasReading())
+                read++;
+        assertEquals( 5, read); // the five expressions of d1
+        assertTrue( d1.getTypes().contains( ontoRef.getOWLClass("Order")));
+    }
+
+    @Test
+    public void synchroniseWithoutReplayingChanges() {
+        OntologyContext context = OntologyContext.get( ontoRef);
+        context.setIncrementalReasoning( true);
+        ontoRef.synchronizeReasoner();
+        OWLAxiom paid = ontoRef.getOWLFactory().getOWLClassAssertionAxiom(
+                ontoRef.getOWLClass("PaidOrder"), ontoRef.getOWLIndividual("order"));
+
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+        order_indivDesc.addTypeIndividual("PaidOrder");
+        List<OWLOntologyChange> changes = WriteSession.getOntologyChanges( order_indivDesc.writeAxioms());
+        assertTrue( context.synchronizeReasoner( ontoRef, changes));
+        assertTrue( ontoRef.getOWLOntology().containsAxiom( paid));
+
+        // another writer removes the axiom, and then the same changes are given again (e.g., coalesced later)
+        ontoRef.removeIndividualB2Class("order", "PaidOrder");
+        ontoRef.applyOWLManipulatorChanges();
+        assertTrue( context.synchronizeReasoner( ontoRef, changes));
+        assertFalse( ontoRef.getOWLOntology().containsAxiom( paid));
+    }
+
+    private boolean skipped( List<MappingIntent> intents){
+        return intents.size() == 1 && Axiom.EntitySet.SynchronisationIntent.unchanged().equals( intents.get( 0).getIntent());
+    }
+}
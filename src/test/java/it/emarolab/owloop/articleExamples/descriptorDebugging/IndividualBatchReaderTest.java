@@ -0,0 +1,56 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.IndividualBatchReader;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A Unit Test script for the reading of many individual descriptors with one query (see {@link IndividualBatchReader}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class IndividualBatchReaderTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void orderDrugsInBatch() {
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+        order_indivDesc.readAxioms();
+        Iterable<OWLNamedIndividual> drugs_indivSet = order_indivDesc.getIndividualsFromObjectProperty("hasDrug");
+
+        // with and without inferences
+        for ( boolean reasoned : new boolean[]{ true, false}) {
+            ontoRef.setOWLEnquirerIncludesInferences( reasoned);
+
+            // read all the drugs with one query, instead of one query for each drug
+            List<FullIndividualDesc> drugs_indivDesc = new ArrayList<>();
+            for ( OWLNamedIndividual drug_indiv : drugs_indivSet)
+                drugs_indivDesc.add( new FullIndividualDesc(drug_indiv, ontoRef));
+            new IndividualBatchReader( ontoRef).readAxioms( drugs_indivDesc);
+
+            for ( FullIndividualDesc drug_indivDesc : drugs_indivDesc) {
+                // the same of reading each drug
+                FullIndividualDesc expected = new FullIndividualDesc(drug_indivDesc.getInstance(), ontoRef);
+                expected.readAxioms();
+                assertEquals( expected.getTypes(), drug_indivDesc.getTypes());
+                assertEquals( expected.getEquivalentIndividuals(), drug_indivDesc.getEquivalentIndividuals());
+                assertEquals( expected.getDisjointIndividuals(), drug_indivDesc.getDisjointIndividuals());
+                assertEquals( expected.getObjectProperties(), drug_indivDesc.getObjectProperties());
+                assertEquals( expected.getDataProperties(), drug_indivDesc.getDataProperties());
+                assertEquals( expected.getLiteralFromDataProperty("hasPrice"), drug_indivDesc.getLiteralFromDataProperty("hasPrice"));
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom.MappingIntent;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.WriteSession;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * A Unit Test script for the measurements notified to the OntologyContext.MetricsListener.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class MetricsListenerTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void measureOrder() {
+        List<MappingIntent> notified = new ArrayList<>();
+        AtomicLong reasoning = new AtomicLong();
+        OntologyContext context = OntologyContext.get( ontoRef);
+        context.setMetricsListener( new OntologyContext.MetricsListener() {
+            @Override
+            public void onMappingIntent(OWLReferences ontology, MappingIntent intent) {
+                notified.add( intent);
+            }
+            @Override
+            public void onReasoning(OWLReferences ontology, int changes, long time) {
+                reasoning.addAndGet( time);
+            }
+        });
+        try {
+            FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+            List<MappingIntent> intents = order_indivDesc.readAxioms();
+            assertEquals( intents, notified);
+            int compared = 0;
+            for ( MappingIntent i : intents) {
+                assertTrue( i.getMetrics().getQueryTime() > 0);
+                compared += i.getMetrics().getComparedElements();
+            }
+            assertTrue( compared > 0);
+
+            order_indivDesc.addTypeIndividual("Order");
+            intents = order_indivDesc.writeAxiomsReasonReadAxioms();
+            long reasoned = 0;
+            int emitted = 0;
+            for ( MappingIntent i : intents) {
+                reasoned += i.getMetrics().getReasonTime();
+                if ( i.wasWriting())
+                    emitted += i.getMetrics().getEmittedChanges();
+            }
+            assertEquals( WriteSession.getOntologyChanges( intents).size(), emitted);
+            assertTrue( reasoned > 0);
+            assertTrue( reasoning.get() > 0);
+        } finally {
+            context.setMetricsListener( null);
+        }
+    }
+
+    @Test
+    public void discardFailedMeasurements() {
+        int expected = countComparedElements( new FullIndividualDesc("order", ontoRef).readAxioms());
+
+        // a reading that fails after having compared some elements
+        FullIndividualDesc failing_indivDesc = new FullIndividualDesc("order", ontoRef){
+            @Override
+            public List<MappingIntent> readAxioms() {
+                return readChangedAxioms( () -> {
+                    synchroniseFrom( getTypes(), this::getTypes);
+                    throw new IllegalStateException( "reading failure");
+                }, getTypes());
+            }
+        };
+        failing_indivDesc.addTypeIndividual("Order");
+        try {
+            failing_indivDesc.readAxioms();
+            fail( "the failure of the reading should be thrown");
+        } catch ( IllegalStateException ignored){}
+
+        // the next intents of the thread do not count the elements of the failed reading
+        assertEquals( expected, countComparedElements( new FullIndividualDesc("order", ontoRef).readAxioms()));
+    }
+    private static int countComparedElements(List<MappingIntent> intents){
+        int compared = 0;
+        for ( MappingIntent i : intents)
+            compared += i.getMetrics().getComparedElements();
+        return compared;
+    }
+}
@@ -0,0 +1,91 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the concurrent readings and the exclusive writings of an ontology (see {@link OntologyContext#getLock()}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyLockTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void readOrderConcurrently() throws Exception {
+        ontoRef.synchronizeReasoner();
+        OntologyContext context = OntologyContext.get( ontoRef);
+        int readers = 32, readings = 20;
+        AtomicInteger reading = new AtomicInteger(), maxReading = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger(), inconsistencies = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool( readers + 1);
+        CountDownLatch start = new CountDownLatch( 1);
+        List<Future<?>> futures = new ArrayList<>();
+        for ( int t = 0; t < readers; t++)
+            futures.add( executor.submit( () -> {
+                start.await();
+                for ( int i = 0; i < readings; i++) {
+                    FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef) {
+                        @Override
+                        public Classes queryTypes() {
+                            maxReading.accumulateAndGet( reading.incrementAndGet(), Math::max);
+                            try {
+                                if ( context.getLock().isWriteLocked()) // a writer is not excluded
+                                    overlaps.incrementAndGet();
+                                return super.queryTypes();
+                            } finally {
+                                reading.decrementAndGet();
+                            }
+                        }
+                    };
+                    order_indivDesc.readAxioms();
+                    // the two data properties are written together
+                    if ( order_indivDesc.getIntFromDataProperty("hasVersion") != order_indivDesc.getIntFromDataProperty("hasRevision"))
+                        inconsistencies.incrementAndGet();
+                }
+                return null;
+            }));
+        futures.add( executor.submit( () -> {
+            start.await();
+            FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+            order_indivDesc.readAxioms();
+            for ( int i = 1; i <= 10; i++) {
+                order_indivDesc.setData("hasVersion", i);
+                order_indivDesc.setData("hasRevision", i);
+                order_indivDesc.writeAxiomsReasonReadAxioms();
+            }
+            return null;
+        }));
+
+        start.countDown();
+        try {
+            for ( Future<?> f : futures)
+                f.get( 5, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals( 0, overlaps.get());
+        assertEquals( 0, inconsistencies.get());
+        assertTrue( maxReading.get() > 1); // the readers did not wait for each other
+    }
+}
@@ -0,0 +1,102 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom.Descriptor.OntologyReference;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologySnapshot;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the readings from a snapshot of the ontology (see {@link OntologySnapshot}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class OntologySnapshotTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void readOrderFromSnapshot() {
+        ontoRef.synchronizeReasoner();
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+        order_indivDesc.readAxioms();
+        assertFalse( order_indivDesc.getTypes().contains( ontoRef.getOWLClass("PaidOrder")));
+
+        OntologySnapshot snapshot = OntologySnapshot.take( ontoRef);
+        OWLReferences copy = snapshot.getOntology();
+        assertFalse( OntologyReference.isInstance( copy.getReferenceName())); // the copy is not shared with aMOR
+        try ( OntologySnapshot same = OntologySnapshot.take( ontoRef)) {
+            assertTrue( same.getOntology() == snapshot.getOntology());
+        }
+
+        // the ontology is written while the snapshot is used
+        FullIndividualDesc writer_indivDesc = new FullIndividualDesc("order", ontoRef);
+        writer_indivDesc.readAxioms();
+        writer_indivDesc.addTypeIndividual("PaidOrder");
+        writer_indivDesc.writeAxiomsReasonReadAxioms();
+
+        Object ground = order_indivDesc.getGround();
+        snapshot.read( order_indivDesc);
+        assertFalse( order_indivDesc.getTypes().contains( ontoRef.getOWLClass("PaidOrder")));
+        assertEquals( ontoRef, order_indivDesc.getOntologyReference());
+        assertSame( ground, order_indivDesc.getGround()); // the live ground is never replaced
+        order_indivDesc.readAxioms();
+        assertTrue( order_indivDesc.getTypes().contains( ontoRef.getOWLClass("PaidOrder")));
+
+        try ( OntologySnapshot newer = OntologySnapshot.take( ontoRef)) {
+            assertFalse( newer.getOntology() == snapshot.getOntology());
+            newer.read( order_indivDesc);
+            assertTrue( order_indivDesc.getTypes().contains( ontoRef.getOWLClass("PaidOrder")));
+        }
+        // the old copy is discarded when it is not used anymore
+        assertTrue( copy.getOWLManager().contains( copy.getOWLOntology()));
+        snapshot.close();
+        assertFalse( copy.getOWLManager().contains( copy.getOWLOntology()));
+    }
+
+    @Test
+    public void readOrderFromSnapshotWithImports() throws OWLOntologyCreationException {
+        // an imported ontology in the same manager, which classifies the order
+        OWLOntologyManager manager = ontoRef.getOWLManager();
+        OWLDataFactory factory = ontoRef.getOWLFactory();
+        OWLOntology imported = manager.createOntology( IRI.create( "http://www.semanticweb.org/emaroLab/owloop/importedDrug"));
+        manager.addAxiom( imported, factory.getOWLClassAssertionAxiom( ontoRef.getOWLClass("ImportedOrder"), ontoRef.getOWLIndividual("order")));
+        manager.applyChange( new AddImport( ontoRef.getOWLOntology(),
+                factory.getOWLImportsDeclaration( imported.getOntologyID().getOntologyIRI().get())));
+        ontoRef.synchronizeReasoner();
+
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+        order_indivDesc.readAxioms();
+        assertTrue( order_indivDesc.getTypes().contains( ontoRef.getOWLClass("ImportedOrder")));
+
+        FullIndividualDesc snapshot_indivDesc = new FullIndividualDesc("order", ontoRef);
+        try ( OntologySnapshot snapshot = OntologySnapshot.take( ontoRef)) {
+            assertEquals( ontoRef.getOWLEnquirerCompletenessFlag(), snapshot.getOntology().getOWLEnquirerCompletenessFlag());
+            snapshot.read( snapshot_indivDesc);
+            assertEquals( order_indivDesc.getTypes(), snapshot_indivDesc.getTypes());
+        }
+
+        // the snapshot is copied again when the completeness flag changes
+        Boolean complete = ontoRef.getOWLEnquirerCompletenessFlag();
+        try ( OntologySnapshot before = OntologySnapshot.take( ontoRef)) {
+            ontoRef.setOWLEnquirerCompletenessFlag( ! complete);
+            try ( OntologySnapshot after = OntologySnapshot.take( ontoRef)) {
+                assertFalse( before.getOntology() == after.getOntology());
+                assertEquals( ! complete, after.getOntology().getOWLEnquirerCompletenessFlag());
+            }
+        } finally {
+            ontoRef.setOWLEnquirerCompletenessFlag( complete);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.core.Axiom.Descriptor.Builder;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.LinkIndividualDesc;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A Unit Test script for the concurrent reading of the descriptors built by a descriptor (see {@link it.emarolab.owloop.core.Axiom.Descriptor.Builder}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class ParallelBuildTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void orderDrugsInParallel() {
+        ontoRef.synchronizeReasoner();
+        FullClassDesc drug_classDesc = new FullClassDesc("Drug", ontoRef);
+        drug_classDesc.readAxioms();
+        Set<LinkIndividualDesc> expected = drug_classDesc.buildIndividuals();
+
+        // read all the drugs concurrently
+        ForkJoinPool pool = new ForkJoinPool( 4);
+        Builder.setExecutor( pool);
+        try {
+            Set<LinkIndividualDesc> drugs_indivDesc = drug_classDesc.buildIndividuals();
+            assertEquals( expected.size(), drugs_indivDesc.size());
+            assertEquals( dataProperties( expected), dataProperties( drugs_indivDesc));
+        } finally {
+            Builder.setExecutor( null);
+            pool.shutdown();
+        }
+    }
+
+    private Map<OWLNamedIndividual,Object> dataProperties( Set<LinkIndividualDesc> descriptors){
+        Map<OWLNamedIndividual,Object> out = new HashMap<>();
+        for ( LinkIndividualDesc d : descriptors)
+            out.put( d.getInstance(), d.getDataProperties());
+        return out;
+    }
+}
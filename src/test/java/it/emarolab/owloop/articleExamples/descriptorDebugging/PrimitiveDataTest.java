@@ -0,0 +1,51 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the primitive values of the data properties.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class PrimitiveDataTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void orderDrugsWithPrimitives() {
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+        order_indivDesc.readAxioms();
+        int total_cost = 0;
+        for ( OWLNamedIndividual drug_indiv : order_indivDesc.getIndividualsFromObjectProperty("hasDrug")) {
+            FullIndividualDesc drug_indivDesc = new FullIndividualDesc(drug_indiv, ontoRef);
+            drug_indivDesc.readAxioms();
+            total_cost += drug_indivDesc.getIntFromDataProperty("hasPrice");
+        }
+
+        // the total is summed as a primitive, and it becomes a literal only when written
+        for ( int i = 0; i < 3; i++)
+            order_indivDesc.sumData("hasPrice", total_cost);
+        assertTrue( order_indivDesc.getDataProperties().getEntity( ontoRef.getOWLDataProperty("hasPrice")).hasPrimitiveValue());
+        assertEquals( 3 * total_cost, order_indivDesc.getIntFromDataProperty("hasPrice"));
+        order_indivDesc.writeAxioms();
+        assertEquals( ontoRef.getOWLLiteral( 3 * total_cost), order_indivDesc.getLiteralFromDataProperty("hasPrice"));
+
+        FullIndividualDesc written = new FullIndividualDesc("order", ontoRef);
+        written.readAxioms();
+        assertEquals( 3 * total_cost, written.getIntFromDataProperty("hasPrice"));
+        written.setData("hasPrice", 1.5); // replaced by a double literal
+        written.writeAxioms();
+        assertEquals( ontoRef.getOWLFactory().getOWLLiteral( 1.5), written.getLiteralFromDataProperty("hasPrice"));
+        assertEquals( 1, written.getLiteralsFromDataProperty("hasPrice").size());
+    }
+}
@@ -0,0 +1,106 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.Axiom.MappingIntent;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the readings skipped when the ontology did not change (see {@link it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext.Version}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class ReadCacheTest
+        extends DrugOntologyFixture {
+
+    @Before // called before every @Test, after loading the ontology
+    public void setUp() {
+        OntologyContext.get( ontoRef).setReadCaching( true);
+    }
+
+    @Test
+    public void readUnchangedOrder() {
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+        assertFalse( unchanged( order_indivDesc.readAxioms()));
+        // the ontology is not queried again
+        assertTrue( skipped( order_indivDesc.readAxioms()));
+        assertTrue( unchanged( order_indivDesc.readAxioms()));
+
+        // the local changes are discarded by reading
+        order_indivDesc.addTypeIndividual("Drug");
+        assertFalse( unchanged( order_indivDesc.readAxioms()));
+        assertFalse( order_indivDesc.getTypes().contains( ontoRef.getOWLClass("Drug")));
+        assertTrue( skipped( order_indivDesc.readAxioms()));
+
+        // the changes in the ontology, and in the reasoner, are read
+        order_indivDesc.addTypeIndividual("Drug");
+        order_indivDesc.writeAxioms();
+        FullIndividualDesc reader = new FullIndividualDesc("order", ontoRef);
+        reader.readAxioms();
+        assertTrue( skipped( reader.readAxioms()));
+        ontoRef.synchronizeReasoner();
+        assertFalse( skipped( reader.readAxioms()));
+        assertTrue( reader.getTypes().contains( ontoRef.getOWLClass("Drug")));
+    }
+
+    @Test
+    public void readWithoutCaching() {
+        OntologyContext.get( ontoRef).setReadCaching( false);
+        FullIndividualDesc order_indivDesc = new FullIndividualDesc("order", ontoRef);
+        order_indivDesc.readAxioms();
+        List<MappingIntent> intents = order_indivDesc.readAxioms();
+        assertFalse( skipped( intents));
+        assertTrue( unchanged( intents));
+    }
+
+    @Test
+    public void readAfterCompletenessToggle() {
+        FullIndividualDesc d1_indivDesc = new FullIndividualDesc("d1", ontoRef);
+        d1_indivDesc.readAxioms();
+        assertTrue( skipped( d1_indivDesc.readAxioms()));
+        // the queries give different results, even if the ontology did not change
+        ontoRef.setOWLEnquirerCompletenessFlag( ! ontoRef.getOWLEnquirerCompletenessFlag());
+        assertFalse( skipped( d1_indivDesc.readAxioms()));
+        assertTrue( skipped( d1_indivDesc.readAxioms()));
+    }
+
+    @Test
+    public void readAfterChangingValues() {
+        FullIndividualDesc d1_indivDesc = new FullIndividualDesc("d1", ontoRef);
+        d1_indivDesc.readAxioms();
+        // the values of an expression changed, but not the set of expressions
+        d1_indivDesc.getLiteralsFromDataProperty("hasPrice").clear();
+        assertFalse( skipped( d1_indivDesc.readAxioms()));
+        assertEquals( 2, d1_indivDesc.getLiteralFromDataProperty("hasPrice").parseInteger());
+        // a primitive value is also a change
+        d1_indivDesc.setData( ontoRef.getOWLDataProperty("hasPrice"), 7);
+        assertFalse( skipped( d1_indivDesc.readAxioms()));
+        assertTrue( d1_indivDesc.getLiteralsFromDataProperty("hasPrice").contains( ontoRef.getOWLLiteral( 2)));
+        assertTrue( skipped( d1_indivDesc.readAxioms()));
+    }
+
+    private boolean unchanged( List<MappingIntent> intents){
+        for ( MappingIntent i : intents)
+            if ( ! i.isUnchanged())
+                return false;
+        return true;
+    }
+
+    private boolean skipped( List<MappingIntent> intents){
+        return intents.size() == 1 && Axiom.EntitySet.SynchronisationIntent.unchanged().equals( intents.get( 0).getIntent());
+    }
+}
@@ -0,0 +1,92 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom.Descriptor.OntologyReference;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.ReasoningGroup;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * A Unit Test script for the parallel synchronisation of the reasoners of many ontologies (see {@link ReasoningGroup}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class ReasoningGroupTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void reasonOntologiesInParallel() {
+        OWLReferences otherRef = loadDrugOntology( "drugOntologyCopy");
+        try {
+            ReasoningGroup group = ReasoningGroup.of( getOntologyName(), "drugOntologyCopy", "missingOntology");
+            assertEquals( 2, group.getOntologies().size());
+
+            // write the same order in both the ontologies
+            List<FullIndividualDesc> orders = new ArrayList<>();
+            for ( OWLReferences o : group.getOntologies()) {
+                FullIndividualDesc order_indivDesc = new FullIndividualDesc("groupOrder", o);
+                order_indivDesc.addTypeIndividual("Order");
+                order_indivDesc.writeAxioms();
+                orders.add( order_indivDesc);
+            }
+
+            // read them when both the reasoners are synchronised
+            ReasoningGroup.Report report = group.synchronizeReasoners( () -> {
+                for ( FullIndividualDesc order_indivDesc : orders) {
+                    order_indivDesc.readAxioms();
+                    assertTrue( order_indivDesc.getTypes().contains( order_indivDesc.getOntologyReference().getOWLClass("Order")));
+                }
+            });
+            assertTrue( report.isSucceeded());
+            assertEquals( group.getOntologies(), new ArrayList<>( report.getDurations().keySet()));
+            for ( long d : report.getDurations().values())
+                assertTrue( d > 0);
+            assertFalse( OntologyContext.get( ontoRef).getLock().isWriteLocked());
+            assertEquals( 0, OntologyContext.get( otherRef).getLock().getReadLockCount());
+        } finally {
+            OntologyReference.removeInstance( otherRef);
+        }
+    }
+
+    @Test
+    public void failWhileHoldingReadLock() {
+        OWLReferences otherRef = loadDrugOntology( "drugOntologyCopy");
+        try {
+            // the groups lock the ontologies in the same order, whatever the order in which they are given
+            ReasoningGroup forward = new ReasoningGroup( Arrays.asList( ontoRef, otherRef));
+            ReasoningGroup backward = new ReasoningGroup( Arrays.asList( otherRef, ontoRef));
+            assertTrue( forward.synchronizeReasoners().isSucceeded());
+            assertTrue( backward.synchronizeReasoners().isSucceeded());
+
+            OntologyContext context = OntologyContext.get( otherRef);
+            context.getLock().readLock().lock();
+            try {
+                forward.synchronizeReasoners();
+                fail( "The group should not wait for the read lock held by the same thread.");
+            } catch ( IllegalStateException e) {
+                assertFalse( OntologyContext.get( ontoRef).getLock().isWriteLocked());
+            } finally {
+                context.getLock().readLock().unlock();
+            }
+            assertFalse( context.getLock().isWriteLocked());
+        } finally {
+            OntologyReference.removeInstance( otherRef);
+        }
+    }
+}
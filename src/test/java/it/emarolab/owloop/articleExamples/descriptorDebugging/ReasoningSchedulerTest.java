@@ -0,0 +1,135 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom.Descriptor.OntologyReference;
+import it.emarolab.owloop.core.Axiom.MappingIntent;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyContext;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.ReasoningScheduler;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.WriteSession;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A Unit Test script for the coalesced synchronisations of the reasoner (see {@link ReasoningScheduler}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class ReasoningSchedulerTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void orderDrugsWithScheduledReasoning() throws Exception {
+        AtomicInteger synchronisations = new AtomicInteger();
+        OntologyContext context = OntologyContext.get( ontoRef);
+        context.setMetricsListener( new OntologyContext.MetricsListener() {
+            @Override
+            public void onMappingIntent(OWLReferences ontology, MappingIntent intent) {
+            }
+            @Override
+            public void onReasoning(OWLReferences ontology, int changes, long time) {
+                synchronisations.incrementAndGet();
+            }
+        });
+        ReasoningScheduler scheduler = context.getReasoningScheduler();
+        scheduler.setWindow( 200);
+        int writers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool( writers);
+        try {
+            // the orders written in the same window are reasoned together
+            CountDownLatch start = new CountDownLatch( 1);
+            List<Future<FullIndividualDesc>> futures = new ArrayList<>();
+            for ( int i = 0; i < writers; i++) {
+                String name = "scheduledOrder" + i;
+                futures.add( executor.submit( () -> {
+                    FullIndividualDesc order_indivDesc = new FullIndividualDesc( name, ontoRef);
+                    order_indivDesc.addTypeIndividual("Order");
+                    start.await();
+                    order_indivDesc.writeAxiomsReasonReadAxioms();
+                    return order_indivDesc;
+                }));
+            }
+            start.countDown();
+            for ( Future<FullIndividualDesc> f : futures)
+                assertTrue( f.get( 30, TimeUnit.SECONDS).getTypes().contains( ontoRef.getOWLClass("Order")));
+            assertTrue( synchronisations.get() < writers);
+            assertEquals( 0, scheduler.getPendingChanges());
+
+            // wait for the reasoner before reading
+            FullIndividualDesc order_indivDesc = new FullIndividualDesc("scheduledOrder", ontoRef);
+            order_indivDesc.addTypeIndividual("Order");
+            List<MappingIntent> written = order_indivDesc.writeAxiomsScheduleReasoning().get( 30, TimeUnit.SECONDS);
+            assertFalse( WriteSession.getOntologyChanges( written).isEmpty());
+            order_indivDesc.readAxioms();
+            assertTrue( order_indivDesc.getTypes().contains( ontoRef.getOWLClass("Order")));
+            assertFalse( scheduler.nextSynchronisation().get());
+        } finally {
+            executor.shutdownNow();
+            scheduler.setWindow( 0);
+            context.setMetricsListener( null);
+        }
+    }
+
+    @Test
+    public void synchroniseOntologiesConcurrently() throws Exception {
+        // the synchronisation of the drug ontology is blocked until released
+        CountDownLatch blocking = new CountDownLatch( 1);
+        CountDownLatch release = new CountDownLatch( 1);
+        OntologyContext context = OntologyContext.get( ontoRef);
+        context.setMetricsListener( new OntologyContext.MetricsListener() {
+            @Override
+            public void onMappingIntent(OWLReferences ontology, MappingIntent intent) {
+            }
+            @Override
+            public void onReasoning(OWLReferences ontology, int changes, long time) {
+                blocking.countDown();
+                try {
+                    release.await( 30, TimeUnit.SECONDS);
+                } catch ( InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        OWLReferences other = loadDrugOntology( getOntologyName() + "Other");
+        ReasoningScheduler scheduler = context.getReasoningScheduler();
+        ReasoningScheduler otherScheduler = OntologyContext.get( other).getReasoningScheduler();
+        scheduler.setWindow( 50);
+        otherScheduler.setWindow( 50);
+        try {
+            CompletableFuture<Boolean> blocked = scheduler.request( ontoRef, Collections.emptyList());
+            assertTrue( blocking.await( 30, TimeUnit.SECONDS));
+
+            // the window of the other ontology ends, and its reasoner is synchronised meanwhile
+            assertTrue( otherScheduler.request( other, Collections.emptyList()).get( 30, TimeUnit.SECONDS));
+            assertFalse( blocked.isDone());
+            release.countDown();
+            assertTrue( blocked.get( 30, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            scheduler.setWindow( 0);
+            otherScheduler.setWindow( 0);
+            context.setMetricsListener( null);
+            OntologyReference.removeInstance( other);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package it.emarolab.owloop.articleExamples.descriptorDebugging;
+
+import it.emarolab.owloop.core.Axiom.MappingIntent;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.WriteSession;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * A Unit Test script for the writing of many descriptors with one batch of changes (see {@link WriteSession}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        18/10/26 <br>
+ * </small></div>
+ */
+public class WriteSessionTest
+        extends DrugOntologyFixture {
+
+    @Test
+    public void orderDrugsInSession() {
+        // count how many times the changes are applied to the ontology
+        final int[] applications = {0};
+        OWLOntologyChangeListener counter = changes -> {
+            if ( ! changes.isEmpty())
+                applications[0]++;
+        };
+        ontoRef.getOWLManager().addOntologyChangeListener( counter);
+
+        // the changes of all the new drugs are applied at once
+        WriteSession session = new WriteSession( ontoRef);
+        List<FullIndividualDesc> drugs_indivDesc = new ArrayList<>();
+        for ( int i = 10; i < 20; i++) {
+            FullIndividualDesc drug_indivDesc = new FullIndividualDesc("d" + i, ontoRef);
+            drug_indivDesc.addTypeIndividual("Drug");
+            drug_indivDesc.addData("hasPrice", i, true);
+            session.write( drug_indivDesc);
+            session.write( drug_indivDesc); // written once
+            drugs_indivDesc.add( drug_indivDesc);
+        }
+        assertEquals( 10, session.size());
+        List<MappingIntent> intents = session.commit();
+        ontoRef.getOWLManager().removeOntologyChangeListener( counter);
+        assertEquals( 1, applications[0]);
+        assertEquals( 20, WriteSession.getOntologyChanges( intents).size());
+        assertEquals( 0, session.size());
+
+        for ( FullIndividualDesc drug_indivDesc : drugs_indivDesc) {
+            FullIndividualDesc written = new FullIndividualDesc(drug_indivDesc.getInstance(), ontoRef);
+            written.readAxioms();
+            assertTrue( written.getTypes().contains( ontoRef.getOWLClass("Drug")));
+            assertEquals( drug_indivDesc.getLiteralFromDataProperty("hasPrice"), written.getLiteralFromDataProperty("hasPrice"));
+        }
+    }
+
+    @Test
+    public void cancelContradictoryChanges() {
+        final int[] applied = {0};
+        OWLOntologyChangeListener counter = changes -> applied[0] += changes.size();
+        ontoRef.getOWLManager().addOntologyChangeListener( counter);
+
+        // the same axiom is added and removed by two descriptors, while another axiom is only added
+        WriteSession session = new WriteSession( ontoRef);
+        session.write( typeWriter( "d1", "Order", true));
+        session.write( typeWriter( "d1", "Order", false));
+        session.write( typeWriter( "d2", "Order", true));
+        List<MappingIntent> intents = session.commit( false);
+        ontoRef.getOWLManager().removeOntologyChangeListener( counter);
+        assertEquals( 3, WriteSession.getOntologyChanges( intents).size());
+        assertEquals( 1, applied[0]);
+        assertFalse( ontoRef.getOWLOntology().containsAxiom( classAssertion( "d1")));
+        assertTrue( ontoRef.getOWLOntology().containsAxiom( classAssertion( "d2")));
+    }
+
+    @Test
+    public void discardFailedSession() {
+        WriteSession session = new WriteSession( ontoRef);
+        session.write( typeWriter( "d1", "Order", true));
+        session.write( new FullIndividualDesc("d2", ontoRef){
+            @Override
+            public List<MappingIntent> writeAxioms() {
+                throw new IllegalStateException( "writing failure");
+            }
+        });
+        try {
+            session.commit();
+            fail( "the failure of a descriptor should be thrown");
+        } catch ( IllegalStateException ignored){}
+        assertEquals( 0, session.size());
+        // the changes of the descriptors written before the failure are not applied, nor buffered
+        ontoRef.applyOWLManipulatorChanges();
+        assertFalse( ontoRef.getOWLOntology().containsAxiom( classAssertion( "d1")));
+    }
+
+    // a descriptor that adds (or removes) a type of an individual without querying the ontology
+    private FullIndividualDesc typeWriter( String individual, String type, boolean adding){
+        return new FullIndividualDesc( individual, ontoRef){
+            @Override
+            public List<MappingIntent> writeAxioms() {
+                if ( adding)
+                    return getChangingIntent( null, Collections.singletonList( ontoRef.addIndividualB2Class( individual, type)));
+                return getChangingIntent( null, Collections.singletonList( ontoRef.removeIndividualB2Class( individual, type)));
+            }
+        };
+    }
+
+    private OWLAxiom classAssertion( String individual){
+        return ontoRef.getOWLFactory().getOWLClassAssertionAxiom( ontoRef.getOWLClass("Order"), ontoRef.getOWLIndividual( individual));
+    }
+}